@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.api.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.recorder.MethodTimeRecorder;
+import org.apache.shardingsphere.agent.plugin.core.util.AgentReflectionUtils;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Execution group latency advice.
+ */
+public final class ExecutionGroupLatencyAdvice implements InstanceMethodAdvice {
+    
+    private static final String STORAGE_UNIT_NAME_FIELD = "storageUnitName";
+    
+    private static final String CREATE_TIME_MILLIS_FIELD = "createTimeMillis";
+    
+    private final MetricConfiguration queueTimeConfig = new MetricConfiguration("execution_group_queue_time_millis", MetricCollectorType.HISTOGRAM,
+            "Time millis of execution groups waiting for executor thread and storage unit permit", Collections.singletonList("storage_unit"), Collections.singletonMap("buckets", getBuckets()));
+    
+    private final MetricConfiguration executeTimeConfig = new MetricConfiguration("execution_group_execute_time_millis", MetricCollectorType.HISTOGRAM,
+            "Time millis of execution groups executing on storage unit", Collections.singletonList("storage_unit"), Collections.singletonMap("buckets", getBuckets()));
+    
+    private final MethodTimeRecorder methodTimeRecorder = new MethodTimeRecorder(ExecutionGroupLatencyAdvice.class);
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 1);
+        result.put("factor", 2);
+        result.put("count", 13);
+        return result;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final String pluginType) {
+        long createTimeMillis = AgentReflectionUtils.getFieldValue(target, CREATE_TIME_MILLIS_FIELD);
+        String storageUnitName = AgentReflectionUtils.getFieldValue(target, STORAGE_UNIT_NAME_FIELD);
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(queueTimeConfig, pluginType).observe(System.currentTimeMillis() - createTimeMillis, storageUnitName);
+        methodTimeRecorder.recordNow(method);
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
+        String storageUnitName = AgentReflectionUtils.getFieldValue(target, STORAGE_UNIT_NAME_FIELD);
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(executeTimeConfig, pluginType).observe(methodTimeRecorder.getElapsedTimeAndClean(method), storageUnitName);
+    }
+}
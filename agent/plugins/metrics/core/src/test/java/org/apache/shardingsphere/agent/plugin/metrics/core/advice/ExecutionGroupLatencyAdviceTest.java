@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.ExecutionGroupTaskFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+
+class ExecutionGroupLatencyAdviceTest {
+    
+    private final MetricConfiguration queueTimeConfig = new MetricConfiguration("execution_group_queue_time_millis",
+            MetricCollectorType.HISTOGRAM, null, Collections.singletonList("storage_unit"), Collections.emptyMap());
+    
+    private final MetricConfiguration executeTimeConfig = new MetricConfiguration("execution_group_execute_time_millis",
+            MetricCollectorType.HISTOGRAM, null, Collections.singletonList("storage_unit"), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(queueTimeConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(executeTimeConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertObserveQueueTimeAndExecuteTime() {
+        ExecutionGroupLatencyAdvice advice = new ExecutionGroupLatencyAdvice();
+        ExecutionGroupTaskFixture targetObject = new ExecutionGroupTaskFixture("foo_ds", System.currentTimeMillis() - 100L);
+        Method method = mock(Method.class);
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.afterMethod(targetObject, method, new Object[]{}, null, "FIXTURE");
+        assertThat(getObservedValue(queueTimeConfig), greaterThanOrEqualTo(100D));
+        assertThat(getObservedValue(executeTimeConfig), greaterThanOrEqualTo(50D));
+    }
+    
+    private double getObservedValue(final MetricConfiguration config) {
+        return Double.parseDouble(MetricsCollectorRegistry.get(config, "FIXTURE").toString().replace("foo_ds=", ""));
+    }
+}
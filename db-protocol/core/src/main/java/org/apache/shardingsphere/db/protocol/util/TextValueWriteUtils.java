@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.util;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Text value write utility class.
+ *
+ * <p>Values are written as ASCII bytes into byte buf directly without creating intermediate strings.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TextValueWriteUtils {
+    
+    /**
+     * Length of date time text in format of {@code yyyy-MM-dd HH:mm:ss}.
+     */
+    public static final int DATE_TIME_LENGTH = 19;
+    
+    /**
+     * Get length of integral value text.
+     *
+     * @param value integral value
+     * @return length of integral value text
+     */
+    public static int getIntegralLength(final long value) {
+        int result = value < 0L ? 2 : 1;
+        // calculate with negative value to avoid overflow of Long.MIN_VALUE
+        long negativeValue = value < 0L ? value : -value;
+        long threshold = -10L;
+        for (int i = 1; i < 19; i++) {
+            if (negativeValue > threshold) {
+                return result;
+            }
+            threshold *= 10L;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write integral value text.
+     *
+     * @param byteBuf byte buf
+     * @param value integral value
+     * @param length length of integral value text, must be calculated by {@link #getIntegralLength(long)}
+     */
+    public static void writeIntegral(final ByteBuf byteBuf, final long value, final int length) {
+        byteBuf.ensureWritable(length);
+        int startIndex = byteBuf.writerIndex();
+        long negativeValue = value < 0L ? value : -value;
+        for (int index = startIndex + length - 1; index >= startIndex; index--) {
+            if (0L == negativeValue && index == startIndex && value < 0L) {
+                byteBuf.setByte(index, '-');
+                break;
+            }
+            byteBuf.setByte(index, (int) ('0' - negativeValue % 10L));
+            negativeValue /= 10L;
+        }
+        byteBuf.writerIndex(startIndex + length);
+    }
+    
+    /**
+     * Judge whether date time can be written in format of {@code yyyy-MM-dd HH:mm:ss}.
+     *
+     * @param dateTime date time
+     * @return can be written or not
+     */
+    public static boolean isDateTimeWritable(final LocalDateTime dateTime) {
+        return dateTime.getYear() >= 0 && dateTime.getYear() <= 9999;
+    }
+    
+    /**
+     * Write date time text in format of {@code yyyy-MM-dd HH:mm:ss}.
+     *
+     * @param byteBuf byte buf
+     * @param dateTime date time, must be judged by {@link #isDateTimeWritable(LocalDateTime)}
+     */
+    public static void writeDateTime(final ByteBuf byteBuf, final LocalDateTime dateTime) {
+        byteBuf.ensureWritable(DATE_TIME_LENGTH);
+        writeFixedDigits(byteBuf, dateTime.getYear(), 4);
+        byteBuf.writeByte('-');
+        writeFixedDigits(byteBuf, dateTime.getMonthValue(), 2);
+        byteBuf.writeByte('-');
+        writeFixedDigits(byteBuf, dateTime.getDayOfMonth(), 2);
+        byteBuf.writeByte(' ');
+        writeFixedDigits(byteBuf, dateTime.getHour(), 2);
+        byteBuf.writeByte(':');
+        writeFixedDigits(byteBuf, dateTime.getMinute(), 2);
+        byteBuf.writeByte(':');
+        writeFixedDigits(byteBuf, dateTime.getSecond(), 2);
+    }
+    
+    private static void writeFixedDigits(final ByteBuf byteBuf, final int value, final int length) {
+        int divisor = 1;
+        for (int i = 1; i < length; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            byteBuf.writeByte('0' + value / divisor % 10);
+        }
+    }
+}
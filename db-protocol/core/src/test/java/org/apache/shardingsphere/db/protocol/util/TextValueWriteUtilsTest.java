@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextValueWriteUtilsTest {
+    
+    @Test
+    void assertWriteIntegral() {
+        for (long each : new long[]{0L, 9L, -9L, 10L, -10L, 99L, 100L, 123456789L, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertThat(writeIntegral(each), is(String.valueOf(each)));
+        }
+    }
+    
+    private String writeIntegral(final long value) {
+        ByteBuf byteBuf = Unpooled.buffer(1);
+        int length = TextValueWriteUtils.getIntegralLength(value);
+        TextValueWriteUtils.writeIntegral(byteBuf, value, length);
+        assertThat(byteBuf.readableBytes(), is(length));
+        return byteBuf.toString(StandardCharsets.US_ASCII);
+    }
+    
+    @Test
+    void assertWriteDateTime() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        TextValueWriteUtils.writeDateTime(byteBuf, LocalDateTime.of(987, 1, 2, 3, 4, 5, 6));
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("0987-01-02 03:04:05"));
+    }
+    
+    @Test
+    void assertIsDateTimeWritable() {
+        assertTrue(TextValueWriteUtils.isDateTimeWritable(LocalDateTime.of(2023, 1, 1, 0, 0)));
+        assertFalse(TextValueWriteUtils.isDateTimeWritable(LocalDateTime.of(10000, 1, 1, 0, 0)));
+    }
+}
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.util.TextValueWriteUtils;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
@@ -40,6 +41,10 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE = {1};
+    
+    private static final byte[] FALSE = {0};
+    
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     private final Collection<Object> data;
@@ -65,16 +70,33 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
         if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
+        } else if (data instanceof Integer || data instanceof Long || data instanceof Short || data instanceof Byte) {
+            writeIntegral(payload, ((Number) data).longValue());
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
-            payload.writeStringLenenc(data.toString().split("\\.")[0]);
+            writeDateTime(payload, ((Timestamp) data).toLocalDateTime());
         } else if (data instanceof BigDecimal) {
             payload.writeStringLenenc(((BigDecimal) data).toPlainString());
         } else if (data instanceof Boolean) {
-            payload.writeBytesLenenc((boolean) data ? new byte[]{1} : new byte[]{0});
+            payload.writeBytesLenenc((boolean) data ? TRUE : FALSE);
         } else if (data instanceof LocalDateTime) {
-            payload.writeStringLenenc(DATE_TIME_FORMATTER.format((LocalDateTime) data));
+            writeDateTime(payload, (LocalDateTime) data);
         } else {
             payload.writeStringLenenc(data.toString());
         }
     }
+    
+    private void writeIntegral(final MySQLPacketPayload payload, final long value) {
+        int length = TextValueWriteUtils.getIntegralLength(value);
+        payload.writeInt1(length);
+        TextValueWriteUtils.writeIntegral(payload.getByteBuf(), value, length);
+    }
+    
+    private void writeDateTime(final MySQLPacketPayload payload, final LocalDateTime dateTime) {
+        if (!TextValueWriteUtils.isDateTimeWritable(dateTime)) {
+            payload.writeStringLenenc(DATE_TIME_FORMATTER.format(dateTime));
+            return;
+        }
+        payload.writeInt1(TextValueWriteUtils.DATE_TIME_LENGTH);
+        TextValueWriteUtils.writeDateTime(payload.getByteBuf(), dateTime);
+    }
 }
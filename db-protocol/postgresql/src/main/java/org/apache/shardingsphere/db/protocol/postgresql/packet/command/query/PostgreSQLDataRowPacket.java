@@ -26,6 +26,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.util.TextValueWriteUtils;
 
 import java.sql.SQLException;
 import java.sql.SQLXML;
@@ -69,6 +70,8 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         } else if (each instanceof byte[]) {
             payload.writeInt4(((byte[]) each).length);
             payload.writeBytes((byte[]) each);
+        } else if (each instanceof Integer || each instanceof Long || each instanceof Short) {
+            writeIntegralData(payload, ((Number) each).longValue());
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
         } else {
@@ -78,6 +81,12 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
         }
     }
     
+    private void writeIntegralData(final PostgreSQLPacketPayload payload, final long value) {
+        int length = TextValueWriteUtils.getIntegralLength(value);
+        payload.writeInt4(length);
+        TextValueWriteUtils.writeIntegral(payload.getByteBuf(), value, length);
+    }
+    
     private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
         try {
             byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -32,6 +33,7 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -92,6 +94,17 @@ class PostgreSQLDataRowPacketTest {
         verify(payload).writeBytes(valueBytes);
     }
     
+    @Test
+    void assertWriteWithIntegral() {
+        PostgreSQLPacketPayload actualPayload = new PostgreSQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new PostgreSQLDataRowPacket(Arrays.asList(-123, Long.MAX_VALUE)).write(actualPayload);
+        assertThat(actualPayload.readInt2(), is(2));
+        assertThat(actualPayload.readInt4(), is(4));
+        assertThat(actualPayload.getByteBuf().readCharSequence(4, StandardCharsets.UTF_8).toString(), is("-123"));
+        assertThat(actualPayload.readInt4(), is(19));
+        assertThat(actualPayload.getByteBuf().readCharSequence(19, StandardCharsets.UTF_8).toString(), is(String.valueOf(Long.MAX_VALUE)));
+    }
+    
     @Test
     void assertWriteWithSQLXML4Error() throws SQLException {
         when(sqlxml.getString()).thenThrow(new SQLException("mock"));
@@ -66,6 +66,8 @@ public final class ShardingRuleConfiguration implements DatabaseRuleConfiguratio
     
     private ShardingCacheConfiguration shardingCache;
     
+    private boolean colocatedTableJoinEnabled;
+    
     @Override
     public boolean isEmpty() {
         return tables.isEmpty() && autoTables.isEmpty() && null == defaultDatabaseShardingStrategy && null == defaultTableShardingStrategy;
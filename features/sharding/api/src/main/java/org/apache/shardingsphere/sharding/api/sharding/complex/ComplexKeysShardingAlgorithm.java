@@ -24,6 +24,8 @@ import java.util.Collection;
 /**
  * Complex keys sharding algorithm.
  * 
+ * <p>All values of every sharding column are passed to {@link #doSharding(Collection, ComplexKeysShardingValue)} at once, so no separate bulk sharding method is needed.</p>
+ * 
  * @param <T> class type of sharding value
  */
 public interface ComplexKeysShardingAlgorithm<T extends Comparable<?>> extends ShardingAlgorithm {
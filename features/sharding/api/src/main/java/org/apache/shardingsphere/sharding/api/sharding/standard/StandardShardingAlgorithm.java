@@ -19,7 +19,10 @@ package org.apache.shardingsphere.sharding.api.sharding.standard;
 
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 /**
  * Standard sharding algorithm.
@@ -45,4 +48,43 @@ public interface StandardShardingAlgorithm<T extends Comparable<?>> extends Shar
      * @return sharding results for data sources or table names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, RangeShardingValue<T> shardingValue);
+    
+    /**
+     * Sharding for all values of list at once.
+     * 
+     * <p>Default implementation shards every value one by one, algorithms can override it to share calculation between values.</p>
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param shardingValue sharding value
+     * @return sharding results for data sources or table names
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default Collection<String> doBulkSharding(final Collection<String> availableTargetNames, final ListShardingValue<T> shardingValue) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (Object each : shardingValue.getValues()) {
+            String target = doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getDataNodeInfo(), each));
+            if (null != target) {
+                result.add(target);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Sharding for every value of list at once.
+     *
+     * <p>Default implementation shards every value one by one, algorithms can override it to share calculation between values.</p>
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param shardingValue sharding value
+     * @return sharding result for data source or table name of every value in order of values
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default List<String> doBulkShardingPerValue(final Collection<String> availableTargetNames, final ListShardingValue<T> shardingValue) {
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Object each : shardingValue.getValues()) {
+            result.add(doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getDataNodeInfo(), each)));
+        }
+        return result;
+    }
 }
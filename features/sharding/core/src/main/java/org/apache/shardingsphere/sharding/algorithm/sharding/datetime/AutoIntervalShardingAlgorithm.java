@@ -22,6 +22,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -35,6 +36,7 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Properties;
@@ -106,6 +108,20 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
     }
     
+    @Override
+    public Collection<String> doBulkSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        BitSet partitions = new BitSet(autoTablesAmount);
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            partitions.set(doSharding(parseDate(each)));
+        }
+        Collection<String> result = new LinkedHashSet<>(partitions.cardinality(), 1F);
+        for (int i = partitions.nextSetBit(0); i >= 0; i = partitions.nextSetBit(i + 1)) {
+            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, String.valueOf(i), shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        }
+        return result;
+    }
+    
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
         return valueRange.hasLowerBound() ? doSharding(parseDate(valueRange.lowerEndpoint())) : 0;
     }
@@ -22,6 +22,7 @@ import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -46,6 +47,7 @@ import java.time.temporal.TemporalQueries;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -166,6 +168,17 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return doShardingInLocalDateTime(availableTargetNames, range, calculateTime);
     }
     
+    @Override
+    public Collection<String> doBulkSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        // every value walks through all intervals, so duplicated values are only calculated once
+        Collection<String> result = new LinkedHashSet<>();
+        for (Comparable<?> each : new LinkedHashSet<>(shardingValue.getValues())) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            doSharding(availableTargetNames, Range.singleton(each)).stream().findFirst().ifPresent(result::add);
+        }
+        return result;
+    }
+    
     private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
         Set<String> result = new HashSet<>();
         LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
@@ -18,8 +18,6 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Strings;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -56,11 +54,14 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private boolean allowRangeQuery;
     
+    private InlineShardingExpressionEvaluator expressionEvaluator;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
+        expressionEvaluator = new InlineShardingExpressionEvaluator(algorithmExpression);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -93,12 +94,10 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     }
     
     private String doSharding(final Map<String, Comparable<?>> columnNameAndShardingValueMap) {
-        Closure<?> closure = createClosure();
-        for (Entry<String, Comparable<?>> entry : columnNameAndShardingValueMap.entrySet()) {
-            ShardingSpherePreconditions.checkNotNull(entry.getValue(), NullShardingValueException::new);
-            closure.setProperty(entry.getKey(), entry.getValue());
+        for (Comparable<?> each : columnNameAndShardingValueMap.values()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
         }
-        return closure.call().toString();
+        return expressionEvaluator.evaluate(columnNameAndShardingValueMap);
     }
     
     private Collection<Map<String, Comparable<?>>> flatten(final Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
@@ -131,12 +130,6 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         return result;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = InlineExpressionParserFactory.newInstance().evaluateClosure(algorithmExpression).rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "COMPLEX_INLINE";
@@ -18,12 +18,11 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Strings;
-import groovy.lang.Closure;
 import groovy.lang.MissingMethodException;
-import groovy.util.Expando;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -32,6 +31,8 @@ import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingA
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -48,10 +49,13 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private InlineShardingExpressionEvaluator expressionEvaluator;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         allowRangeQuery = isAllowRangeQuery(props);
+        expressionEvaluator = new InlineShardingExpressionEvaluator(algorithmExpression);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -70,9 +74,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
-        Closure<?> closure = createClosure();
-        closure.setProperty(columnName, shardingValue.getValue());
-        return getTargetShardingNode(closure, columnName);
+        return getTargetShardingNode(columnName, shardingValue.getValue());
     }
     
     @Override
@@ -82,15 +84,21 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return availableTargetNames;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = InlineExpressionParserFactory.newInstance().evaluateClosure(algorithmExpression).rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+    @Override
+    public Collection<String> doBulkSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        String columnName = shardingValue.getColumnName();
+        ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        Collection<String> result = new LinkedHashSet<>();
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result.add(getTargetShardingNode(columnName, each));
+        }
         return result;
     }
     
-    private String getTargetShardingNode(final Closure<?> closure, final String columnName) {
+    private String getTargetShardingNode(final String columnName, final Comparable<?> shardingValue) {
         try {
-            return closure.call().toString();
+            return expressionEvaluator.evaluate(Collections.singletonMap(columnName, shardingValue));
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
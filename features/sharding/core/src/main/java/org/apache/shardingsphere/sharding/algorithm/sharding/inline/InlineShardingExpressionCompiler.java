@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Inline sharding expression compiler.
+ *
+ * <p>Compiles the common subset of inline expression into thread-safe Java expression node, which includes integral arithmetic without division, remainder,
+ * {@code hashCode()}, {@code Math.abs()}, string concatenation, comparison and ternary operator. Expressions beyond the subset are not compiled,
+ * and compiled expression node throws {@link UnsupportedExpressionException} for values beyond the subset, so callers can fall back to Groovy with the same semantics.</p>
+ */
+public final class InlineShardingExpressionCompiler {
+    
+    private static final Collection<String> KEYWORDS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false", "new", "in", "as", "def", "instanceof", "class"));
+    
+    private final String expression;
+    
+    private int position;
+    
+    private InlineShardingExpressionCompiler(final String expression) {
+        this.expression = expression;
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with place holders handled
+     * @return compiled expression node, empty if inline expression is beyond supported subset
+     */
+    public static Optional<ExpressionNode> compile(final String inlineExpression) {
+        try {
+            return Optional.of(new InlineShardingExpressionCompiler(inlineExpression).compileTemplate());
+        } catch (final UnsupportedExpressionException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private ExpressionNode compileTemplate() {
+        List<ExpressionNode> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position < expression.length()) {
+            char current = expression.charAt(position);
+            if ('$' == current) {
+                checkSupported(position + 1 < expression.length() && '{' == expression.charAt(position + 1));
+                addLiteralSegment(segments, literal);
+                position += 2;
+                segments.add(parseTernary());
+                expect('}');
+            } else {
+                // quotes, escapes and slashes change meaning of groovy string
+                checkSupported('"' != current && '\\' != current);
+                literal.append(current);
+                position++;
+            }
+        }
+        addLiteralSegment(segments, literal);
+        return variables -> {
+            StringBuilder result = new StringBuilder();
+            for (ExpressionNode each : segments) {
+                result.append(toText(each.evaluate(variables)));
+            }
+            return result.toString();
+        };
+    }
+    
+    private void addLiteralSegment(final List<ExpressionNode> segments, final StringBuilder literal) {
+        if (0 != literal.length()) {
+            String text = literal.toString();
+            segments.add(variables -> text);
+            literal.setLength(0);
+        }
+    }
+    
+    private ExpressionNode parseTernary() {
+        ExpressionNode condition = parseComparison();
+        skipWhitespaces();
+        if (!isNext("?")) {
+            return condition;
+        }
+        position++;
+        // safe navigation and elvis operators are not supported
+        checkSupported(!isNext(".") && !isNext(":"));
+        ExpressionNode trueNode = parseTernary();
+        expect(':');
+        ExpressionNode falseNode = parseTernary();
+        return variables -> isTrue(condition.evaluate(variables)) ? trueNode.evaluate(variables) : falseNode.evaluate(variables);
+    }
+    
+    private ExpressionNode parseComparison() {
+        ExpressionNode left = parseAdditive();
+        skipWhitespaces();
+        Optional<String> operator = findComparisonOperator();
+        if (!operator.isPresent()) {
+            return left;
+        }
+        position += operator.get().length();
+        ExpressionNode right = parseAdditive();
+        String comparisonOperator = operator.get();
+        return variables -> compare(comparisonOperator, left.evaluate(variables), right.evaluate(variables));
+    }
+    
+    private Optional<String> findComparisonOperator() {
+        for (String each : Arrays.asList("==", "!=", "<=", ">=")) {
+            if (isNext(each)) {
+                // identity, regex, spaceship and shift operators are not supported
+                checkSupported(!isNext(each + "=") && !isNext(each + "~") && !isNext(each + ">"));
+                return Optional.of(each);
+            }
+        }
+        for (String each : Arrays.asList("<", ">")) {
+            if (isNext(each)) {
+                checkSupported(!isNext(each + each));
+                return Optional.of(each);
+            }
+        }
+        checkSupported(!isNext("=") && !isNext("!"));
+        return Optional.empty();
+    }
+    
+    private ExpressionNode parseAdditive() {
+        ExpressionNode result = parseMultiplicative();
+        while (true) {
+            skipWhitespaces();
+            if (!isNext("+") && !isNext("-")) {
+                return result;
+            }
+            char operator = expression.charAt(position++);
+            checkSupported(!isNext(String.valueOf(operator)) && !isNext("=") && !isNext(">"));
+            ExpressionNode left = result;
+            ExpressionNode right = parseMultiplicative();
+            result = '+' == operator ? variables -> add(left.evaluate(variables), right.evaluate(variables)) : variables -> calculate('-', left.evaluate(variables), right.evaluate(variables));
+        }
+    }
+    
+    private ExpressionNode parseMultiplicative() {
+        ExpressionNode result = parseUnary();
+        while (true) {
+            skipWhitespaces();
+            // division produces decimal in groovy, so it is not supported
+            checkSupported(!isNext("/"));
+            if (!isNext("*") && !isNext("%")) {
+                return result;
+            }
+            char operator = expression.charAt(position++);
+            checkSupported(!isNext("*") && !isNext("="));
+            ExpressionNode left = result;
+            ExpressionNode right = parseUnary();
+            result = variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+        }
+    }
+    
+    private ExpressionNode parseUnary() {
+        skipWhitespaces();
+        if (isNext("-")) {
+            position++;
+            checkSupported(!isNext("-"));
+            ExpressionNode operand = parseUnary();
+            return variables -> calculate('-', 0, operand.evaluate(variables));
+        }
+        return parsePostfix();
+    }
+    
+    private ExpressionNode parsePostfix() {
+        ExpressionNode result = parsePrimary();
+        while (true) {
+            skipWhitespaces();
+            if (!isNext(".")) {
+                return result;
+            }
+            position++;
+            checkSupported("hashCode".equals(parseIdentifier()));
+            expect('(');
+            expect(')');
+            ExpressionNode operand = result;
+            result = variables -> checkSupportedValue(operand.evaluate(variables)).hashCode();
+        }
+    }
+    
+    private ExpressionNode parsePrimary() {
+        skipWhitespaces();
+        checkSupported(position < expression.length());
+        char current = expression.charAt(position);
+        if (Character.isDigit(current)) {
+            return parseNumber();
+        }
+        if ('\'' == current) {
+            return parseString();
+        }
+        if ('(' == current) {
+            position++;
+            ExpressionNode result = parseTernary();
+            expect(')');
+            return result;
+        }
+        String identifier = parseIdentifier();
+        skipWhitespaces();
+        if ("Math".equals(identifier)) {
+            expect('.');
+            checkSupported("abs".equals(parseIdentifier()));
+            expect('(');
+            ExpressionNode operand = parseTernary();
+            expect(')');
+            return variables -> abs(operand.evaluate(variables));
+        }
+        // method calls and groovy keywords are not supported
+        checkSupported(!KEYWORDS.contains(identifier) && !isNext("("));
+        return variables -> {
+            checkSupported(variables.containsKey(identifier));
+            return variables.get(identifier);
+        };
+    }
+    
+    private ExpressionNode parseNumber() {
+        int start = position;
+        while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+            position++;
+        }
+        // decimals and typed number literals are not supported
+        checkSupported(position >= expression.length() || !Character.isLetterOrDigit(expression.charAt(position)) && '.' != expression.charAt(position) && '_' != expression.charAt(position));
+        String literal = expression.substring(start, position);
+        // number literal with leading zero is octal in groovy
+        checkSupported(1 == literal.length() || '0' != literal.charAt(0));
+        Object result = parseIntegral(literal);
+        return variables -> result;
+    }
+    
+    private Object parseIntegral(final String literal) {
+        try {
+            long result = Long.parseLong(literal);
+            return result <= Integer.MAX_VALUE ? (Object) (int) result : (Object) result;
+        } catch (final NumberFormatException ignored) {
+            throw UnsupportedExpressionException.INSTANCE;
+        }
+    }
+    
+    private ExpressionNode parseString() {
+        int end = expression.indexOf('\'', position + 1);
+        checkSupported(-1 != end);
+        String result = expression.substring(position + 1, end);
+        checkSupported(-1 == result.indexOf('\\') && -1 == result.indexOf('"'));
+        position = end + 1;
+        return variables -> result;
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespaces();
+        int start = position;
+        while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position))) {
+            position++;
+        }
+        checkSupported(position > start && !Character.isDigit(expression.charAt(start)));
+        return expression.substring(start, position);
+    }
+    
+    private void expect(final char expected) {
+        skipWhitespaces();
+        checkSupported(position < expression.length() && expected == expression.charAt(position));
+        position++;
+    }
+    
+    private boolean isNext(final String token) {
+        return expression.startsWith(token, position);
+    }
+    
+    private void skipWhitespaces() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private static Object add(final Object left, final Object right) {
+        if (left instanceof String || right instanceof String) {
+            return toText(left) + toText(right);
+        }
+        return calculate('+', left, right);
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        checkSupported(isIntegral(left) && isIntegral(right));
+        if (left instanceof Long || right instanceof Long) {
+            return calculate(operator, ((Number) left).longValue(), ((Number) right).longValue());
+        }
+        long result = calculate(operator, ((Number) left).intValue(), ((Number) right).intValue());
+        return (int) result;
+    }
+    
+    private static long calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                checkSupported(0L != right);
+                return left % right;
+        }
+    }
+    
+    private static int calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                checkSupported(0 != right);
+                return left % right;
+        }
+    }
+    
+    private static Object abs(final Object value) {
+        checkSupported(isIntegral(value));
+        return value instanceof Long ? (Object) Math.abs((long) value) : (Object) Math.abs(((Number) value).intValue());
+    }
+    
+    private static Boolean compare(final String operator, final Object left, final Object right) {
+        int result;
+        if (isIntegral(left) && isIntegral(right)) {
+            result = Long.compare(((Number) left).longValue(), ((Number) right).longValue());
+        } else {
+            checkSupported(left instanceof String && right instanceof String);
+            result = ((String) left).compareTo((String) right);
+        }
+        switch (operator) {
+            case "==":
+                return 0 == result;
+            case "!=":
+                return 0 != result;
+            case "<":
+                return result < 0;
+            case "<=":
+                return result <= 0;
+            case ">":
+                return result > 0;
+            default:
+                return result >= 0;
+        }
+    }
+    
+    private static boolean isTrue(final Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (isIntegral(value)) {
+            return 0L != ((Number) value).longValue();
+        }
+        checkSupported(value instanceof String);
+        return !((String) value).isEmpty();
+    }
+    
+    private static String toText(final Object value) {
+        return checkSupportedValue(value).toString();
+    }
+    
+    private static Object checkSupportedValue(final Object value) {
+        checkSupported(isIntegral(value) || value instanceof String || value instanceof Boolean);
+        return value;
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static void checkSupported(final boolean supported) {
+        if (!supported) {
+            throw UnsupportedExpressionException.INSTANCE;
+        }
+    }
+    
+    /**
+     * Compiled expression node.
+     */
+    public interface ExpressionNode {
+        
+        /**
+         * Evaluate expression.
+         *
+         * @param variables variables, key is variable name
+         * @return evaluated value
+         * @throws UnsupportedExpressionException unsupported expression exception if variables are beyond supported subset
+         */
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    /**
+     * Unsupported expression exception.
+     */
+    public static final class UnsupportedExpressionException extends RuntimeException {
+        
+        private static final long serialVersionUID = 6466409716377395187L;
+        
+        private static final UnsupportedExpressionException INSTANCE = new UnsupportedExpressionException();
+        
+        private UnsupportedExpressionException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingExpressionCompiler.ExpressionNode;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingExpressionCompiler.UnsupportedExpressionException;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Inline sharding expression evaluator.
+ *
+ * <p>Inline expression is compiled once into thread-safe Java expression node if it is in the supported subset, Groovy closure is used for others.</p>
+ */
+public final class InlineShardingExpressionEvaluator {
+    
+    private final String inlineExpression;
+    
+    private final ExpressionNode expressionNode;
+    
+    public InlineShardingExpressionEvaluator(final String inlineExpression) {
+        this.inlineExpression = inlineExpression;
+        expressionNode = InlineShardingExpressionCompiler.compile(inlineExpression).orElseGet(() -> this::evaluateWithGroovy);
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables, key is variable name
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ?> variables) {
+        try {
+            return expressionNode.evaluate(variables).toString();
+        } catch (final UnsupportedExpressionException ignored) {
+            return evaluateWithGroovy(variables);
+        }
+    }
+    
+    private String evaluateWithGroovy(final Map<String, ?> variables) {
+        Closure<?> closure = InlineExpressionParserFactory.newInstance().evaluateClosure(inlineExpression).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+}
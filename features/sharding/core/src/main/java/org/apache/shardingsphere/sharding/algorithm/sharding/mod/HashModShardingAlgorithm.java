@@ -20,13 +20,20 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingAlgorithmInitializationException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -62,6 +69,33 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return availableTargetNames;
     }
     
+    @Override
+    public Collection<String> doBulkSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        BitSet shardingIndexes = new BitSet(shardingCount);
+        for (Object each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            shardingIndexes.set((int) (hashShardingValue(each) % shardingCount));
+        }
+        Collection<String> result = new LinkedHashSet<>(shardingIndexes.cardinality(), 1F);
+        for (int i = shardingIndexes.nextSetBit(0); i >= 0; i = shardingIndexes.nextSetBit(i + 1)) {
+            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, String.valueOf(i), shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    @Override
+    public List<String> doBulkShardingPerValue(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        Map<Integer, String> targetNames = new HashMap<>();
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Object each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            int shardingIndex = (int) (hashShardingValue(each) % shardingCount);
+            result.add(targetNames.computeIfAbsent(shardingIndex,
+                    unused -> ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, String.valueOf(shardingIndex), shardingValue.getDataNodeInfo()).orElse(null)));
+        }
+        return result;
+    }
+    
     private long hashShardingValue(final Object shardingValue) {
         return Math.abs((long) shardingValue.hashCode());
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -28,8 +29,13 @@ import org.apache.shardingsphere.sharding.exception.data.NullShardingValueExcept
 import org.apache.shardingsphere.sharding.exception.data.ShardingValueOffsetException;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -100,7 +106,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String shardingResultSuffix = getShardingResultSuffix(cutShardingValue(shardingValue.getValue()).mod(new BigInteger(String.valueOf(shardingCount))).toString());
+        String shardingResultSuffix = getShardingResultSuffix(String.valueOf(getShardingIndex(shardingValue.getValue())));
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
@@ -109,6 +115,42 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
     }
     
+    @Override
+    public Collection<String> doBulkSharding(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        // values with the same sharding index are routed to the same target, so target name is only matched once for every sharding index
+        BitSet shardingIndexes = new BitSet(shardingCount);
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            shardingIndexes.set(getShardingIndex(each));
+        }
+        Collection<String> result = new LinkedHashSet<>(shardingIndexes.cardinality(), 1F);
+        for (int i = shardingIndexes.nextSetBit(0); i >= 0; i = shardingIndexes.nextSetBit(i + 1)) {
+            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, getShardingResultSuffix(String.valueOf(i)), shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private int getShardingIndex(final Comparable<?> shardingValue) {
+        if (0 == startOffset && 0 == stopOffset && shardingValue instanceof Number) {
+            return (int) Math.floorMod(((Number) shardingValue).longValue(), (long) shardingCount);
+        }
+        return cutShardingValue(shardingValue).mod(BigInteger.valueOf(shardingCount)).intValue();
+    }
+    
+    @Override
+    public List<String> doBulkShardingPerValue(final Collection<String> availableTargetNames, final ListShardingValue<Comparable<?>> shardingValue) {
+        Map<Integer, String> targetNames = new HashMap<>();
+        List<String> result = new ArrayList<>(shardingValue.getValues().size());
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            int shardingIndex = getShardingIndex(each);
+            result.add(targetNames.computeIfAbsent(shardingIndex,
+                    unused -> ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, getShardingResultSuffix(String.valueOf(shardingIndex)), shardingValue.getDataNodeInfo())
+                            .orElse(null)));
+        }
+        return result;
+    }
+    
     private boolean containsAllTargets(final RangeShardingValue<Comparable<?>> shardingValue) {
         return !shardingValue.getValueRange().hasUpperBound() || shardingValue.getValueRange().hasLowerBound()
                 && getBigInteger(shardingValue.getValueRange().upperEndpoint()).subtract(getBigInteger(shardingValue.getValueRange().lowerEndpoint())).intValue() >= shardingCount - 1;
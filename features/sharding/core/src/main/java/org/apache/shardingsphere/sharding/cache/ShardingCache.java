@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.sharding.cache;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
@@ -25,6 +27,8 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 import org.apache.shardingsphere.timeservice.core.rule.builder.DefaultTimestampServiceConfigurationBuilder;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * <strong>EXPERIMENTAL</strong> Sharding cache.
  */
@@ -41,6 +45,12 @@ public final class ShardingCache {
     
     private final ShardingRouteCache routeCache;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong metaDataVersion = new AtomicLong();
+    
+    @Getter(AccessLevel.NONE)
+    private volatile ShardingSphereDatabase versionedDatabase;
+    
     public ShardingCache(final ShardingCacheConfiguration config, final ShardingRule shardingRule) {
         configuration = config;
         this.shardingRule = shardingRule;
@@ -48,4 +58,24 @@ public final class ShardingCache {
         routeCacheableChecker = new ShardingRouteCacheableChecker(this);
         routeCache = new ShardingRouteCache(config.getRouteCache());
     }
+    
+    /**
+     * Get meta data version.
+     * 
+     * <p>Meta data version increases when database is reloaded, cached entries of previous versions will not be hit anymore and will be evicted at last.</p>
+     *
+     * @param database database
+     * @return meta data version
+     */
+    public long getMetaDataVersion(final ShardingSphereDatabase database) {
+        if (versionedDatabase != database) {
+            synchronized (this) {
+                if (versionedDatabase != database) {
+                    versionedDatabase = database;
+                    metaDataVersion.incrementAndGet();
+                }
+            }
+        }
+        return metaDataVersion.get();
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.checker;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding condition parameter normalizer.
+ *
+ * <p>Parameters of sharding condition value are normalized to the target names routed by sharding algorithms,
+ * so that parameters routed to the same targets share the same route cache key.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingConditionParameterNormalizer {
+    
+    private final String logicTableName;
+    
+    private final String columnName;
+    
+    private final Collection<ShardingTarget> shardingTargets;
+    
+    private final Collection<Integer> parameterMarkerIndexes;
+    
+    private final RangeTemplate rangeTemplate;
+    
+    /**
+     * Create sharding condition parameter normalizer.
+     *
+     * @param shardingRule sharding rule
+     * @param shardingConditionValue sharding condition value which is created by only one predicate
+     * @param params parameters which created sharding condition value
+     * @return created normalizer, empty if sharding condition value can not be normalized
+     */
+    public static Optional<ShardingConditionParameterNormalizer> newInstance(final ShardingRule shardingRule, final ShardingConditionValue shardingConditionValue, final List<Object> params) {
+        if (shardingConditionValue.getParameterMarkerIndexes().isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<TableRule> tableRule = shardingRule.findTableRule(shardingConditionValue.getTableName());
+        if (!tableRule.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<ShardingTarget> shardingTargets = createShardingTargets(shardingRule, tableRule.get(), shardingConditionValue.getColumnName());
+        if (shardingTargets.isEmpty()) {
+            return Optional.empty();
+        }
+        if (shardingConditionValue instanceof ListShardingConditionValue) {
+            return Optional.of(new ShardingConditionParameterNormalizer(tableRule.get().getLogicTable(), shardingConditionValue.getColumnName(),
+                    shardingTargets, shardingConditionValue.getParameterMarkerIndexes(), null));
+        }
+        if (shardingConditionValue instanceof RangeShardingConditionValue) {
+            return RangeTemplate.newInstance(((RangeShardingConditionValue<?>) shardingConditionValue).getValueRange(), shardingConditionValue.getParameterMarkerIndexes(), params)
+                    .map(optional -> new ShardingConditionParameterNormalizer(tableRule.get().getLogicTable(), shardingConditionValue.getColumnName(),
+                            shardingTargets, shardingConditionValue.getParameterMarkerIndexes(), optional));
+        }
+        return Optional.empty();
+    }
+    
+    private static Collection<ShardingTarget> createShardingTargets(final ShardingRule shardingRule, final TableRule tableRule, final String columnName) {
+        Collection<ShardingTarget> result = new LinkedList<>();
+        createShardingTarget(shardingRule, shardingRule.getDatabaseShardingStrategyConfiguration(tableRule), columnName, tableRule.getActualDataSourceNames(), tableRule.getDataSourceDataNode())
+                .ifPresent(result::add);
+        Collection<String> actualTableNames = new LinkedHashSet<>(tableRule.getActualDataNodes().size(), 1F);
+        for (DataNode each : tableRule.getActualDataNodes()) {
+            actualTableNames.add(each.getTableName());
+        }
+        createShardingTarget(shardingRule, shardingRule.getTableShardingStrategyConfiguration(tableRule), columnName, actualTableNames, tableRule.getTableDataNode()).ifPresent(result::add);
+        return result;
+    }
+    
+    private static Optional<ShardingTarget> createShardingTarget(final ShardingRule shardingRule, final ShardingStrategyConfiguration shardingStrategyConfig, final String columnName,
+                                                                 final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo) {
+        if (!(shardingStrategyConfig instanceof StandardShardingStrategyConfiguration)) {
+            return Optional.empty();
+        }
+        String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                ? shardingRule.getDefaultShardingColumn()
+                : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+        if (!columnName.equalsIgnoreCase(shardingColumn)) {
+            return Optional.empty();
+        }
+        ShardingAlgorithm shardingAlgorithm = shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName());
+        return shardingAlgorithm instanceof StandardShardingAlgorithm
+                ? Optional.of(new ShardingTarget((StandardShardingAlgorithm<?>) shardingAlgorithm, availableTargetNames, dataNodeInfo))
+                : Optional.empty();
+    }
+    
+    /**
+     * Normalize parameters.
+     *
+     * @param params parameters
+     * @param normalizedParams normalized parameters of parameter marker indexes
+     */
+    public void normalize(final List<Object> params, final Map<Integer, Object> normalizedParams) {
+        if (null == rangeTemplate) {
+            for (int each : parameterMarkerIndexes) {
+                if (params.get(each) instanceof Comparable) {
+                    normalizedParams.put(each, doSharding((Comparable<?>) params.get(each)));
+                }
+            }
+            return;
+        }
+        rangeTemplate.createRange(params).ifPresent(optional -> {
+            List<String> targetNames = doSharding(optional);
+            for (int each : parameterMarkerIndexes) {
+                normalizedParams.put(each, targetNames);
+            }
+        });
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private List<String> doSharding(final Comparable<?> value) {
+        List<String> result = new ArrayList<>(shardingTargets.size());
+        for (ShardingTarget each : shardingTargets) {
+            result.add(((StandardShardingAlgorithm) each.shardingAlgorithm).doSharding(each.availableTargetNames, new PreciseShardingValue(logicTableName, columnName, each.dataNodeInfo, value)));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private List<String> doSharding(final Range<?> range) {
+        List<String> result = new ArrayList<>();
+        for (ShardingTarget each : shardingTargets) {
+            result.addAll(((StandardShardingAlgorithm) each.shardingAlgorithm).doSharding(each.availableTargetNames, new RangeShardingValue(logicTableName, columnName, each.dataNodeInfo, range)));
+            result.add("");
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ShardingTarget {
+        
+        private final StandardShardingAlgorithm<?> shardingAlgorithm;
+        
+        private final Collection<String> availableTargetNames;
+        
+        private final DataNodeInfo dataNodeInfo;
+    }
+    
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class RangeTemplate {
+        
+        private final int lowerParameterMarkerIndex;
+        
+        private final Comparable<?> lowerEndpoint;
+        
+        private final BoundType lowerBoundType;
+        
+        private final int upperParameterMarkerIndex;
+        
+        private final Comparable<?> upperEndpoint;
+        
+        private final BoundType upperBoundType;
+        
+        private static Optional<RangeTemplate> newInstance(final Range<?> range, final List<Integer> parameterMarkerIndexes, final List<Object> params) {
+            List<Integer> sortedParameterMarkerIndexes = new ArrayList<>(parameterMarkerIndexes);
+            Collections.sort(sortedParameterMarkerIndexes);
+            // lower endpoint is always in front of upper endpoint in predicate, and endpoints are the same objects as parameters
+            int lowerParameterMarkerIndex = range.hasLowerBound() ? findParameterMarkerIndex(range.lowerEndpoint(), sortedParameterMarkerIndexes, params) : -1;
+            sortedParameterMarkerIndexes.remove(Integer.valueOf(lowerParameterMarkerIndex));
+            int upperParameterMarkerIndex = range.hasUpperBound() ? findParameterMarkerIndex(range.upperEndpoint(), sortedParameterMarkerIndexes, params) : -1;
+            sortedParameterMarkerIndexes.remove(Integer.valueOf(upperParameterMarkerIndex));
+            if (!sortedParameterMarkerIndexes.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new RangeTemplate(lowerParameterMarkerIndex, range.hasLowerBound() ? range.lowerEndpoint() : null, range.hasLowerBound() ? range.lowerBoundType() : null,
+                    upperParameterMarkerIndex, range.hasUpperBound() ? range.upperEndpoint() : null, range.hasUpperBound() ? range.upperBoundType() : null));
+        }
+        
+        private static int findParameterMarkerIndex(final Comparable<?> endpoint, final List<Integer> parameterMarkerIndexes, final List<Object> params) {
+            for (int each : parameterMarkerIndexes) {
+                if (params.get(each) == endpoint) {
+                    return each;
+                }
+            }
+            return -1;
+        }
+        
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private Optional<Range<?>> createRange(final List<Object> params) {
+            Object lower = -1 == lowerParameterMarkerIndex ? lowerEndpoint : params.get(lowerParameterMarkerIndex);
+            Object upper = -1 == upperParameterMarkerIndex ? upperEndpoint : params.get(upperParameterMarkerIndex);
+            if (null != lowerBoundType && !(lower instanceof Comparable) || null != upperBoundType && !(upper instanceof Comparable)) {
+                return Optional.empty();
+            }
+            if (null == lowerBoundType) {
+                return Optional.of(Range.upTo((Comparable) upper, upperBoundType));
+            }
+            if (null == upperBoundType) {
+                return Optional.of(Range.downTo((Comparable) lower, lowerBoundType));
+            }
+            if (lower.getClass() != upper.getClass() || ((Comparable) lower).compareTo(upper) > 0) {
+                return Optional.empty();
+            }
+            return Optional.of(Range.range((Comparable) lower, lowerBoundType, (Comparable) upper, upperBoundType));
+        }
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sharding.cache.checker;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -32,4 +34,10 @@ public class ShardingRouteCacheableCheckResult {
     private final boolean probablyCacheable;
     
     private final List<Integer> shardingConditionParameterMarkerIndexes;
+    
+    private final Collection<ShardingConditionParameterNormalizer> shardingConditionParameterNormalizers;
+    
+    public ShardingRouteCacheableCheckResult(final boolean probablyCacheable, final List<Integer> shardingConditionParameterMarkerIndexes) {
+        this(probablyCacheable, shardingConditionParameterMarkerIndexes, Collections.emptyList());
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.DeleteStatem
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.WhereAvailable;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
@@ -43,15 +44,23 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ColumnExtractor;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtils;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -61,6 +70,8 @@ import java.util.TreeSet;
  */
 public final class ShardingRouteCacheableChecker {
     
+    private final ShardingCache shardingCache;
+    
     private final ShardingRule shardingRule;
     
     private final TimestampServiceRule timestampServiceRule;
@@ -68,6 +79,7 @@ public final class ShardingRouteCacheableChecker {
     private final LoadingCache<Key, ShardingRouteCacheableCheckResult> checkingCache;
     
     public ShardingRouteCacheableChecker(final ShardingCache shardingCache) {
+        this.shardingCache = shardingCache;
         shardingRule = shardingCache.getShardingRule();
         timestampServiceRule = shardingCache.getTimestampServiceRule();
         checkingCache = buildCache(shardingCache.getConfiguration().getRouteCache());
@@ -108,7 +120,7 @@ public final class ShardingRouteCacheableChecker {
             return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
         }
         List<ShardingCondition> shardingConditions = new WhereClauseShardingConditionEngine(database, shardingRule, timestampServiceRule).createShardingConditions(statementContext, params);
-        return checkShardingConditionsCacheable(shardingConditions);
+        return checkShardingConditionsCacheable(statementContext, shardingConditions, params);
     }
     
     private ShardingRouteCacheableCheckResult checkUpdateCacheable(final UpdateStatementContext statementContext, final List<Object> params, final ShardingSphereDatabase database) {
@@ -136,7 +148,7 @@ public final class ShardingRouteCacheableChecker {
             }
         }
         List<ShardingCondition> shardingConditions = new InsertClauseShardingConditionEngine(database, shardingRule, timestampServiceRule).createShardingConditions(statementContext, params);
-        return checkShardingConditionsCacheable(shardingConditions);
+        return checkShardingConditionsCacheable(statementContext, shardingConditions, params);
     }
     
     private ShardingRouteCacheableCheckResult checkDeleteCacheable(final DeleteStatementContext statementContext, final List<Object> params, final ShardingSphereDatabase database) {
@@ -153,7 +165,7 @@ public final class ShardingRouteCacheableChecker {
             return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
         }
         List<ShardingCondition> shardingConditions = new WhereClauseShardingConditionEngine(database, shardingRule, timestampServiceRule).createShardingConditions(statementContext, params);
-        return checkShardingConditionsCacheable(shardingConditions);
+        return checkShardingConditionsCacheable(statementContext, shardingConditions, params);
     }
     
     private boolean containsNonCacheableShardingAlgorithm(final Collection<String> logicTables) {
@@ -173,34 +185,98 @@ public final class ShardingRouteCacheableChecker {
         return false;
     }
     
-    private static ShardingRouteCacheableCheckResult checkShardingConditionsCacheable(final List<ShardingCondition> shardingConditions) {
+    private ShardingRouteCacheableCheckResult checkShardingConditionsCacheable(final SQLStatementContext statementContext, final List<ShardingCondition> shardingConditions,
+                                                                               final List<Object> params) {
         Set<Integer> result = new TreeSet<>();
+        Collection<ShardingConditionValue> conditionValues = new LinkedList<>();
         for (ShardingCondition each : shardingConditions) {
             for (ShardingConditionValue conditionValue : each.getValues()) {
-                if (!isConditionTypeCacheable(conditionValue)) {
+                if (!isConditionTypeCacheable(conditionValue, params)) {
                     return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
                 }
                 result.addAll(conditionValue.getParameterMarkerIndexes());
+                conditionValues.add(conditionValue);
+            }
+        }
+        return new ShardingRouteCacheableCheckResult(true, new ArrayList<>(result), createShardingConditionParameterNormalizers(statementContext, conditionValues, params));
+    }
+    
+    private Collection<ShardingConditionParameterNormalizer> createShardingConditionParameterNormalizers(final SQLStatementContext statementContext,
+                                                                                                         final Collection<ShardingConditionValue> conditionValues, final List<Object> params) {
+        if (!isShardingConditionValuesUnmerged(statementContext) || !isParameterMarkerIndexesExclusive(conditionValues)) {
+            return Collections.emptyList();
+        }
+        Collection<ShardingConditionParameterNormalizer> result = new LinkedList<>();
+        for (ShardingConditionValue each : conditionValues) {
+            ShardingConditionParameterNormalizer.newInstance(shardingRule, each, params).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private boolean isShardingConditionValuesUnmerged(final SQLStatementContext statementContext) {
+        if (!(statementContext instanceof WhereAvailable)) {
+            return true;
+        }
+        for (WhereSegment each : ((WhereAvailable) statementContext).getWhereSegments()) {
+            for (AndPredicate andPredicate : ExpressionExtractUtils.getAndPredicates(each.getExpr())) {
+                Collection<String> columnNames = new HashSet<>();
+                for (ExpressionSegment predicate : andPredicate.getPredicates()) {
+                    for (ColumnSegment columnSegment : ColumnExtractor.extract(predicate)) {
+                        if (!columnNames.add(columnSegment.getIdentifier().getValue().toLowerCase())) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+    
+    private boolean isParameterMarkerIndexesExclusive(final Collection<ShardingConditionValue> conditionValues) {
+        Collection<Integer> parameterMarkerIndexes = new HashSet<>();
+        for (ShardingConditionValue each : conditionValues) {
+            for (int parameterMarkerIndex : each.getParameterMarkerIndexes()) {
+                if (!parameterMarkerIndexes.add(parameterMarkerIndex)) {
+                    return false;
+                }
             }
         }
-        return new ShardingRouteCacheableCheckResult(true, new ArrayList<>(result));
+        return true;
     }
     
-    private static boolean isConditionTypeCacheable(final ShardingConditionValue conditionValue) {
+    private static boolean isConditionTypeCacheable(final ShardingConditionValue conditionValue, final List<Object> params) {
         if (conditionValue instanceof ListShardingConditionValue<?>) {
             for (Object eachValue : ((ListShardingConditionValue<?>) conditionValue).getValues()) {
-                if (!(eachValue instanceof Number)) {
+                if (!isValueTypeCacheable(eachValue, conditionValue, params)) {
                     return false;
                 }
             }
         }
         if (conditionValue instanceof RangeShardingConditionValue<?>) {
             Range<?> range = ((RangeShardingConditionValue<?>) conditionValue).getValueRange();
-            return range.lowerEndpoint() instanceof Number && range.upperEndpoint() instanceof Number;
+            return (!range.hasLowerBound() || isValueTypeCacheable(range.lowerEndpoint(), conditionValue, params))
+                    && (!range.hasUpperBound() || isValueTypeCacheable(range.upperEndpoint(), conditionValue, params));
         }
         return true;
     }
     
+    private static boolean isValueTypeCacheable(final Object value, final ShardingConditionValue conditionValue, final List<Object> params) {
+        if (value instanceof Number) {
+            return true;
+        }
+        // date time parameters are normalized to interval buckets, date time literals such as now() change for every execution and are not cacheable
+        return (value instanceof Temporal || value instanceof Date) && isParameterValue(value, conditionValue.getParameterMarkerIndexes(), params);
+    }
+    
+    private static boolean isParameterValue(final Object value, final List<Integer> parameterMarkerIndexes, final List<Object> params) {
+        for (int each : parameterMarkerIndexes) {
+            if (each < params.size() && params.get(each) == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Check if query is cacheable.
      *
@@ -209,23 +285,26 @@ public final class ShardingRouteCacheableChecker {
      * @return is cacheable
      */
     public ShardingRouteCacheableCheckResult check(final ShardingSphereDatabase database, final QueryContext queryContext) {
-        return checkingCache.get(new Key(database, queryContext.getSql(), queryContext.getSqlStatementContext(), queryContext.getParameters()));
+        return checkingCache.get(new Key(database, shardingCache.getMetaDataVersion(database), queryContext.getSql(), queryContext.getSqlStatementContext(), queryContext.getParameters()));
     }
     
-    @EqualsAndHashCode(of = "sql")
+    @EqualsAndHashCode(of = {"metaDataVersion", "sql"})
     @Getter
     private static final class Key {
         
         private final ShardingSphereDatabase database;
         
+        private final long metaDataVersion;
+        
         private final String sql;
         
         private final SQLStatementContext sqlStatementContext;
         
         private final List<Object> parameters;
         
-        private Key(final ShardingSphereDatabase database, final String sql, final SQLStatementContext sqlStatementContext, final List<Object> params) {
+        private Key(final ShardingSphereDatabase database, final long metaDataVersion, final String sql, final SQLStatementContext sqlStatementContext, final List<Object> params) {
             this.database = database;
+            this.metaDataVersion = metaDataVersion;
             this.sql = sql;
             this.sqlStatementContext = sqlStatementContext;
             parameters = new ArrayList<>(params);
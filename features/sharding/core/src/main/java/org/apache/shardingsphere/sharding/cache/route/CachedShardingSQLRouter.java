@@ -24,13 +24,17 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.checker.ShardingConditionParameterNormalizer;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -60,26 +64,32 @@ public final class CachedShardingSQLRouter {
         if (!cacheableCheckResult.isProbablyCacheable()) {
             return Optional.empty();
         }
-        List<Object> shardingConditionParams = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
         for (int each : cacheableCheckResult.getShardingConditionParameterMarkerIndexes()) {
             if (each >= queryContext.getParameters().size()) {
                 return Optional.empty();
             }
-            shardingConditionParams.add(queryContext.getParameters().get(each));
         }
-        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
-                .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
+        Map<Integer, Object> normalizedParams = new HashMap<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size(), 1F);
+        for (ShardingConditionParameterNormalizer each : cacheableCheckResult.getShardingConditionParameterNormalizers()) {
+            each.normalize(queryContext.getParameters(), normalizedParams);
+        }
+        List<Object> shardingConditionParams = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
+        for (int each : cacheableCheckResult.getShardingConditionParameterMarkerIndexes()) {
+            shardingConditionParams.add(normalizedParams.containsKey(each) ? normalizedParams.get(each) : getCacheKeyParameter(queryContext.getParameters().get(each)));
+        }
+        ShardingRouteCacheKey cacheKey = new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams, shardingCache.getMetaDataVersion(database));
+        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(cacheKey).flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedResult.orElseGet(
                 () -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
-            shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
+        if (!cachedResult.isPresent() && !result.getRouteUnits().isEmpty()) {
+            shardingCache.getRouteCache().put(cacheKey, new ShardingRouteCacheValue(result));
         }
         return Optional.of(result);
     }
     
-    private boolean hitOneShardOnly(final RouteContext routeContext) {
-        return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
-                && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
+    private Object getCacheKeyParameter(final Object param) {
+        // java.util.Date is mutable, cache key must not change when application reuses the parameter
+        return param instanceof Date ? ((Date) param).clone() : param;
     }
     
     @FunctionalInterface
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
@@ -35,7 +36,7 @@ public final class ShardingRouteCache {
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
@@ -61,4 +62,13 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Get statistics of route cache, including hit, miss and eviction counts.
+     *
+     * @return statistics of route cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
 }
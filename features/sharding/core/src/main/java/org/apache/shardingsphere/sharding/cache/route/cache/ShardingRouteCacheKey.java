@@ -34,4 +34,6 @@ public final class ShardingRouteCacheKey {
     private final String sql;
     
     private final List<Object> shardingConditionParameters;
+    
+    private final long metaDataVersion;
 }
@@ -26,12 +26,14 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatem
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillConfiguration;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.columnar.ColumnarGroupByAggregator;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
@@ -39,6 +41,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -58,10 +61,33 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         super(null, schema, selectStatementContext, queryResults);
     }
     
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final MergeSpillConfiguration spillConfig) throws SQLException {
+        super(new GroupBySpillMerger(selectStatementContext, schema, spillConfig).merge(queryResults));
+    }
+    
     @Override
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        Collection<MemoryQueryResultRow> rows = ColumnarGroupByAggregator.isSupported(selectStatementContext)
+                ? aggregateByColumnar(selectStatementContext, queryResults)
+                : aggregateByGroupByValue(selectStatementContext, queryResults);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        return getMemoryResultSetRows(selectStatementContext, rows, valueCaseSensitive);
+    }
+    
+    private Collection<MemoryQueryResultRow> aggregateByColumnar(final SelectStatementContext selectStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        ColumnarGroupByAggregator aggregator = new ColumnarGroupByAggregator(selectStatementContext);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                aggregator.aggregate(each);
+            }
+        }
+        return aggregator.getRows();
+    }
+    
+    private Collection<MemoryQueryResultRow> aggregateByGroupByValue(final SelectStatementContext selectStatementContext, final List<QueryResult> queryResults) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
         Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
         for (QueryResult each : queryResults) {
@@ -72,8 +98,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
             }
         }
         setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return dataMap.values();
     }
     
     private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
@@ -116,7 +141,7 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         }
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>();
         result.add(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
@@ -125,8 +150,8 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
-                                                    final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
             ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
@@ -139,18 +164,18 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return false;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+    static List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
+                                                             final Collection<MemoryQueryResultRow> rows, final List<Boolean> valueCaseSensitive) {
+        if (rows.isEmpty()) {
             Object[] data = generateReturnData(selectStatementContext);
             return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+        List<MemoryQueryResultRow> result = new ArrayList<>(rows);
         result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
         return result;
     }
     
-    private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
+    private static Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
         List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
         Object[] result = new Object[projections.size()];
         for (int i = 0; i < projections.size(); i++) {
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.ExternalRowSorter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MergeSpillConfiguration;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.columnar.ColumnarGroupByAggregator;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtils;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Group by spill merger.
+ *
+ * <p>Groups are aggregated in memory until the rows threshold is reached, then partial aggregated rows are spilled to disk sorted by group by values.
+ * Spilled runs are merged back in group by values order, so each group is contiguous and can be aggregated again with bounded memory.
+ * Final rows are sorted by an external row sorter with the same rows threshold.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupBySpillMerger {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final MergeSpillConfiguration spillConfig;
+    
+    /**
+     * Merge query results.
+     *
+     * @param queryResults query results
+     * @return iterator of merged rows
+     * @throws SQLException SQL exception
+     */
+    public Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults) throws SQLException {
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        ColumnarGroupByAggregator aggregator = new ColumnarGroupByAggregator(selectStatementContext);
+        Comparator<MemoryQueryResultRow> groupByValueComparator = new GroupByValueComparator(selectStatementContext.getGroupByContext().getItems());
+        ExternalRowSorter partialRowSorter = new ExternalRowSorter(groupByValueComparator, spillConfig);
+        ExternalRowSorter rowSorter = new ExternalRowSorter(new GroupByRowComparator(selectStatementContext, valueCaseSensitive), spillConfig);
+        boolean merged = false;
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    aggregator.aggregate(each);
+                    if (aggregator.getGroupCount() >= spillConfig.getRowsThreshold()) {
+                        addRows(partialRowSorter, aggregator.getPartialRows());
+                        aggregator.reset();
+                    }
+                }
+            }
+            if (0 == partialRowSorter.getRowCount()) {
+                merged = true;
+                return GroupByMemoryMergedResult.getMemoryResultSetRows(selectStatementContext, aggregator.getRows(), valueCaseSensitive).iterator();
+            }
+            addRows(partialRowSorter, aggregator.getPartialRows());
+            aggregator.reset();
+            mergePartialRows(new MemoryRowsQueryResult(partialRowSorter.sortedIterator(), queryResults.iterator().next().getMetaData()), aggregator, groupByValueComparator, rowSorter);
+            closeSpillFiles(partialRowSorter);
+            Iterator<MemoryQueryResultRow> result = rowSorter.sortedIterator();
+            merged = true;
+            return result;
+        } finally {
+            if (!merged) {
+                deleteSpillFilesQuietly(partialRowSorter);
+                deleteSpillFilesQuietly(rowSorter);
+            }
+        }
+    }
+    
+    private void mergePartialRows(final MemoryRowsQueryResult partialRows, final ColumnarGroupByAggregator aggregator,
+                                  final Comparator<MemoryQueryResultRow> groupByValueComparator, final ExternalRowSorter rowSorter) throws SQLException {
+        MemoryQueryResultRow previousRow = null;
+        while (partialRows.next()) {
+            // groups are contiguous in partial rows, so aggregated groups can be flushed once group by values change
+            if (null != previousRow && aggregator.getGroupCount() >= spillConfig.getRowsThreshold() && 0 != groupByValueComparator.compare(previousRow, partialRows.getCurrentRow())) {
+                addRows(rowSorter, aggregator.getRows());
+                aggregator.reset();
+            }
+            aggregator.aggregate(partialRows);
+            previousRow = partialRows.getCurrentRow();
+        }
+        addRows(rowSorter, aggregator.getRows());
+    }
+    
+    private void closeSpillFiles(final ExternalRowSorter rowSorter) throws SQLException {
+        try {
+            rowSorter.close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void deleteSpillFilesQuietly(final ExternalRowSorter rowSorter) {
+        try {
+            rowSorter.close();
+        } catch (final IOException ignore) {
+            // failure of merging is thrown instead of failure of deleting spill files
+        }
+    }
+    
+    private void addRows(final ExternalRowSorter rowSorter, final List<MemoryQueryResultRow> rows) throws SQLException {
+        for (MemoryQueryResultRow each : rows) {
+            rowSorter.add(each);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class GroupByValueComparator implements Comparator<MemoryQueryResultRow> {
+        
+        private final Iterable<OrderByItem> groupByItems;
+        
+        @SuppressWarnings("rawtypes")
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            for (OrderByItem each : groupByItems) {
+                int result = CompareUtils.compareTo((Comparable) o1.getCell(each.getIndex()), (Comparable) o2.getCell(each.getIndex()), OrderDirection.ASC, NullsOrderType.FIRST, true);
+                if (0 != result) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -53,7 +53,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentGroupByValues = getOrderByValuesTree().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
@@ -61,7 +61,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValuesTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Iterator;
+
+/**
+ * Query result of memory query result rows.
+ */
+@RequiredArgsConstructor
+final class MemoryRowsQueryResult implements QueryResult {
+    
+    private final Iterator<MemoryQueryResultRow> rows;
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    @Override
+    public boolean next() {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.sql.SQLException;
+
+/**
+ * Accumulation columnar aggregation state for SUM and COUNT.
+ */
+public final class AccumulationColumnarAggregationState implements ColumnarAggregationState {
+    
+    private final int columnIndex;
+    
+    private final ColumnarDecimalAccumulator accumulator = new ColumnarDecimalAccumulator();
+    
+    public AccumulationColumnarAggregationState(final int columnIndex) {
+        this.columnIndex = columnIndex;
+    }
+    
+    @Override
+    public void ensureCapacity(final int groupCount) {
+        accumulator.ensureCapacity(groupCount);
+    }
+    
+    @Override
+    public void merge(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        Object value = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        if (null != value) {
+            accumulator.add(groupIndex, value);
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return accumulator.get(groupIndex);
+    }
+    
+    @Override
+    public void setPartialResult(final int groupIndex, final MemoryQueryResultRow row) {
+        row.setCell(columnIndex, accumulator.get(groupIndex));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+
+/**
+ * Average columnar aggregation state.
+ */
+public final class AverageColumnarAggregationState implements ColumnarAggregationState {
+    
+    private final int countColumnIndex;
+    
+    private final int sumColumnIndex;
+    
+    private final ColumnarDecimalAccumulator countAccumulator = new ColumnarDecimalAccumulator();
+    
+    private final ColumnarDecimalAccumulator sumAccumulator = new ColumnarDecimalAccumulator();
+    
+    public AverageColumnarAggregationState(final int countColumnIndex, final int sumColumnIndex) {
+        this.countColumnIndex = countColumnIndex;
+        this.sumColumnIndex = sumColumnIndex;
+    }
+    
+    @Override
+    public void ensureCapacity(final int groupCount) {
+        countAccumulator.ensureCapacity(groupCount);
+        sumAccumulator.ensureCapacity(groupCount);
+    }
+    
+    @Override
+    public void merge(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        Object count = queryResult.getValue(countColumnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == count || count instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", count));
+        Object sum = queryResult.getValue(sumColumnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == sum || sum instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", sum));
+        if (null != count && null != sum) {
+            countAccumulator.add(groupIndex, count);
+            sumAccumulator.add(groupIndex, sum);
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        BigDecimal count = countAccumulator.get(groupIndex);
+        if (null == count || BigDecimal.ZERO.equals(count)) {
+            return count;
+        }
+        // TODO use metadata to fetch float number precise for database field
+        return sumAccumulator.get(groupIndex).divide(count, 4, RoundingMode.HALF_UP);
+    }
+    
+    @Override
+    public void setPartialResult(final int groupIndex, final MemoryQueryResultRow row) {
+        row.setCell(countColumnIndex, countAccumulator.get(groupIndex));
+        row.setCell(sumColumnIndex, sumAccumulator.get(groupIndex));
+    }
+}
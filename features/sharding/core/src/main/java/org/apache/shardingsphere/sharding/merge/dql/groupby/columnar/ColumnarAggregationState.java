@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+
+/**
+ * Columnar aggregation state, which holds aggregation values of all groups in flat arrays indexed by group index.
+ */
+public interface ColumnarAggregationState {
+    
+    /**
+     * Ensure capacity for groups.
+     *
+     * @param groupCount group count
+     */
+    void ensureCapacity(int groupCount);
+    
+    /**
+     * Merge aggregation values of current row into group.
+     *
+     * @param groupIndex group index
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    void merge(int groupIndex, QueryResult queryResult) throws SQLException;
+    
+    /**
+     * Get aggregation result of group.
+     *
+     * @param groupIndex group index
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int groupIndex);
+    
+    /**
+     * Set partial aggregation result of group into row, the row can be merged again as a query result row.
+     *
+     * @param groupIndex group index
+     * @param row memory query result row
+     */
+    void setPartialResult(int groupIndex, MemoryQueryResultRow row);
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+
+/**
+ * Columnar aggregation state factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnarAggregationStateFactory {
+    
+    /**
+     * Judge whether aggregation projection is supported by columnar aggregation state.
+     *
+     * @param aggregationProjection aggregation projection
+     * @return supported or not
+     */
+    public static boolean isSupported(final AggregationProjection aggregationProjection) {
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            return false;
+        }
+        switch (aggregationProjection.getType()) {
+            case MAX:
+            case MIN:
+            case SUM:
+            case COUNT:
+                return true;
+            case AVG:
+                return 2 == aggregationProjection.getDerivedAggregationProjections().size();
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Create columnar aggregation state instance.
+     *
+     * @param aggregationProjection aggregation projection
+     * @return columnar aggregation state instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static ColumnarAggregationState create(final AggregationProjection aggregationProjection) {
+        switch (aggregationProjection.getType()) {
+            case MAX:
+                return new ComparableColumnarAggregationState(aggregationProjection.getIndex(), false);
+            case MIN:
+                return new ComparableColumnarAggregationState(aggregationProjection.getIndex(), true);
+            case SUM:
+            case COUNT:
+                return new AccumulationColumnarAggregationState(aggregationProjection.getIndex());
+            case AVG:
+                return new AverageColumnarAggregationState(
+                        aggregationProjection.getDerivedAggregationProjections().get(0).getIndex(), aggregationProjection.getDerivedAggregationProjections().get(1).getIndex());
+            default:
+                throw new UnsupportedSQLOperationException(aggregationProjection.getType().name());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Columnar decimal accumulator.
+ *
+ * <p>Integral values are accumulated into primitive long slots, other values and overflowed sums are accumulated into decimal slots.</p>
+ */
+final class ColumnarDecimalAccumulator {
+    
+    private boolean[] merged = new boolean[0];
+    
+    private long[] longValues = new long[0];
+    
+    private BigDecimal[] decimalValues = new BigDecimal[0];
+    
+    void ensureCapacity(final int groupCount) {
+        if (groupCount <= merged.length) {
+            return;
+        }
+        int capacity = Math.max(groupCount, merged.length << 1);
+        merged = Arrays.copyOf(merged, capacity);
+        longValues = Arrays.copyOf(longValues, capacity);
+        decimalValues = Arrays.copyOf(decimalValues, capacity);
+    }
+    
+    void add(final int groupIndex, final Object value) {
+        merged[groupIndex] = true;
+        if (isIntegral(value)) {
+            long addend = ((Number) value).longValue();
+            long sum = longValues[groupIndex] + addend;
+            if (!isOverflow(longValues[groupIndex], addend, sum)) {
+                longValues[groupIndex] = sum;
+                return;
+            }
+        }
+        // accumulate from zero as AccumulationAggregationUnit does, so that the scale of result is the same, e.g. 1E+3 is summed to 1000
+        decimalValues[groupIndex] = (null == decimalValues[groupIndex] ? BigDecimal.ZERO : decimalValues[groupIndex]).add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private boolean isOverflow(final long augend, final long addend, final long sum) {
+        return ((augend ^ sum) & (addend ^ sum)) < 0;
+    }
+    
+    BigDecimal get(final int groupIndex) {
+        if (!merged[groupIndex]) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.valueOf(longValues[groupIndex]);
+        return null == decimalValues[groupIndex] ? result : decimalValues[groupIndex].add(result);
+    }
+}
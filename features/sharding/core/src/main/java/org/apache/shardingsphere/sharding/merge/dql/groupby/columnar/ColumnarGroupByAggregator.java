@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByValue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar group by aggregator.
+ *
+ * <p>Each group is assigned a slot index, aggregation values of all groups are kept in flat arrays of {@link ColumnarAggregationState}.
+ * Single integral group by values are indexed by primitive hash maps to avoid creating {@link GroupByValue} for every row.</p>
+ */
+public final class ColumnarGroupByAggregator {
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final int singleGroupByIndex;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final ColumnarAggregationState[] aggregationStates;
+    
+    private LongGroupIndexMap longGroupIndexMap = new LongGroupIndexMap();
+    
+    private LongGroupIndexMap integerGroupIndexMap = new LongGroupIndexMap();
+    
+    private Map<GroupByValue, Integer> groupIndexMap = new HashMap<>(1024, 1F);
+    
+    private List<MemoryQueryResultRow> rows = new ArrayList<>(1024);
+    
+    public ColumnarGroupByAggregator(final SelectStatementContext selectStatementContext) {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        singleGroupByIndex = 1 == groupByItems.size() ? groupByItems.iterator().next().getIndex() : -1;
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        aggregationStates = new ColumnarAggregationState[aggregationProjections.length];
+        createAggregationStates();
+    }
+    
+    private void createAggregationStates() {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            aggregationStates[i] = ColumnarAggregationStateFactory.create(aggregationProjections[i]);
+        }
+    }
+    
+    /**
+     * Judge whether columnar group by aggregator is supported.
+     *
+     * @param selectStatementContext select statement context
+     * @return supported or not
+     */
+    public static boolean isSupported(final SelectStatementContext selectStatementContext) {
+        return selectStatementContext.getProjectionsContext().getAggregationProjections().stream().allMatch(ColumnarAggregationStateFactory::isSupported);
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        int groupIndex = getGroupIndex(queryResult);
+        for (ColumnarAggregationState each : aggregationStates) {
+            each.merge(groupIndex, queryResult);
+        }
+    }
+    
+    private int getGroupIndex(final QueryResult queryResult) throws SQLException {
+        if (-1 == singleGroupByIndex) {
+            return getGroupIndex(new GroupByValue(queryResult, groupByItems), queryResult);
+        }
+        Object value = queryResult.getValue(singleGroupByIndex, Object.class);
+        if (value instanceof Long) {
+            return getGroupIndex(longGroupIndexMap, (Long) value, queryResult);
+        }
+        if (value instanceof Integer) {
+            return getGroupIndex(integerGroupIndexMap, (Integer) value, queryResult);
+        }
+        return getGroupIndex(new GroupByValue(Collections.singletonList(value)), queryResult);
+    }
+    
+    private int getGroupIndex(final LongGroupIndexMap indexMap, final long key, final QueryResult queryResult) throws SQLException {
+        int result = indexMap.getOrPut(key, rows.size());
+        return -1 == result ? addGroup(queryResult) : result;
+    }
+    
+    private int getGroupIndex(final GroupByValue groupByValue, final QueryResult queryResult) throws SQLException {
+        Integer result = groupIndexMap.get(groupByValue);
+        if (null != result) {
+            return result;
+        }
+        groupIndexMap.put(groupByValue, rows.size());
+        return addGroup(queryResult);
+    }
+    
+    private int addGroup(final QueryResult queryResult) throws SQLException {
+        int result = rows.size();
+        rows.add(new MemoryQueryResultRow(queryResult));
+        for (ColumnarAggregationState each : aggregationStates) {
+            each.ensureCapacity(rows.size());
+        }
+        return result;
+    }
+    
+    /**
+     * Get aggregated rows.
+     *
+     * @return aggregated rows, one row per group
+     */
+    public List<MemoryQueryResultRow> getRows() {
+        for (int groupIndex = 0; groupIndex < rows.size(); groupIndex++) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                rows.get(groupIndex).setCell(aggregationProjections[i].getIndex(), aggregationStates[i].getResult(groupIndex));
+            }
+        }
+        return rows;
+    }
+    
+    /**
+     * Get partial aggregated rows, which can be aggregated again by another columnar group by aggregator.
+     *
+     * @return partial aggregated rows, one row per group
+     */
+    public List<MemoryQueryResultRow> getPartialRows() {
+        for (int groupIndex = 0; groupIndex < rows.size(); groupIndex++) {
+            for (ColumnarAggregationState each : aggregationStates) {
+                each.setPartialResult(groupIndex, rows.get(groupIndex));
+            }
+        }
+        return rows;
+    }
+    
+    /**
+     * Get group count.
+     *
+     * @return group count
+     */
+    public int getGroupCount() {
+        return rows.size();
+    }
+    
+    /**
+     * Reset all groups and aggregation values.
+     */
+    public void reset() {
+        longGroupIndexMap = new LongGroupIndexMap();
+        integerGroupIndexMap = new LongGroupIndexMap();
+        groupIndexMap = new HashMap<>(1024, 1F);
+        rows = new ArrayList<>(1024);
+        createAggregationStates();
+    }
+}
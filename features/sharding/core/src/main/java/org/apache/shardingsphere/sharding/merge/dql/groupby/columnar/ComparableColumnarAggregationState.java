@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Comparable columnar aggregation state for MIN and MAX.
+ */
+public final class ComparableColumnarAggregationState implements ColumnarAggregationState {
+    
+    private final int columnIndex;
+    
+    private final boolean asc;
+    
+    private Comparable<?>[] values = new Comparable<?>[0];
+    
+    public ComparableColumnarAggregationState(final int columnIndex, final boolean asc) {
+        this.columnIndex = columnIndex;
+        this.asc = asc;
+    }
+    
+    @Override
+    public void ensureCapacity(final int groupCount) {
+        if (groupCount > values.length) {
+            values = Arrays.copyOf(values, Math.max(groupCount, values.length << 1));
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void merge(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        Object value = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        if (null == value) {
+            return;
+        }
+        if (null == values[groupIndex]) {
+            values[groupIndex] = (Comparable<?>) value;
+            return;
+        }
+        int comparedValue = ((Comparable) value).compareTo(values[groupIndex]);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            values[groupIndex] = (Comparable<?>) value;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return values[groupIndex];
+    }
+    
+    @Override
+    public void setPartialResult(final int groupIndex, final MemoryQueryResultRow row) {
+        row.setCell(columnIndex, values[groupIndex]);
+    }
+}
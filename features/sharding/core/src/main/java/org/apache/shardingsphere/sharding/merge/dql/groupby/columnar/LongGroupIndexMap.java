@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+/**
+ * Open addressing hash map from primitive long group key to group index.
+ */
+public final class LongGroupIndexMap {
+    
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    
+    private long[] keys;
+    
+    private int[] indexes;
+    
+    private int size;
+    
+    private int resizeThreshold;
+    
+    public LongGroupIndexMap() {
+        keys = new long[DEFAULT_CAPACITY];
+        indexes = new int[DEFAULT_CAPACITY];
+        resizeThreshold = DEFAULT_CAPACITY * 3 / 4;
+    }
+    
+    /**
+     * Get group index of key, or put new group index if key is absent.
+     *
+     * @param key group key
+     * @param newIndex group index to put if key is absent
+     * @return group index of key, or -1 if key is absent and new group index has been put
+     */
+    public int getOrPut(final long key, final int newIndex) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (0 != indexes[slot]) {
+            if (keys[slot] == key) {
+                return indexes[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        // group index is stored with offset one, zero marks an empty slot
+        indexes[slot] = newIndex + 1;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+        return -1;
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+    
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldIndexes = indexes;
+        keys = new long[oldKeys.length << 1];
+        indexes = new int[oldIndexes.length << 1];
+        resizeThreshold = keys.length * 3 / 4;
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (0 == oldIndexes[i]) {
+                continue;
+            }
+            int slot = hash(oldKeys[i]) & mask;
+            while (0 != indexes[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            indexes[slot] = oldIndexes[i];
+        }
+    }
+    
+    private int hash(final long key) {
+        long result = key * HASH_MULTIPLIER;
+        return (int) (result ^ result >>> 32);
+    }
+}
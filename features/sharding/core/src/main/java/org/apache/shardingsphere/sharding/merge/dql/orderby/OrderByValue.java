@@ -19,12 +19,14 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -50,14 +52,30 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
     private List<Comparable<?>> orderValues;
     
+    private boolean firstOrderValueNormalized;
+    
+    private long normalizedFirstOrderValue;
+    
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+            i++;
+        }
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -100,9 +118,15 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
         orderValues = result ? getOrderValues() : Collections.emptyList();
+        firstOrderValueNormalized = !orderValues.isEmpty() && isIntegral(orderValues.get(0));
+        normalizedFirstOrderValue = firstOrderValueNormalized ? ((Number) orderValues.get(0)).longValue() : 0L;
         return result;
     }
     
+    private boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
     private List<Comparable<?>> getOrderValues() throws SQLException {
         List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
         for (OrderByItem each : orderByItems) {
@@ -115,14 +139,19 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        int startIndex = 0;
+        if (firstOrderValueNormalized && orderByValue.firstOrderValueNormalized) {
+            int result = Long.compare(normalizedFirstOrderValue, orderByValue.normalizedFirstOrderValue);
+            if (0 != result) {
+                return OrderDirection.ASC == orderDirections[0] ? result : -result;
+            }
+            startIndex = 1;
+        }
+        for (int i = startIndex; i < orderDirections.length; i++) {
+            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), orderDirections[i], nullsOrderTypes[i], orderValuesCaseSensitive.get(i));
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Loser tree of order by values, which merges ordered query results with about log(n) comparisons per row.
+ *
+ * <p>Leaf {@code i} is located at node {@code i + n}, internal node {@code m} keeps the loser of its two children,
+ * and node {@code 0} keeps the overall winner. Ties are broken by leaf index to keep merging stable.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] nodes;
+    
+    public OrderByValueLoserTree(final Collection<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[leaves.length];
+        nodes = new int[leaves.length];
+        if (leaves.length > 0) {
+            nodes[0] = build(1);
+        }
+    }
+    
+    private int build(final int node) {
+        if (node >= leaves.length) {
+            return node - leaves.length;
+        }
+        int left = build(node << 1);
+        int right = build((node << 1) + 1);
+        if (beats(left, right)) {
+            nodes[node] = right;
+            return left;
+        }
+        nodes[node] = left;
+        return right;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || exhausted[nodes[0]];
+    }
+    
+    /**
+     * Get order by value of current winner.
+     *
+     * @return order by value of current winner
+     */
+    public OrderByValue peek() {
+        return leaves[nodes[0]];
+    }
+    
+    /**
+     * Iterate current winner to its next data and replay the tree.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        int winner = nodes[0];
+        if (!leaves[winner].next()) {
+            exhausted[winner] = true;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + leaves.length) >> 1; node > 0; node >>= 1) {
+            if (beats(nodes[node], winner)) {
+                int loser = winner;
+                winner = nodes[node];
+                nodes[node] = loser;
+            }
+        }
+        nodes[0] = winner;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (exhausted[leaf]) {
+            return false;
+        }
+        if (exhausted[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[leaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+}
@@ -53,13 +53,15 @@ public final class ShardingRuleNodePathProvider implements RuleNodePathProvider
     
     public static final String SHARDING_CACHE = "sharding_cache";
     
+    public static final String COLOCATED_TABLE_JOIN_ENABLED = "colocated_table_join_enabled";
+    
     private static final String DEFAULT_STRATEGIES_PREFIX = "default_strategies.";
     
     private static final RuleNodePath INSTANCE = new RuleNodePath(RULE_TYPE,
             Arrays.asList(TABLES, AUTO_TABLES, BINDING_TABLES, ALGORITHMS, KEY_GENERATORS, AUDITORS),
             Arrays.asList(DEFAULT_STRATEGIES_PREFIX + DEFAULT_DATABASE_STRATEGY, DEFAULT_STRATEGIES_PREFIX + DEFAULT_TABLE_STRATEGY,
                     DEFAULT_STRATEGIES_PREFIX + DEFAULT_KEY_GENERATE_STRATEGY, DEFAULT_STRATEGIES_PREFIX + DEFAULT_AUDIT_STRATEGY, DEFAULT_STRATEGIES_PREFIX + DEFAULT_SHARDING_COLUMN,
-                    SHARDING_CACHE));
+                    SHARDING_CACHE, COLOCATED_TABLE_JOIN_ENABLED));
     
     @Override
     public RuleNodePath getRuleNodePath() {
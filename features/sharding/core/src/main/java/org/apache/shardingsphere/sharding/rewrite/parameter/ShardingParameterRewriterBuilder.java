@@ -26,7 +26,9 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.RouteCo
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingGeneratedKeyInsertValueParameterRewriter;
+import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingInPredicateParameterRewriter;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingPaginationParameterRewriter;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingInPredicateRouteEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.aware.ShardingRuleAware;
 
@@ -48,11 +50,14 @@ public final class ShardingParameterRewriterBuilder implements ParameterRewriter
     
     private final SQLStatementContext sqlStatementContext;
     
+    private final ShardingInPredicateRouteEngine inPredicateRouteEngine;
+    
     @Override
     public Collection<ParameterRewriter> getParameterRewriters() {
         Collection<ParameterRewriter> result = new LinkedList<>();
         addParameterRewriter(result, new ShardingGeneratedKeyInsertValueParameterRewriter());
         addParameterRewriter(result, new ShardingPaginationParameterRewriter());
+        addParameterRewriter(result, new ShardingInPredicateParameterRewriter(inPredicateRouteEngine));
         return result;
     }
     
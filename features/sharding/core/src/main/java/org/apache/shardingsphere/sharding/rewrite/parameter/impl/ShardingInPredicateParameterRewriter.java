@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.parameter.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingInPredicateRouteEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Sharding IN predicate parameter rewriter.
+ */
+@RequiredArgsConstructor
+public final class ShardingInPredicateParameterRewriter implements ParameterRewriter {
+    
+    private final ShardingInPredicateRouteEngine inPredicateRouteEngine;
+    
+    @Override
+    public boolean isNeedRewrite(final SQLStatementContext sqlStatementContext) {
+        return inPredicateRouteEngine.findInPredicate(sqlStatementContext).isPresent();
+    }
+    
+    @Override
+    public void rewrite(final ParameterBuilder paramBuilder, final SQLStatementContext sqlStatementContext, final List<Object> params) {
+        if (!(paramBuilder instanceof StandardParameterBuilder)) {
+            return;
+        }
+        InExpression inPredicate = inPredicateRouteEngine.findInPredicate(sqlStatementContext).orElse(null);
+        if (null == inPredicate) {
+            return;
+        }
+        List<ExpressionSegment> values = ((ListExpression) inPredicate.getRight()).getItems();
+        for (Entry<RouteUnit, Collection<Integer>> entry : inPredicateRouteEngine.route(sqlStatementContext, params).entrySet()) {
+            Collection<Integer> removedParamIndexes = new LinkedList<>();
+            for (int each : entry.getValue()) {
+                if (values.get(each) instanceof ParameterMarkerExpressionSegment) {
+                    removedParamIndexes.add(((ParameterMarkerExpressionSegment) values.get(each)).getParameterMarkerIndex());
+                }
+            }
+            if (!removedParamIndexes.isEmpty()) {
+                ((StandardParameterBuilder) paramBuilder).addRemovedParameters(entry.getKey(), removedParamIndexes);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ParametersAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingInPredicateValuesToken;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingInPredicateRouteEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IN predicate values token generator for sharding.
+ */
+@RequiredArgsConstructor
+@Setter
+public final class ShardingInPredicateValuesTokenGenerator implements CollectionSQLTokenGenerator<SQLStatementContext>, ParametersAware, IgnoreForSingleRoute {
+    
+    private final ShardingInPredicateRouteEngine inPredicateRouteEngine;
+    
+    private List<Object> parameters;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return inPredicateRouteEngine.findInPredicate(sqlStatementContext).isPresent();
+    }
+    
+    @Override
+    public Collection<SQLToken> generateSQLTokens(final SQLStatementContext sqlStatementContext) {
+        Map<RouteUnit, Collection<Integer>> notRoutedValueIndexes = inPredicateRouteEngine.route(sqlStatementContext, parameters);
+        if (notRoutedValueIndexes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ExpressionSegment> values = ((ListExpression) inPredicateRouteEngine.findInPredicate(sqlStatementContext).get().getRight()).getItems();
+        return Collections.singleton(new ShardingInPredicateValuesToken(values.get(0).getStartIndex(), values.get(values.size() - 1).getStopIndex(), values, notRoutedValueIndexes));
+    }
+}
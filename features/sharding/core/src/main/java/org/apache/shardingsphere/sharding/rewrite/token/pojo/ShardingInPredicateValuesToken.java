@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IN predicate values token for sharding.
+ */
+public final class ShardingInPredicateValuesToken extends SQLToken implements Substitutable, RouteUnitAware {
+    
+    @Getter
+    private final int stopIndex;
+    
+    private final List<ExpressionSegment> values;
+    
+    private final Map<RouteUnit, Collection<Integer>> notRoutedValueIndexes;
+    
+    public ShardingInPredicateValuesToken(final int startIndex, final int stopIndex, final List<ExpressionSegment> values, final Map<RouteUnit, Collection<Integer>> notRoutedValueIndexes) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.values = values;
+        this.notRoutedValueIndexes = notRoutedValueIndexes;
+    }
+    
+    @Override
+    public String toString(final RouteUnit routeUnit) {
+        Collection<Integer> skippedIndexes = null == routeUnit ? Collections.emptyList() : notRoutedValueIndexes.getOrDefault(routeUnit, Collections.emptyList());
+        StringBuilder result = new StringBuilder();
+        int index = 0;
+        for (ExpressionSegment each : values) {
+            if (!skippedIndexes.contains(index++)) {
+                result.append(each instanceof LiteralExpressionSegment ? ((LiteralExpressionSegment) each).getLiterals() : "?").append(", ");
+            }
+        }
+        result.delete(result.length() - 2, result.length());
+        return result.toString();
+    }
+    
+    @Override
+    public String toString() {
+        return toString(null);
+    }
+}
@@ -47,7 +47,10 @@ public final class TokenUtils {
         Map<String, String> result = new HashMap<>(tableNames.size(), 1F);
         for (RouteMapper each : routeUnit.getTableMappers()) {
             result.put(each.getLogicName().toLowerCase(), each.getActualName());
-            result.putAll(shardingRule.getLogicAndActualTablesFromBindingTable(routeUnit.getDataSourceMapper().getLogicName(), each.getLogicName(), each.getActualName(), tableNames));
+        }
+        // actual tables of route unit take precedence over actual tables deduced from binding or co-located tables
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            shardingRule.getLogicAndActualTablesFromBindingTable(routeUnit.getDataSourceMapper().getLogicName(), each.getLogicName(), each.getActualName(), tableNames).forEach(result::putIfAbsent);
         }
         return result;
     }
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.standard;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.WhereAvailable;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtils;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding in predicate route engine.
+ *
+ * <p>Values of IN predicate on sharding column are routed one by one with the standard sharding algorithms,
+ * so that every route unit only needs the values routed to it. Only single sharding table statements with one AND group in where clause,
+ * question parameter markers and integral literals are supported, other statements keep the original IN predicate.</p>
+ *
+ * <p>The engine is created once for rewriting a statement, and the found IN predicate and routed values are shared by IN predicate values token generator
+ * and parameter rewriter.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardingInPredicateRouteEngine {
+    
+    private final ShardingRule shardingRule;
+    
+    private final RouteContext routeContext;
+    
+    private boolean inPredicateFound;
+    
+    private InExpression inPredicate;
+    
+    private Map<RouteUnit, Collection<Integer>> notRoutedValueIndexes;
+    
+    /**
+     * Find IN predicate whose values can be partitioned by route units.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return found IN predicate
+     */
+    public Optional<InExpression> findInPredicate(final SQLStatementContext sqlStatementContext) {
+        if (!inPredicateFound) {
+            inPredicate = findPartitionableInPredicate(sqlStatementContext).orElse(null);
+            inPredicateFound = true;
+        }
+        return Optional.ofNullable(inPredicate);
+    }
+    
+    private Optional<InExpression> findPartitionableInPredicate(final SQLStatementContext sqlStatementContext) {
+        if (routeContext.isSingleRouting() || !isSupportedStatement(sqlStatementContext)) {
+            return Optional.empty();
+        }
+        Collection<WhereSegment> whereSegments = ((WhereAvailable) sqlStatementContext).getWhereSegments();
+        if (1 != whereSegments.size() || 1 != sqlStatementContext.getTablesContext().getSimpleTableSegments().size()) {
+            return Optional.empty();
+        }
+        Optional<String> shardingColumn = findTableRule(sqlStatementContext).flatMap(this::findShardingColumn);
+        if (!shardingColumn.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<AndPredicate> andPredicates = ExpressionExtractUtils.getAndPredicates(whereSegments.iterator().next().getExpr());
+        if (1 != andPredicates.size()) {
+            return Optional.empty();
+        }
+        for (ExpressionSegment each : andPredicates.iterator().next().getPredicates()) {
+            if (isPartitionableInPredicate(each, shardingColumn.get())) {
+                return Optional.of((InExpression) each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isSupportedStatement(final SQLStatementContext sqlStatementContext) {
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            return !((SelectStatementContext) sqlStatementContext).isContainsSubquery() && !((SelectStatementContext) sqlStatementContext).isContainsJoinQuery();
+        }
+        return sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    private Optional<TableRule> findTableRule(final SQLStatementContext sqlStatementContext) {
+        Collection<String> tableNames = sqlStatementContext.getTablesContext().getTableNames();
+        return 1 == tableNames.size() ? shardingRule.findTableRule(tableNames.iterator().next()) : Optional.empty();
+    }
+    
+    private Optional<String> findShardingColumn(final TableRule tableRule) {
+        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(tableRule));
+        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(tableRule));
+        if (!isSupportedShardingStrategy(databaseShardingStrategy) || !isSupportedShardingStrategy(tableShardingStrategy)) {
+            return Optional.empty();
+        }
+        if (databaseShardingStrategy instanceof NoneShardingStrategy) {
+            return tableShardingStrategy instanceof NoneShardingStrategy ? Optional.empty() : Optional.of(tableShardingStrategy.getShardingColumns().iterator().next());
+        }
+        String result = databaseShardingStrategy.getShardingColumns().iterator().next();
+        return tableShardingStrategy instanceof NoneShardingStrategy || tableShardingStrategy.getShardingColumns().contains(result) ? Optional.of(result) : Optional.empty();
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+    }
+    
+    private boolean isSupportedShardingStrategy(final ShardingStrategy shardingStrategy) {
+        return shardingStrategy instanceof NoneShardingStrategy || shardingStrategy instanceof StandardShardingStrategy;
+    }
+    
+    private boolean isPartitionableInPredicate(final ExpressionSegment expression, final String shardingColumn) {
+        if (!(expression instanceof InExpression) || ((InExpression) expression).isNot()) {
+            return false;
+        }
+        InExpression inExpression = (InExpression) expression;
+        if (!(inExpression.getLeft() instanceof ColumnSegment) || !((ColumnSegment) inExpression.getLeft()).getIdentifier().getValue().equalsIgnoreCase(shardingColumn)
+                || !(inExpression.getRight() instanceof ListExpression) || ((ListExpression) inExpression.getRight()).getItems().size() < 2) {
+            return false;
+        }
+        for (ExpressionSegment each : ((ListExpression) inExpression.getRight()).getItems()) {
+            if (!isPartitionableValue(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isPartitionableValue(final ExpressionSegment expression) {
+        if (expression instanceof ParameterMarkerExpressionSegment) {
+            return ParameterMarkerType.QUESTION == ((ParameterMarkerExpressionSegment) expression).getParameterMarkerType();
+        }
+        if (expression instanceof LiteralExpressionSegment) {
+            Object literals = ((LiteralExpressionSegment) expression).getLiterals();
+            return literals instanceof Integer || literals instanceof Long || literals instanceof BigInteger;
+        }
+        return false;
+    }
+    
+    /**
+     * Route values of IN predicate to route units.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param params SQL parameters
+     * @return indexes of IN predicate values which are not routed to route unit, route units which need all values are absent
+     */
+    public Map<RouteUnit, Collection<Integer>> route(final SQLStatementContext sqlStatementContext, final List<Object> params) {
+        if (null == notRoutedValueIndexes) {
+            Optional<InExpression> inPredicate = findInPredicate(sqlStatementContext);
+            notRoutedValueIndexes = inPredicate.isPresent() ? route(sqlStatementContext, inPredicate.get(), params) : Collections.emptyMap();
+        }
+        return notRoutedValueIndexes;
+    }
+    
+    private Map<RouteUnit, Collection<Integer>> route(final SQLStatementContext sqlStatementContext, final InExpression inPredicate, final List<Object> params) {
+        Optional<TableRule> tableRule = findTableRule(sqlStatementContext);
+        if (!tableRule.isPresent()) {
+            return Collections.emptyMap();
+        }
+        List<Comparable<?>> values = new ArrayList<>(((ListExpression) inPredicate.getRight()).getItems().size());
+        for (ExpressionSegment each : ((ListExpression) inPredicate.getRight()).getItems()) {
+            Optional<Comparable<?>> value = new ConditionValue(each, params).getValue();
+            if (!value.isPresent()) {
+                return Collections.emptyMap();
+            }
+            values.add(value.get());
+        }
+        return route(tableRule.get(), values);
+    }
+    
+    private Map<RouteUnit, Collection<Integer>> route(final TableRule tableRule, final List<Comparable<?>> values) {
+        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(tableRule));
+        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(tableRule));
+        List<String> routedDataSources = databaseShardingStrategy instanceof StandardShardingStrategy
+                ? doSharding((StandardShardingStrategy) databaseShardingStrategy, tableRule.getActualDataSourceNames(), tableRule.getDataSourceDataNode(), tableRule.getLogicTable(), values)
+                : null;
+        Map<String, List<String>> routedTables = new HashMap<>();
+        Map<RouteUnit, Collection<Integer>> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String dataSourceName = each.getDataSourceMapper().getLogicName();
+            Optional<RouteMapper> tableMapper = findTableMapper(each, tableRule.getLogicTable());
+            if (!tableMapper.isPresent()) {
+                continue;
+            }
+            List<String> routedTablesOfDataSource = tableShardingStrategy instanceof StandardShardingStrategy
+                    ? routedTables.computeIfAbsent(dataSourceName, key -> doSharding((StandardShardingStrategy) tableShardingStrategy,
+                            tableRule.getActualTableNames(key), tableRule.getTableDataNode(), tableRule.getLogicTable(), values))
+                    : null;
+            Collection<Integer> notRoutedIndexes = new LinkedHashSet<>();
+            for (int i = 0; i < values.size(); i++) {
+                if (!isRouted(routedDataSources, i, dataSourceName) || !isRouted(routedTablesOfDataSource, i, tableMapper.get().getActualName())) {
+                    notRoutedIndexes.add(i);
+                }
+            }
+            if (!notRoutedIndexes.isEmpty() && notRoutedIndexes.size() < values.size()) {
+                result.put(each, notRoutedIndexes);
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<String> doSharding(final StandardShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo,
+                                    final String logicTableName, final List<Comparable<?>> values) {
+        String shardingColumn = shardingStrategy.getShardingColumns().iterator().next();
+        StandardShardingAlgorithm shardingAlgorithm = shardingStrategy.getShardingAlgorithm();
+        return shardingAlgorithm.doBulkShardingPerValue(availableTargetNames, new ListShardingValue(logicTableName, shardingColumn, dataNodeInfo, values));
+    }
+    
+    private Optional<RouteMapper> findTableMapper(final RouteUnit routeUnit, final String logicTableName) {
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            if (each.getLogicName().equalsIgnoreCase(logicTableName)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isRouted(final List<String> routedTargetNames, final int index, final String targetName) {
+        return null == routedTargetNames || null == routedTargetNames.get(index) || routedTargetNames.get(index).equalsIgnoreCase(targetName);
+    }
+}
@@ -21,7 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingRouteAlgorithmException;
@@ -33,7 +33,6 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.TreeSet;
 
 /**
@@ -70,15 +69,10 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
-        Collection<String> result = new LinkedList<>();
-        for (Object each : shardingValue.getValues()) {
-            String target = shardingAlgorithm.doSharding(availableTargetNames,
-                    new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, each));
-            if (null != target && availableTargetNames.contains(target)) {
-                result.add(target);
-            } else if (null != target && !availableTargetNames.contains(target)) {
-                throw new ShardingRouteAlgorithmException(target, availableTargetNames);
-            }
+        Collection<String> result = shardingAlgorithm.doBulkSharding(availableTargetNames,
+                new ListShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, shardingValue.getValues()));
+        for (String each : result) {
+            ShardingSpherePreconditions.checkState(availableTargetNames.contains(each), () -> new ShardingRouteAlgorithmException(each, availableTargetNames));
         }
         return result;
     }
@@ -101,6 +101,8 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private final Map<String, BindingTableRule> bindingTableRules = new LinkedHashMap<>();
     
+    private final Map<String, BindingTableRule> colocatedTableRules = new LinkedHashMap<>();
+    
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
     
     private final ShardingStrategyConfiguration defaultTableShardingStrategyConfig;
@@ -139,6 +141,9 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         ShardingSpherePreconditions.checkState(isValidBindingTableConfiguration(tableRules, new BindingTableCheckedConfiguration(this.dataSourceNames, shardingAlgorithms,
                 ruleConfig.getBindingTableGroups(), defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 InvalidBindingTablesException::new);
+        if (ruleConfig.isColocatedTableJoinEnabled()) {
+            colocatedTableRules.putAll(createColocatedTableRules());
+        }
         keyGenerators.values().stream().filter(InstanceContextAware.class::isInstance).forEach(each -> ((InstanceContextAware) each).setInstanceContext(instanceContext));
         if (defaultKeyGenerateAlgorithm instanceof InstanceContextAware && -1 == instanceContext.getWorkerId()) {
             ((InstanceContextAware) defaultKeyGenerateAlgorithm).setInstanceContext(instanceContext);
@@ -264,6 +269,61 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return result;
     }
     
+    private Map<String, BindingTableRule> createColocatedTableRules() {
+        Map<String, BindingTableRule> colocatedTableGroups = new LinkedHashMap<>();
+        for (TableRule each : tableRules.values()) {
+            if (each.getActualDataNodes().isEmpty() || bindingTableRules.containsKey(each.getLogicTable().toLowerCase())) {
+                continue;
+            }
+            Optional<String> databaseAlgorithmSignature = findColocatedAlgorithmSignature(each, true);
+            Optional<String> tableAlgorithmSignature = findColocatedAlgorithmSignature(each, false);
+            if (databaseAlgorithmSignature.isPresent() && tableAlgorithmSignature.isPresent()) {
+                String colocatedKey = String.join("|", getDataNodeSuffixes(each).toString(), databaseAlgorithmSignature.get(), tableAlgorithmSignature.get());
+                colocatedTableGroups.computeIfAbsent(colocatedKey, key -> new BindingTableRule()).getTableRules().put(each.getLogicTable().toLowerCase(), each);
+            }
+        }
+        Map<String, BindingTableRule> result = new LinkedHashMap<>();
+        for (BindingTableRule each : colocatedTableGroups.values()) {
+            if (each.getTableRules().size() > 1) {
+                each.getAllLogicTables().forEach(logicTable -> result.put(logicTable, each));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<String> findColocatedAlgorithmSignature(final TableRule tableRule, final boolean databaseAlgorithm) {
+        ShardingStrategyConfiguration shardingStrategyConfig = databaseAlgorithm
+                ? getDatabaseShardingStrategyConfiguration(tableRule, defaultDatabaseShardingStrategyConfig)
+                : getTableShardingStrategyConfiguration(tableRule, defaultTableShardingStrategyConfig);
+        if (null == shardingStrategyConfig || shardingStrategyConfig instanceof NoneShardingStrategyConfiguration) {
+            return isDeterminedWithoutShardingAlgorithm(tableRule, databaseAlgorithm) ? Optional.of("") : Optional.empty();
+        }
+        ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName());
+        if (!(shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) || null == shardingAlgorithm) {
+            return Optional.empty();
+        }
+        String dataNodePrefix = databaseAlgorithm ? tableRule.getDataSourceDataNode().getPrefix() : tableRule.getTableDataNode().getPrefix();
+        Optional<String> algorithmStructure = shardingAlgorithm.getAlgorithmStructure(dataNodePrefix, getShardingColumn(shardingStrategyConfig, defaultShardingColumn));
+        // algorithms without structure are only comparable with themselves
+        return Optional.of(algorithmStructure.map(optional -> "structure:" + optional).orElseGet(() -> "algorithm:" + shardingStrategyConfig.getShardingAlgorithmName()));
+    }
+    
+    private boolean isDeterminedWithoutShardingAlgorithm(final TableRule tableRule, final boolean databaseAlgorithm) {
+        if (databaseAlgorithm) {
+            Collection<String> actualTableSuffixes = tableRule.getActualDataNodes().stream().map(each -> getActualTableSuffix(tableRule, each)).collect(Collectors.toSet());
+            return 1 == tableRule.getActualDataSourceNames().size() || actualTableSuffixes.size() == tableRule.getActualDataNodes().size();
+        }
+        return tableRule.getActualDataSourceNames().stream().allMatch(each -> 1 == tableRule.getActualTableNames(each).size());
+    }
+    
+    private List<String> getDataNodeSuffixes(final TableRule tableRule) {
+        return tableRule.getActualDataNodes().stream().map(each -> each.getDataSourceName() + "." + getActualTableSuffix(tableRule, each)).collect(Collectors.toList());
+    }
+    
+    private String getActualTableSuffix(final TableRule tableRule, final DataNode dataNode) {
+        return dataNode.getTableName().replace(tableRule.getTableDataNode().getPrefix(), "");
+    }
+    
     private boolean isValidBindingTableConfiguration(final Map<String, TableRule> tableRules, final BindingTableCheckedConfiguration checkedConfig) {
         for (ShardingTableReferenceRuleConfiguration each : checkedConfig.getBindingTableGroups()) {
             Collection<String> bindingTables = Splitter.on(",").trimResults().splitToList(each.getReference().toLowerCase());
@@ -467,7 +527,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         if (!(sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsJoinQuery())) {
             return isAllBindingTables(logicTableNames);
         }
-        if (!isAllBindingTables(logicTableNames)) {
+        if (!isAllBindingTables(logicTableNames) && !isAllColocatedTables(logicTableNames)) {
             return false;
         }
         String defaultSchemaName = new DatabaseTypeRegistry(sqlStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName());
@@ -476,6 +536,11 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return isJoinConditionContainsShardingColumns(schema, select, logicTableNames, select.getWhereSegments());
     }
     
+    private boolean isAllColocatedTables(final Collection<String> logicTableNames) {
+        BindingTableRule colocatedTableRule = colocatedTableRules.get(logicTableNames.iterator().next().toLowerCase());
+        return null != colocatedTableRule && logicTableNames.stream().allMatch(colocatedTableRule::hasLogicTable);
+    }
+    
     private Optional<BindingTableRule> findBindingTableRule(final Collection<String> logicTableNames) {
         for (String each : logicTableNames) {
             Optional<BindingTableRule> result = findBindingTableRule(each);
@@ -496,6 +561,19 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return Optional.ofNullable(bindingTableRules.get(logicTableName.toLowerCase()));
     }
     
+    /**
+     * Find co-located table rule via logic table name.
+     *
+     * <p>Co-located tables are not configured as binding tables, but have the same data nodes and the same sharding algorithms,
+     * so they can be joined in each data node when join condition contains sharding columns. Co-located tables are only detected when co-located table join is enabled.</p>
+     *
+     * @param logicTableName logic table name
+     * @return co-located table rule
+     */
+    public Optional<BindingTableRule> findColocatedTableRule(final String logicTableName) {
+        return Optional.ofNullable(colocatedTableRules.get(logicTableName.toLowerCase()));
+    }
+    
     /**
      * Judge whether logic table is all sharding table or not.
      *
@@ -688,8 +766,11 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      */
     public Map<String, String> getLogicAndActualTablesFromBindingTable(final String dataSourceName,
                                                                        final String logicTable, final String actualTable, final Collection<String> availableLogicBindingTables) {
-        return findBindingTableRule(logicTable).map(optional -> optional.getLogicAndActualTables(dataSourceName, logicTable, actualTable, availableLogicBindingTables))
-                .orElseGet(Collections::emptyMap);
+        Optional<BindingTableRule> bindingTableRule = findBindingTableRule(logicTable);
+        if (!bindingTableRule.isPresent()) {
+            bindingTableRule = findColocatedTableRule(logicTable);
+        }
+        return bindingTableRule.map(optional -> optional.getLogicAndActualTables(dataSourceName, logicTable, actualTable, availableLogicBindingTables)).orElseGet(Collections::emptyMap);
     }
     
     @Override
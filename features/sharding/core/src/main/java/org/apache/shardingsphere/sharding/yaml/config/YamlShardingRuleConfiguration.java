@@ -65,6 +65,8 @@ public final class YamlShardingRuleConfiguration implements YamlRuleConfiguratio
     
     private YamlShardingCacheConfiguration shardingCache;
     
+    private Boolean colocatedTableJoinEnabled;
+    
     @Override
     public Class<ShardingRuleConfiguration> getRuleConfigurationType() {
         return ShardingRuleConfiguration.class;
@@ -85,6 +85,9 @@ public final class NewYamlShardingRuleConfigurationSwapper implements NewYamlRul
             result.add(new YamlDataNode(shardingRuleNodePath.getUniqueItem(ShardingRuleNodePathProvider.SHARDING_CACHE).getPath(),
                     YamlEngine.marshal(shardingCacheSwapper.swapToYamlConfiguration(data.getShardingCache()))));
         }
+        if (data.isColocatedTableJoinEnabled()) {
+            result.add(new YamlDataNode(shardingRuleNodePath.getUniqueItem(ShardingRuleNodePathProvider.COLOCATED_TABLE_JOIN_ENABLED).getPath(), String.valueOf(Boolean.TRUE)));
+        }
         swapTableRules(data, result);
         return result;
     }
@@ -170,6 +173,8 @@ public final class NewYamlShardingRuleConfigurationSwapper implements NewYamlRul
                 result.setDefaultShardingColumn(each.getValue());
             } else if (shardingRuleNodePath.getUniqueItem(ShardingRuleNodePathProvider.SHARDING_CACHE).isValidatedPath(each.getKey())) {
                 result.setShardingCache(shardingCacheSwapper.swapToObject(YamlEngine.unmarshal(each.getValue(), YamlShardingCacheConfiguration.class)));
+            } else if (shardingRuleNodePath.getUniqueItem(ShardingRuleNodePathProvider.COLOCATED_TABLE_JOIN_ENABLED).isValidatedPath(each.getKey())) {
+                result.setColocatedTableJoinEnabled(Boolean.parseBoolean(each.getValue()));
             }
         }
         return Optional.of(result);
@@ -66,6 +66,9 @@ public final class YamlShardingRuleConfigurationSwapper implements YamlRuleConfi
         if (null != data.getShardingCache()) {
             result.setShardingCache(shardingCacheSwapper.swapToYamlConfiguration(data.getShardingCache()));
         }
+        if (data.isColocatedTableJoinEnabled()) {
+            result.setColocatedTableJoinEnabled(true);
+        }
         return result;
     }
     
@@ -116,6 +119,7 @@ public final class YamlShardingRuleConfigurationSwapper implements YamlRuleConfi
         if (null != yamlConfig.getShardingCache()) {
             result.setShardingCache(shardingCacheSwapper.swapToObject(yamlConfig.getShardingCache()));
         }
+        result.setColocatedTableJoinEnabled(Boolean.TRUE.equals(yamlConfig.getColocatedTableJoinEnabled()));
         return result;
     }
     
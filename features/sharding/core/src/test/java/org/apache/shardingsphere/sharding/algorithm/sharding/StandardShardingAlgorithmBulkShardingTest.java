@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StandardShardingAlgorithmBulkShardingTest {
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 1, '0');
+    
+    @SuppressWarnings("unchecked")
+    @ParameterizedTest(name = "{0}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertBulkDoShardingWithSameTargetsAsPreciseDoSharding(final String type, final Properties props, final List<String> availableTargetNames, final List<Comparable<?>> values) {
+        StandardShardingAlgorithm<Comparable<?>> algorithm = (StandardShardingAlgorithm<Comparable<?>>) TypedSPILoader.getService(ShardingAlgorithm.class, type, props);
+        Collection<String> expected = new HashSet<>();
+        for (Comparable<?> each : values) {
+            expected.add(algorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, each)));
+        }
+        assertThat(new HashSet<>(algorithm.doBulkSharding(availableTargetNames, new ListShardingValue<>("t_order", "order_id", DATA_NODE_INFO, values))), is(expected));
+    }
+    
+    private static class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            return Stream.of(
+                    Arguments.of("MOD", PropertiesBuilder.build(new Property("sharding-count", "16")), createAvailableTargetNames(16),
+                            Arrays.asList(0, 15L, 16, 17L, -1, -17L, 255, "12345678910111213141516", "15")),
+                    Arguments.of("HASH_MOD", PropertiesBuilder.build(new Property("sharding-count", "4")), createAvailableTargetNames(4),
+                            Arrays.asList("a", "b", "c", "d", 1, 2L, -3, -4L, Integer.MIN_VALUE)),
+                    Arguments.of("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_$->{order_id % 4}")), createAvailableTargetNames(4),
+                            Arrays.asList(0, 1L, 2, 3L, 4, 7L, 8, 13L)),
+                    Arguments.of("AUTO_INTERVAL", PropertiesBuilder.build(
+                            new Property("datetime-lower", "2020-01-01 00:00:00"), new Property("datetime-upper", "2020-01-01 00:00:16"), new Property("sharding-seconds", "4")),
+                            createAvailableTargetNames(6),
+                            Arrays.asList("2019-12-31 23:59:59", "2020-01-01 00:00:01", "2020-01-01 00:00:04", "2020-01-01 00:00:05", "2020-01-01 00:00:15", "2021-01-01 00:00:02")),
+                    Arguments.of("INTERVAL", PropertiesBuilder.build(new Property("datetime-pattern", "yyyy-MM-dd HH:mm:ss"), new Property("datetime-lower", "2016-01-01 00:00:00"),
+                            new Property("datetime-upper", "2016-12-31 00:00:00"), new Property("sharding-suffix-pattern", "yyyyMM"), new Property("datetime-interval-unit", "Months")),
+                            IntStream.rangeClosed(1, 12).mapToObj(each -> String.format("t_order_2016%02d", each)).collect(Collectors.toList()),
+                            Arrays.asList("2016-01-05 00:00:00", "2016-01-20 12:00:00", "2016-03-01 00:00:00", "2016-12-30 23:59:59")));
+        }
+        
+        private List<String> createAvailableTargetNames(final int count) {
+            return IntStream.range(0, count).mapToObj(each -> "t_order_" + each).collect(Collectors.toList());
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
@@ -34,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -82,6 +84,13 @@ class InlineShardingAlgorithmTest {
                 () -> inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "non_existent_column1", DATA_NODE_INFO, 0)));
     }
     
+    @Test
+    void assertBulkDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = inlineShardingAlgorithm.doBulkSharding(availableTargetNames, new ListShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.<Comparable<?>>asList(0, 1, 4)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_0", "t_order_1"))));
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Test
     void assertDoShardingWithRangeShardingConditionValue() {
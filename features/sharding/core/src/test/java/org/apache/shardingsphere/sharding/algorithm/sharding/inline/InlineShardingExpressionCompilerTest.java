@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineShardingExpressionCompilerTest {
+    
+    private static final List<Object> VALUES = Arrays.asList(0, 1, 7, -7, 123456789, Integer.MAX_VALUE, Integer.MIN_VALUE, 3L, -11L, Long.MAX_VALUE, (short) 5, (byte) -3, "foo", "", "abc_1");
+    
+    @Test
+    void assertCompileSupportedExpressions() {
+        for (String each : Arrays.asList("t_order_${order_id % 2}", "t_order_${order_id.hashCode() % 4}", "t_order_${Math.abs(order_id.hashCode()) % 4}", "ds_${(order_id + 1) * 3 - 2}",
+                "t_${order_id + '_suffix'}", "t_${'prefix_' + order_id}", "t_${order_id > 5 ? 'big' : 'small'}", "t_${order_id == 1 ? 1 : order_id != 7 ? 2 : 3}",
+                "${-order_id % 3}_${order_id}", "t_${order_id ? 'yes' : 'no'}", "t_${Math.abs(order_id) % 10 >= 5 ? 1 : 0}", "t_${order_id % 011 + 0}",
+                "t_${ order_id <= 'b' ? 'x' : 'y' }")) {
+            if (each.contains("011")) {
+                assertFalse(InlineShardingExpressionCompiler.compile(each).isPresent());
+                continue;
+            }
+            assertTrue(InlineShardingExpressionCompiler.compile(each).isPresent(), each);
+            InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator(each);
+            for (Object value : VALUES) {
+                assertEvaluate(evaluator, each, Collections.singletonMap("order_id", value));
+            }
+        }
+    }
+    
+    @Test
+    void assertCompileWithIntegralOverflow() {
+        String expression = "t_${order_id * 2147483647 + 2147483648}";
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator(expression);
+        for (Object each : Arrays.asList(0, 3, -7, Integer.MAX_VALUE, 3L, Long.MAX_VALUE, (short) 5)) {
+            assertEvaluate(evaluator, expression, Collections.singletonMap("order_id", each));
+        }
+    }
+    
+    @Test
+    void assertCompileMultipleVariables() {
+        String expression = "t_${user_id % 2}_${order_id.hashCode() % 3}";
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator(expression);
+        for (Object userId : VALUES) {
+            for (Object orderId : VALUES) {
+                Map<String, Object> variables = new HashMap<>(2, 1F);
+                variables.put("user_id", userId);
+                variables.put("order_id", orderId);
+                assertEvaluate(evaluator, expression, variables);
+            }
+        }
+    }
+    
+    @Test
+    void assertNotCompileUnsupportedExpressions() {
+        for (String each : Arrays.asList("t_${order_id / 2}", "t_${order_id.intdiv(2)}", "t_$order_id", "t_${order_id ?: 1}", "t_${order_id?.hashCode()}", "t_${order_id[0]}",
+                "t_${1.5}", "t_${10L}", "t_${it}", "t_${order_id << 1}", "t_${order_id === 1 ? 1 : 0}", "t_\"${order_id}\"", "t_${'a\\b'}", "t_${hash(order_id)}", "t_${order_id ** 2}",
+                "t_${order_id}\\", "t_${order_id; 1}", "t_${order_id", "t_${99999999999999999999}")) {
+            assertFalse(InlineShardingExpressionCompiler.compile(each).isPresent(), each);
+        }
+    }
+    
+    @Test
+    void assertEvaluateWithValuesBeyondSupportedSubset() {
+        for (String each : Arrays.asList("t_order_${order_id % 2}", "t_order_${order_id}", "t_order_${order_id.hashCode() % 4}", "t_${order_id % 0 == 0 ? 1 : 0}")) {
+            InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator(each);
+            for (Object value : Arrays.asList(new BigInteger("12345678901234567890"), new BigDecimal("10.5"), 3.5D, 'c')) {
+                assertEvaluate(evaluator, each, Collections.singletonMap("order_id", value));
+            }
+        }
+    }
+    
+    private void assertEvaluate(final InlineShardingExpressionEvaluator evaluator, final String expression, final Map<String, ?> variables) {
+        String expected;
+        try {
+            expected = evaluateWithGroovy(expression, variables);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            assertThrowsExactly(ex.getClass(), () -> evaluator.evaluate(variables), expression + " " + variables);
+            return;
+        }
+        assertThat(expression + " " + variables, evaluator.evaluate(variables), is(expected));
+    }
+    
+    private String evaluateWithGroovy(final String expression, final Map<String, ?> variables) {
+        Closure<?> closure = InlineExpressionParserFactory.newInstance().evaluateClosure(expression).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        variables.forEach(closure::setProperty);
+        return closure.call().toString();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingAlgorithmInitializationException;
@@ -31,6 +32,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
 
@@ -55,6 +58,32 @@ class HashModShardingAlgorithmTest {
         assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_type", DATA_NODE_INFO, "a")), is("t_order_1"));
     }
     
+    @Test
+    void assertBulkDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual =
+                shardingAlgorithm.doBulkSharding(availableTargetNames, new ListShardingValue<>("t_order", "order_type", DATA_NODE_INFO, Arrays.<Comparable<?>>asList("a", "b", "a")));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void assertBulkDoShardingWithBytesShardingValue() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        byte[] value = new byte[]{1, 2, 3};
+        String expected = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue("t_order", "order_type", DATA_NODE_INFO, value));
+        Collection<String> actual = shardingAlgorithm.doBulkSharding(availableTargetNames, new ListShardingValue("t_order", "order_type", DATA_NODE_INFO, Collections.singletonList(value)));
+        assertThat(actual, is(Collections.singleton(expected)));
+    }
+    
+    @Test
+    void assertBulkDoShardingPerValue() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<String> actual =
+                shardingAlgorithm.doBulkShardingPerValue(availableTargetNames, new ListShardingValue<>("t_order", "order_type", DATA_NODE_INFO, Arrays.<Comparable<?>>asList("a", "b", "a")));
+        assertThat(actual, is(Arrays.asList("t_order_1", "t_order_2", "t_order_1")));
+    }
+    
     @Test
     void assertRangeDoSharding() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
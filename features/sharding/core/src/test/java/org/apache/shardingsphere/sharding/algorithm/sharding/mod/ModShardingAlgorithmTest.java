@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.ListShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.ShardingAlgorithmInitializationException;
@@ -30,6 +31,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -53,6 +56,22 @@ class ModShardingAlgorithmTest {
         assertThat(algorithm.doSharding(createAvailableTargetNames(), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "12345678910111213141516")), is("t_order_12"));
     }
     
+    @Test
+    void assertBulkDoSharding() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        Collection<String> actual = algorithm.doBulkSharding(createAvailableTargetNames(),
+                new ListShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.<Comparable<?>>asList(17L, 33, -1, "12345678910111213141516")));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_12", "t_order_15"))));
+    }
+    
+    @Test
+    void assertBulkDoShardingPerValue() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        List<String> actual = algorithm.doBulkShardingPerValue(createAvailableTargetNames(),
+                new ListShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.<Comparable<?>>asList(17L, 33, -1, "12345678910111213141516")));
+        assertThat(actual, is(Arrays.asList("t_order_1", "t_order_1", "t_order_15", "t_order_12")));
+    }
+    
     @Test
     void assertRangeDoShardingWithAllTargets() {
         ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.checker;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class ShardingConditionParameterNormalizerTest {
+    
+    private final ShardingRule shardingRule = createShardingRule();
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getShardingAlgorithms().put("mod", new AlgorithmConfiguration("MOD", PropertiesBuilder.build(new Property("sharding-count", "2"))));
+        ShardingAutoTableRuleConfiguration warehouse = new ShardingAutoTableRuleConfiguration("t_warehouse", "ds_${0..1}");
+        warehouse.setShardingStrategy(new StandardShardingStrategyConfiguration("id", "mod"));
+        ruleConfig.getAutoTables().add(warehouse);
+        ruleConfig.getShardingAlgorithms().put("interval", new AlgorithmConfiguration("INTERVAL", PropertiesBuilder.build(new Property("datetime-pattern", "yyyy-MM-dd HH:mm:ss"),
+                new Property("datetime-lower", "2023-01-01 00:00:00"), new Property("datetime-upper", "2023-03-31 23:59:59"), new Property("sharding-suffix-pattern", "yyyyMM"),
+                new Property("datetime-interval-unit", "MONTHS"))));
+        ShardingTableRuleConfiguration order = new ShardingTableRuleConfiguration("t_order", "ds_0.t_order_20230${1..3}");
+        order.setTableShardingStrategy(new StandardShardingStrategyConfiguration("create_time", "interval"));
+        ruleConfig.getTables().add(order);
+        return new ShardingRule(ruleConfig, Arrays.asList("ds_0", "ds_1"), new InstanceContext(mock(ComputeNodeInstance.class), props -> 0, null, null, null, null));
+    }
+    
+    @Test
+    void assertNormalizeListShardingConditionValue() {
+        List<Object> params = Collections.singletonList(1);
+        ShardingConditionParameterNormalizer normalizer = ShardingConditionParameterNormalizer.newInstance(
+                shardingRule, new ListShardingConditionValue<>("id", "t_warehouse", Collections.singletonList(1), Collections.singletonList(0)), params).orElseThrow(IllegalStateException::new);
+        assertThat(normalize(normalizer, Collections.singletonList(3)), is(normalize(normalizer, params)));
+        assertThat(normalize(normalizer, Collections.singletonList(2)), not(normalize(normalizer, params)));
+    }
+    
+    @Test
+    void assertNormalizeRangeShardingConditionValue() {
+        List<Object> params = Arrays.asList(1, 1);
+        ShardingConditionParameterNormalizer normalizer = ShardingConditionParameterNormalizer.newInstance(
+                shardingRule, new RangeShardingConditionValue<>("id", "t_warehouse", Range.closed(1, 1), Arrays.asList(0, 1)), params).orElseThrow(IllegalStateException::new);
+        assertThat(normalize(normalizer, Arrays.asList(3, 3)), is(normalize(normalizer, params)));
+        assertThat(normalize(normalizer, Arrays.asList(2, 2)), not(normalize(normalizer, params)));
+        assertThat(normalize(normalizer, Arrays.asList(1, 10)), is(normalize(normalizer, Arrays.asList(2, 5))));
+    }
+    
+    @Test
+    void assertNormalizeDateTimeListShardingConditionValue() {
+        List<Object> params = Collections.singletonList(LocalDateTime.of(2023, 1, 5, 0, 0));
+        ShardingConditionParameterNormalizer normalizer = ShardingConditionParameterNormalizer.newInstance(shardingRule,
+                new ListShardingConditionValue<>("create_time", "t_order", params, Collections.singletonList(0)), params).orElseThrow(IllegalStateException::new);
+        assertThat(normalize(normalizer, Collections.singletonList(LocalDateTime.of(2023, 1, 20, 12, 30))), is(normalize(normalizer, params)));
+        assertThat(normalize(normalizer, Collections.singletonList(LocalDateTime.of(2023, 2, 5, 0, 0))), not(normalize(normalizer, params)));
+    }
+    
+    @Test
+    void assertNormalizeDateTimeRangeShardingConditionValue() {
+        List<Object> params = Arrays.asList(LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 1, 10, 0, 0));
+        ShardingConditionParameterNormalizer normalizer = ShardingConditionParameterNormalizer.newInstance(shardingRule, new RangeShardingConditionValue<>("create_time", "t_order",
+                Range.closed((LocalDateTime) params.get(0), (LocalDateTime) params.get(1)), Arrays.asList(0, 1)), params).orElseThrow(IllegalStateException::new);
+        assertThat(normalize(normalizer, Arrays.asList(LocalDateTime.of(2023, 1, 3, 0, 0), LocalDateTime.of(2023, 1, 25, 0, 0))), is(normalize(normalizer, params)));
+        assertThat(normalize(normalizer, Arrays.asList(LocalDateTime.of(2023, 1, 3, 0, 0), LocalDateTime.of(2023, 2, 25, 0, 0))), not(normalize(normalizer, params)));
+    }
+    
+    @Test
+    void assertNewInstanceWithNonShardingColumn() {
+        assertFalse(ShardingConditionParameterNormalizer.newInstance(
+                shardingRule, new ListShardingConditionValue<>("name", "t_warehouse", Collections.singletonList(1), Collections.singletonList(0)), Collections.singletonList(1)).isPresent());
+    }
+    
+    private Map<Integer, Object> normalize(final ShardingConditionParameterNormalizer normalizer, final List<Object> params) {
+        Map<Integer, Object> result = new HashMap<>();
+        normalizer.normalize(params, result);
+        return result;
+    }
+}
@@ -48,6 +48,7 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.timeservice.api.config.TimestampServiceRuleConfiguration;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -55,6 +56,7 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
 import java.sql.Types;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -65,6 +67,7 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ShardingRouteCacheableCheckerTest {
@@ -84,6 +87,17 @@ class ShardingRouteCacheableCheckerTest {
         assertThat(actual.getShardingConditionParameterMarkerIndexes(), is(expectedShardingConditionParameterMarkerIndexes));
     }
     
+    @Test
+    void assertCheckWithShardingConditionParameterNormalizers() {
+        ShardingRule shardingRule = createShardingRule();
+        ShardingSphereDatabase database = createDatabase(shardingRule, createTimeServiceRule());
+        ShardingRouteCacheableChecker checker = new ShardingRouteCacheableChecker(shardingRule.getShardingCache());
+        assertThat(checker.check(database, createQueryContext(database, "select * from t_warehouse where id between ? and ?", Arrays.asList(1, 10))).getShardingConditionParameterNormalizers().size(),
+                is(1));
+        assertTrue(
+                checker.check(database, createQueryContext(database, "select * from t_warehouse where id = ? and id > ?", Arrays.asList(1, 0))).getShardingConditionParameterNormalizers().isEmpty());
+    }
+    
     private ShardingRule createShardingRule() {
         ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
         ruleConfig.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", "t_order,t_order_item"));
@@ -152,6 +166,7 @@ class ShardingRouteCacheableCheckerTest {
                     Arguments.of("select * from t_warehouse where id in (?, ?, ?)", Arrays.asList(1, 2, 3), true, Arrays.asList(0, 1, 2)),
                     Arguments.of("select * from t_warehouse where id between ? and ?", Arrays.asList(1, 10), true, Arrays.asList(0, 1)),
                     Arguments.of("select * from t_warehouse where id between ? and ? limit ? offset ?", Arrays.asList(1, 10, 100, 50), true, Arrays.asList(0, 1)),
+                    Arguments.of("select * from t_warehouse where id between ? and ?", Arrays.asList(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 2, 1)), true, Arrays.asList(0, 1)),
                     Arguments.of("update t_warehouse set warehouse_name = ? where id = ?", Arrays.asList("foo", 1), true, Collections.singletonList(1)),
                     Arguments.of("delete from t_warehouse where id = ?", Collections.singletonList(1), true, Collections.singletonList(0)));
             Collection<? extends Arguments> nonCacheableCases = Arrays.asList(
@@ -166,6 +181,7 @@ class ShardingRouteCacheableCheckerTest {
                     Arguments.of("update t_warehouse set warehouse_name = ? where id = (select max(warehouse_id) from t_order)", Collections.singletonList("foo"), false, Collections.emptyList()),
                     Arguments.of("delete from t_order where warehouse_id in (1, 2, now())", Collections.emptyList(), false, Collections.emptyList()),
                     Arguments.of("delete from t_order where warehouse_id between now() and now()", Collections.emptyList(), false, Collections.emptyList()),
+                    Arguments.of("delete from t_warehouse where id in (?, now())", Collections.singletonList(LocalDate.of(2023, 1, 1)), false, Collections.emptyList()),
                     Arguments.of("delete from t_order o where o.warehouse_id in (select w.id from t_warehouse w)", Collections.emptyList(), false, Collections.emptyList()));
             return Stream.of(probablyCacheableCases.stream(), nonCacheableCases.stream()).flatMap(Function.identity());
         }
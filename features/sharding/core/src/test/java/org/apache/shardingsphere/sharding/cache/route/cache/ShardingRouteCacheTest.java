@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -31,9 +33,18 @@ class ShardingRouteCacheTest {
     @Test
     void assertPutAndGet() {
         ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
-        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1), 0L);
         assertFalse(cache.get(key).isPresent());
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    void assertGetWithDifferentMetaDataVersion() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(true, 1, 1));
+        cache.put(new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1), 0L), new ShardingRouteCacheValue(new RouteContext()));
+        assertFalse(cache.get(new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1), 1L)).isPresent());
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AccumulationAggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ColumnarAggregationStateTest {
+    
+    @Test
+    void assertAccumulation() throws SQLException {
+        ColumnarAggregationState state = new AccumulationColumnarAggregationState(1);
+        state.ensureCapacity(2);
+        state.merge(0, mockQueryResult((Object) null));
+        state.merge(0, mockQueryResult(10));
+        state.merge(0, mockQueryResult(Long.MAX_VALUE));
+        state.merge(0, mockQueryResult(new BigDecimal("1.5")));
+        assertThat(state.getResult(0), is(new BigDecimal(Long.MAX_VALUE).add(new BigDecimal("11.5"))));
+        assertNull(state.getResult(1));
+    }
+    
+    @Test
+    void assertAccumulationWithSameScaleAsAggregationUnit() throws SQLException {
+        List<Comparable<?>> values = Arrays.asList(new BigDecimal("1E+3"), 2, new BigDecimal("2.50"), 1.0E10D, new BigDecimal("1.000"));
+        ColumnarAggregationState state = new AccumulationColumnarAggregationState(1);
+        state.ensureCapacity(1);
+        AggregationUnit aggregationUnit = new AccumulationAggregationUnit();
+        for (Comparable<?> each : values) {
+            state.merge(0, mockQueryResult(each));
+            aggregationUnit.merge(Collections.singletonList(each));
+            assertThat(state.getResult(0).toString(), is(aggregationUnit.getResult().toString()));
+        }
+        ColumnarAggregationState exponentState = new AccumulationColumnarAggregationState(1);
+        exponentState.ensureCapacity(1);
+        exponentState.merge(0, mockQueryResult(new BigDecimal("1E+3")));
+        assertThat(exponentState.getResult(0).toString(), is("1000"));
+    }
+    
+    @Test
+    void assertAverage() throws SQLException {
+        ColumnarAggregationState state = new AverageColumnarAggregationState(1, 2);
+        state.ensureCapacity(1);
+        state.merge(0, mockQueryResult(1, null));
+        state.merge(0, mockQueryResult(10, 50));
+        state.merge(0, mockQueryResult(10, 20));
+        state.merge(0, mockQueryResult(5, 40));
+        assertThat(state.getResult(0), is(new BigDecimal("4.4000")));
+    }
+    
+    @Test
+    void assertAverageDivideZero() throws SQLException {
+        ColumnarAggregationState state = new AverageColumnarAggregationState(1, 2);
+        state.ensureCapacity(1);
+        state.merge(0, mockQueryResult(0, 50));
+        assertThat(state.getResult(0), is(new BigDecimal(0)));
+    }
+    
+    @Test
+    void assertMinAndMax() throws SQLException {
+        ColumnarAggregationState minState = new ComparableColumnarAggregationState(1, true);
+        ColumnarAggregationState maxState = new ComparableColumnarAggregationState(1, false);
+        minState.ensureCapacity(1);
+        maxState.ensureCapacity(1);
+        for (Integer each : new Integer[]{null, 3, 1, 5}) {
+            minState.merge(0, mockQueryResult(each));
+            maxState.merge(0, mockQueryResult(each));
+        }
+        assertThat(minState.getResult(0), is(1));
+        assertThat(maxState.getResult(0), is(5));
+    }
+    
+    private QueryResult mockQueryResult(final Object... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        for (int i = 0; i < values.length; i++) {
+            when(result.getValue(i + 1, Object.class)).thenReturn(values[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.columnar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LongGroupIndexMapTest {
+    
+    @Test
+    void assertGetOrPut() {
+        LongGroupIndexMap indexMap = new LongGroupIndexMap();
+        assertThat(indexMap.getOrPut(10L, 0), is(-1));
+        assertThat(indexMap.getOrPut(-10L, 1), is(-1));
+        assertThat(indexMap.getOrPut(10L, 2), is(0));
+        assertThat(indexMap.getOrPut(-10L, 2), is(1));
+        assertThat(indexMap.size(), is(2));
+    }
+    
+    @Test
+    void assertGetOrPutWithResize() {
+        LongGroupIndexMap indexMap = new LongGroupIndexMap();
+        for (int i = 0; i < 10000; i++) {
+            assertThat(indexMap.getOrPut(i * 1024L, i), is(-1));
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertThat(indexMap.getOrPut(i * 1024L, -1), is(i));
+        }
+        assertThat(indexMap.size(), is(10000));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    private final Map<OrderByValue, Integer> currentValues = new IdentityHashMap<>();
+    
+    @Test
+    void assertMergeWithEmptyValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    void assertMerge() throws SQLException {
+        List<OrderByValue> orderByValues = Arrays.asList(mockOrderByValue(1, 4, 7), mockOrderByValue(2, 5), mockOrderByValue(0, 3, 6, 8, 9));
+        OrderByValueLoserTree tree = new OrderByValueLoserTree(orderByValues);
+        List<Integer> actual = new ArrayList<>();
+        assertFalse(tree.isEmpty());
+        do {
+            actual.add(currentValues.get(tree.peek()));
+        } while (tree.next());
+        assertTrue(tree.isEmpty());
+        assertThat(actual, is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+    
+    @Test
+    void assertMergeWithTiesInSourceOrder() throws SQLException {
+        OrderByValue first = mockOrderByValue(1);
+        OrderByValue second = mockOrderByValue(1);
+        OrderByValueLoserTree tree = new OrderByValueLoserTree(Arrays.asList(first, second));
+        assertThat(tree.peek(), is(first));
+        assertTrue(tree.next());
+        assertThat(tree.peek(), is(second));
+        assertFalse(tree.next());
+    }
+    
+    private OrderByValue mockOrderByValue(final int... values) throws SQLException {
+        OrderByValue result = mock(OrderByValue.class);
+        int[] position = {0};
+        currentValues.put(result, values[0]);
+        when(result.next()).thenAnswer(invocation -> {
+            if (++position[0] >= values.length) {
+                return false;
+            }
+            currentValues.put(result, values[position[0]]);
+            return true;
+        });
+        when(result.compareTo(any(OrderByValue.class))).thenAnswer(invocation -> Integer.compare(currentValues.get(result), currentValues.get(invocation.<OrderByValue>getArgument(0))));
+        return result;
+    }
+}
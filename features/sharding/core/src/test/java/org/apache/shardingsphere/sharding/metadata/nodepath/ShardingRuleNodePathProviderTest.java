@@ -38,10 +38,10 @@ class ShardingRuleNodePathProviderTest {
         List<String> namedRuleItems = Arrays.asList(ShardingRuleNodePathProvider.TABLES, ShardingRuleNodePathProvider.AUTO_TABLES, ShardingRuleNodePathProvider.BINDING_TABLES,
                 ShardingRuleNodePathProvider.ALGORITHMS, ShardingRuleNodePathProvider.KEY_GENERATORS, ShardingRuleNodePathProvider.AUDITORS);
         assertThat("Named rule items equality without order", actualRuleNodePath.getNamedItems().keySet(), IsIterableContainingInAnyOrder.containsInAnyOrder(namedRuleItems.toArray()));
-        assertThat(actualRuleNodePath.getUniqueItems().size(), is(6));
+        assertThat(actualRuleNodePath.getUniqueItems().size(), is(7));
         List<String> uniqueRuleItems = Arrays.asList(ShardingRuleNodePathProvider.DEFAULT_DATABASE_STRATEGY, ShardingRuleNodePathProvider.DEFAULT_TABLE_STRATEGY,
                 ShardingRuleNodePathProvider.DEFAULT_KEY_GENERATE_STRATEGY, ShardingRuleNodePathProvider.DEFAULT_AUDIT_STRATEGY, ShardingRuleNodePathProvider.DEFAULT_SHARDING_COLUMN,
-                ShardingRuleNodePathProvider.SHARDING_CACHE);
+                ShardingRuleNodePathProvider.SHARDING_CACHE, ShardingRuleNodePathProvider.COLOCATED_TABLE_JOIN_ENABLED);
         assertThat("Unique rule items equality without order", actualRuleNodePath.getUniqueItems().keySet(), IsIterableContainingInAnyOrder.containsInAnyOrder(uniqueRuleItems.toArray()));
         assertThat(actualRuleNodePath.getRoot().getRuleType(), is(ShardingRuleNodePathProvider.RULE_TYPE));
     }
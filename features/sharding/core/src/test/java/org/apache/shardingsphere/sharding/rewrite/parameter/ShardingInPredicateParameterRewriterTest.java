@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.parameter;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingInPredicateParameterRewriter;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingInPredicateRouteEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardingInPredicateParameterRewriterTest {
+    
+    @Test
+    void assertIsNeedRewrite() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        ShardingInPredicateRouteEngine inPredicateRouteEngine = mock(ShardingInPredicateRouteEngine.class);
+        when(inPredicateRouteEngine.findInPredicate(sqlStatementContext)).thenReturn(Optional.empty());
+        assertFalse(new ShardingInPredicateParameterRewriter(inPredicateRouteEngine).isNeedRewrite(sqlStatementContext));
+        when(inPredicateRouteEngine.findInPredicate(sqlStatementContext)).thenReturn(Optional.of(createInPredicate()));
+        assertTrue(new ShardingInPredicateParameterRewriter(inPredicateRouteEngine).isNeedRewrite(sqlStatementContext));
+    }
+    
+    @Test
+    void assertRewrite() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        List<Object> params = Arrays.asList(1, 2);
+        ShardingInPredicateRouteEngine inPredicateRouteEngine = mock(ShardingInPredicateRouteEngine.class);
+        when(inPredicateRouteEngine.findInPredicate(sqlStatementContext)).thenReturn(Optional.of(createInPredicate()));
+        RouteUnit routeUnit = mock(RouteUnit.class);
+        when(inPredicateRouteEngine.route(sqlStatementContext, params)).thenReturn(Collections.singletonMap(routeUnit, Arrays.asList(0, 2)));
+        StandardParameterBuilder paramBuilder = mock(StandardParameterBuilder.class);
+        new ShardingInPredicateParameterRewriter(inPredicateRouteEngine).rewrite(paramBuilder, sqlStatementContext, params);
+        verify(paramBuilder).addRemovedParameters(routeUnit, Collections.singletonList(1));
+    }
+    
+    @Test
+    void assertRewriteWithGroupedParameterBuilder() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        ShardingInPredicateRouteEngine inPredicateRouteEngine = mock(ShardingInPredicateRouteEngine.class);
+        when(inPredicateRouteEngine.findInPredicate(sqlStatementContext)).thenReturn(Optional.of(createInPredicate()));
+        new ShardingInPredicateParameterRewriter(inPredicateRouteEngine).rewrite(mock(GroupedParameterBuilder.class), sqlStatementContext, Collections.singletonList(1));
+        verify(inPredicateRouteEngine, never()).route(any(), any());
+    }
+    
+    private InExpression createInPredicate() {
+        ListExpression values = new ListExpression(0, 0);
+        values.getItems().add(new LiteralExpressionSegment(0, 0, 1));
+        values.getItems().add(new ParameterMarkerExpressionSegment(0, 0, 0, ParameterMarkerType.QUESTION));
+        values.getItems().add(new ParameterMarkerExpressionSegment(0, 0, 1, ParameterMarkerType.QUESTION));
+        return new InExpression(0, 0, mock(ColumnSegment.class), values, false);
+    }
+}
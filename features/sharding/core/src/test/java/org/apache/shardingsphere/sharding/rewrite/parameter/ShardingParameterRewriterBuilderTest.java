@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.sharding.rewrite.parameter.impl.ShardingPaginationParameterRewriter;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingInPredicateRouteEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.Test;
 
@@ -42,8 +43,10 @@ class ShardingParameterRewriterBuilderTest {
     void assertGetParameterRewritersWhenPaginationIsNeedRewrite() {
         SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
         when(statementContext.getPaginationContext().isHasPagination()).thenReturn(true);
-        Collection<ParameterRewriter> actual = new ShardingParameterRewriterBuilder(
-                mock(ShardingRule.class), mock(RouteContext.class), Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext).getParameterRewriters();
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        RouteContext routeContext = mock(RouteContext.class);
+        Collection<ParameterRewriter> actual = new ShardingParameterRewriterBuilder(shardingRule, routeContext, Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext,
+                new ShardingInPredicateRouteEngine(shardingRule, routeContext)).getParameterRewriters();
         assertThat(actual.size(), is(1));
         assertThat(actual.iterator().next(), instanceOf(ShardingPaginationParameterRewriter.class));
     }
@@ -54,7 +57,8 @@ class ShardingParameterRewriterBuilderTest {
         when(routeContext.isSingleRouting()).thenReturn(true);
         SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
         when(statementContext.getPaginationContext().isHasPagination()).thenReturn(true);
-        assertTrue(new ShardingParameterRewriterBuilder(
-                mock(ShardingRule.class), routeContext, Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext).getParameterRewriters().isEmpty());
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        assertTrue(new ShardingParameterRewriterBuilder(shardingRule, routeContext, Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext,
+                new ShardingInPredicateRouteEngine(shardingRule, routeContext)).getParameterRewriters().isEmpty());
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ShardingInPredicateValuesTokenTest {
+    
+    private ShardingInPredicateValuesToken token;
+    
+    private RouteUnit routeUnit0;
+    
+    private RouteUnit routeUnit1;
+    
+    @BeforeEach
+    void setup() {
+        routeUnit0 = new RouteUnit(new RouteMapper("ds", "ds"), Collections.singleton(new RouteMapper("tbl", "tbl_0")));
+        routeUnit1 = new RouteUnit(new RouteMapper("ds", "ds"), Collections.singleton(new RouteMapper("tbl", "tbl_1")));
+        List<ExpressionSegment> values = Arrays.asList(new ParameterMarkerExpressionSegment(0, 0, 0, ParameterMarkerType.QUESTION),
+                new LiteralExpressionSegment(0, 0, 1), new ParameterMarkerExpressionSegment(0, 0, 1, ParameterMarkerType.QUESTION));
+        token = new ShardingInPredicateValuesToken(0, 7, values, Collections.<RouteUnit, Collection<Integer>>singletonMap(routeUnit0, Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    void assertToStringWithNotRoutedValues() {
+        assertThat(token.toString(routeUnit0), is("?"));
+    }
+    
+    @Test
+    void assertToStringWithAllValues() {
+        assertThat(token.toString(routeUnit1), is("?, 1, ?"));
+    }
+    
+    @Test
+    void assertToStringWithoutRouteUnit() {
+        assertThat(token.toString(), is("?, 1, ?"));
+    }
+}
@@ -244,6 +244,27 @@ class ShardingRuleTest {
         assertThat(actual.findBindingTableRule("logic_Table").get().getTableRules().size(), is(2));
     }
     
+    @Test
+    void assertFindColocatedTableRule() {
+        ShardingRule actual = createColocatedShardingRule(true);
+        assertTrue(actual.findColocatedTableRule("T_ORDER").isPresent());
+        assertThat(actual.findColocatedTableRule("t_order").get().getAllLogicTables(), is(new LinkedHashSet<>(Arrays.asList("t_order", "t_order_item"))));
+        assertFalse(actual.findColocatedTableRule("t_user").isPresent());
+        assertFalse(actual.findBindingTableRule("t_order").isPresent());
+    }
+    
+    @Test
+    void assertFindColocatedTableRuleWhenColocatedTableJoinDisabled() {
+        assertFalse(createColocatedShardingRule(false).findColocatedTableRule("t_order").isPresent());
+    }
+    
+    @Test
+    void assertGetLogicAndActualTablesFromColocatedTable() {
+        Map<String, String> actual = createColocatedShardingRule(true).getLogicAndActualTablesFromBindingTable("ds_1", "t_order", "t_order_1", Arrays.asList("t_order", "t_order_item", "t_user"));
+        assertThat(actual, is(Collections.singletonMap("t_order_item", "t_order_item_1")));
+        assertTrue(createColocatedShardingRule(false).getLogicAndActualTablesFromBindingTable("ds_1", "t_order", "t_order_1", Arrays.asList("t_order", "t_order_item")).isEmpty());
+    }
+    
     @Test
     void assertIsShardingTable() {
         assertTrue(createMaximumShardingRule().isShardingTable("LOGIC_TABLE"));
@@ -502,6 +523,28 @@ class ShardingRuleTest {
         return new ShardingRule(shardingRuleConfig, createDataSourceNames(), mock(InstanceContext.class));
     }
     
+    private ShardingRule createColocatedShardingRule(final boolean colocatedTableJoinEnabled) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.setColocatedTableJoinEnabled(colocatedTableJoinEnabled);
+        shardingRuleConfig.getTables().add(createInlineTableRuleConfiguration("T_ORDER", "ds_${0..1}.t_order_${0..1}"));
+        shardingRuleConfig.getTables().add(createInlineTableRuleConfiguration("T_ORDER_ITEM", "ds_${0..1}.t_order_item_${0..1}"));
+        shardingRuleConfig.getTables().add(createInlineTableRuleConfiguration("T_USER", "ds_${0..1}.t_user_${0..2}"));
+        shardingRuleConfig.getShardingAlgorithms().put("database_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        shardingRuleConfig.getShardingAlgorithms().put("t_order_inline",
+                new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        shardingRuleConfig.getShardingAlgorithms().put("t_order_item_inline",
+                new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_item_${order_id % 2}"))));
+        shardingRuleConfig.getShardingAlgorithms().put("t_user_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_user_${order_id % 3}"))));
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames(), mock(InstanceContext.class));
+    }
+    
+    private ShardingTableRuleConfiguration createInlineTableRuleConfiguration(final String logicTableName, final String actualDataNodes) {
+        ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(logicTableName, actualDataNodes);
+        result.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        result.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", logicTableName.toLowerCase() + "_inline"));
+        return result;
+    }
+    
     private ShardingTableRuleConfiguration createTableRuleConfiguration(final String logicTableName, final String actualDataNodes) {
         ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(logicTableName, actualDataNodes);
         result.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
@@ -645,6 +688,38 @@ class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().isAllBindingTables(database, sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")));
     }
     
+    @Test
+    void assertIsAllBindingTableWithJoinQueryWithColocatedTables() {
+        ColumnSegment leftDatabaseJoin = createColumnSegment("user_id", "t_order");
+        ColumnSegment rightDatabaseJoin = createColumnSegment("user_id", "t_order_item");
+        BinaryOperationExpression databaseJoin = createBinaryOperationExpression(leftDatabaseJoin, rightDatabaseJoin, EQUAL);
+        ColumnSegment leftTableJoin = createColumnSegment("order_id", "t_order");
+        ColumnSegment rightTableJoin = createColumnSegment("order_id", "t_order_item");
+        BinaryOperationExpression tableJoin = createBinaryOperationExpression(leftTableJoin, rightTableJoin, EQUAL);
+        BinaryOperationExpression condition = createBinaryOperationExpression(databaseJoin, tableJoin, AND);
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.isContainsJoinQuery()).thenReturn(true);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(sqlStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        when(sqlStatementContext.getWhereSegments()).thenReturn(Collections.singleton(new WhereSegment(0, 0, condition)));
+        Map<String, String> columnTableNames = new HashMap<>();
+        columnTableNames.put("t_order.user_id", "t_order");
+        columnTableNames.put("t_order_item.user_id", "t_order_item");
+        columnTableNames.put("t_order.order_id", "t_order");
+        columnTableNames.put("t_order_item.order_id", "t_order_item");
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        when(sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftDatabaseJoin, rightDatabaseJoin), schema)).thenReturn(columnTableNames);
+        when(sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftTableJoin, rightTableJoin), schema)).thenReturn(columnTableNames);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(schema);
+        ShardingRule shardingRule = createColocatedShardingRule(true);
+        assertTrue(shardingRule.isAllBindingTables(database, sqlStatementContext, Arrays.asList("t_order", "t_order_item")));
+        assertFalse(shardingRule.isAllBindingTables(database, sqlStatementContext, Arrays.asList("t_order", "t_user")));
+        assertFalse(shardingRule.isAllBindingTables(Arrays.asList("t_order", "t_order_item")));
+        assertFalse(createColocatedShardingRule(false).isAllBindingTables(database, sqlStatementContext, Arrays.asList("t_order", "t_order_item")));
+    }
+    
     @Test
     void assertIsAllTablesInSameDataSource() {
         Collection<String> logicTableNames = new LinkedHashSet<>();
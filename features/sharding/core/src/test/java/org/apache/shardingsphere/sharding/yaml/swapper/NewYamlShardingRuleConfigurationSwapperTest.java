@@ -56,7 +56,7 @@ class NewYamlShardingRuleConfigurationSwapperTest {
     void assertSwapFullConfigToDataNodes() {
         ShardingRuleConfiguration config = createMaximumShardingRule();
         Collection<YamlDataNode> result = swapper.swapToDataNodes(config);
-        assertThat(result.size(), is(15));
+        assertThat(result.size(), is(16));
         Iterator<YamlDataNode> iterator = result.iterator();
         assertThat(iterator.next().getKey(), is("algorithms/core_standard_fixture"));
         assertThat(iterator.next().getKey(), is("algorithms/hash_mod"));
@@ -69,6 +69,7 @@ class NewYamlShardingRuleConfigurationSwapperTest {
         assertThat(iterator.next().getKey(), is("default_strategies/default_key_generate_strategy"));
         assertThat(iterator.next().getKey(), is("default_strategies/default_audit_strategy"));
         assertThat(iterator.next().getKey(), is("default_strategies/default_sharding_column"));
+        assertThat(iterator.next().getKey(), is("colocated_table_join_enabled"));
         assertThat(iterator.next().getKey(), is("tables/LOGIC_TABLE"));
         assertThat(iterator.next().getKey(), is("tables/SUB_LOGIC_TABLE"));
         assertThat(iterator.next().getKey(), is("auto_tables/auto_table"));
@@ -93,6 +94,7 @@ class NewYamlShardingRuleConfigurationSwapperTest {
         result.setDefaultDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("ds_id", "standard"));
         result.setDefaultTableShardingStrategy(new StandardShardingStrategyConfiguration("table_id", "standard"));
         result.setDefaultShardingColumn("table_id");
+        result.setColocatedTableJoinEnabled(true);
         result.setDefaultKeyGenerateStrategy(new KeyGenerateStrategyConfiguration("id", "default"));
         result.setDefaultAuditStrategy(new ShardingAuditStrategyConfiguration(Collections.singletonList("audit_algorithm"), false));
         result.getShardingAlgorithms().put("core_standard_fixture", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
@@ -184,6 +186,7 @@ class NewYamlShardingRuleConfigurationSwapperTest {
         config.add(new YamlDataNode("/metadata/foo_db/rules/sharding/key_generators/auto_increment/versions/0", "type: AUTO_INCREMENT.FIXTURE\n"));
         config.add(new YamlDataNode("/metadata/foo_db/rules/sharding/auditors/audit_algorithm/versions/0", "type: DML_SHARDING_CONDITIONS\n"));
         config.add(new YamlDataNode("/metadata/foo_db/rules/sharding/default_strategies/default_sharding_column/versions/0", "table_id"));
+        config.add(new YamlDataNode("/metadata/foo_db/rules/sharding/colocated_table_join_enabled/versions/0", "true"));
         ShardingRuleConfiguration result = swapper.swapToObject(config).get();
         assertThat(result.getTables().size(), is(2));
         assertThat(result.getTables().iterator().next().getLogicTable(), is("LOGIC_TABLE"));
@@ -243,5 +246,6 @@ class NewYamlShardingRuleConfigurationSwapperTest {
         assertThat(result.getAuditors().get("audit_algorithm").getType(), is("DML_SHARDING_CONDITIONS"));
         assertThat(result.getAuditors().get("audit_algorithm").getProps().size(), is(0));
         assertNull(result.getShardingCache());
+        assertTrue(result.isColocatedTableJoinEnabled());
     }
 }
@@ -53,16 +53,41 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The type of worker group to execute SQL, supports THREAD_POOL, WORK_STEALING and VIRTUAL_THREAD.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", KernelExecutorType.THREAD_POOL.name(), KernelExecutorType.class, true),
+    
+    /**
+     * The max concurrent execution groups of each storage unit in worker group. Less than or equal to 0 means no limitation.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT("kernel-executor-max-concurrency-per-storage-unit", String.valueOf(0), int.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max rows held in memory by each merged result before spilling to disk. Less than or equal to 0 means never spill.
+     */
+    MERGE_SPILL_ROWS_THRESHOLD("merge-spill-rows-threshold", String.valueOf(0), int.class, false),
+    
+    /**
+     * Directory for spill files of merged results. Blank means the directory of system property {@code java.io.tmpdir}.
+     */
+    MERGE_SPILL_DIRECTORY("merge-spill-directory", "", String.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether reuse rewritten SQL of route units for prepared statement.
+     */
+    SQL_REWRITE_PLAN_CACHE_ENABLED("sql-rewrite-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -89,6 +114,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Whether back command executors of connections occupying thread with virtual threads, it takes effect on JDK 21 or later only.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy default start port.
      */
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
@@ -36,6 +37,16 @@ import org.apache.shardingsphere.infra.session.query.QueryContext;
  */
 public final class KernelProcessor {
     
+    private final PreparedRewritePlan preparedRewritePlan;
+    
+    public KernelProcessor() {
+        this(null);
+    }
+    
+    public KernelProcessor(final PreparedRewritePlan preparedRewritePlan) {
+        this.preparedRewritePlan = preparedRewritePlan;
+    }
+    
     /**
      * Generate execution context.
      *
@@ -63,7 +74,12 @@ public final class KernelProcessor {
     private SQLRewriteResult rewrite(final QueryContext queryContext, final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData,
                                      final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext) {
         SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
-        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext, queryContext.getHintValueContext());
+        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext,
+                queryContext.getHintValueContext(), isPreparedRewritePlanEnabled(props) ? preparedRewritePlan : null);
+    }
+    
+    private boolean isPreparedRewritePlanEnabled(final ConfigurationProperties props) {
+        return null != preparedRewritePlan && props.<Boolean>getValue(ConfigurationPropertyKey.SQL_REWRITE_PLAN_CACHE_ENABLED);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -26,7 +26,9 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.storage.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
@@ -39,11 +41,15 @@ import org.junit.jupiter.api.Test;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class KernelProcessorTest {
@@ -61,6 +67,37 @@ class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @Test
+    void assertGenerateExecutionContextWithPreparedRewritePlan() {
+        ShardingSphereDatabase database = createDatabase();
+        PreparedRewritePlan plan = mock(PreparedRewritePlan.class);
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_REWRITE_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString())));
+        ExecutionContext actual = new KernelProcessor(plan).generateExecutionContext(createQueryContext(), database, new RuleMetaData(mockShardingSphereRule()), props, mock(ConnectionContext.class));
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        verify(plan).refresh(database);
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithPreparedRewritePlanDisabled() {
+        PreparedRewritePlan plan = mock(PreparedRewritePlan.class);
+        ExecutionContext actual = new KernelProcessor(plan).generateExecutionContext(
+                createQueryContext(), createDatabase(), new RuleMetaData(mockShardingSphereRule()), new ConfigurationProperties(new Properties()), mock(ConnectionContext.class));
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        verify(plan, never()).refresh(any());
+    }
+    
+    private QueryContext createQueryContext() {
+        SQLStatementContext sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        return new QueryContext(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getStorageUnitMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", mock(StorageUnit.class, RETURNS_DEEP_STUBS)));
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), resourceMetaData, new RuleMetaData(mockShardingSphereRule()), Collections.emptyMap());
+    }
+    
     private Collection<ShardingSphereRule> mockShardingSphereRule() {
         Collection<ShardingSphereRule> result = new LinkedList<>();
         result.add(mock(SQLTranslatorRule.class));
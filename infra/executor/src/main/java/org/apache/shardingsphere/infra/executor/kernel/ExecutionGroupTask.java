@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Execution group task.
+ *
+ * @param <I> type of input value
+ * @param <O> type of return value
+ */
+public final class ExecutionGroupTask<I, O> implements Callable<Collection<O>> {
+    
+    private final ExecutionGroup<I> executionGroup;
+    
+    private final ExecutorCallback<I, O> callback;
+    
+    private final boolean isTrunkThread;
+    
+    @Getter
+    private final String storageUnitName;
+    
+    @Getter
+    private final long createTimeMillis;
+    
+    public ExecutionGroupTask(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final boolean isTrunkThread) {
+        this.executionGroup = executionGroup;
+        this.callback = callback;
+        this.isTrunkThread = isTrunkThread;
+        storageUnitName = getStorageUnitName(executionGroup);
+        createTimeMillis = System.currentTimeMillis();
+    }
+    
+    private String getStorageUnitName(final ExecutionGroup<I> executionGroup) {
+        if (executionGroup.getInputs().isEmpty()) {
+            return "";
+        }
+        I input = executionGroup.getInputs().get(0);
+        return input instanceof SQLExecutionUnit ? ((SQLExecutionUnit) input).getExecutionUnit().getDataSourceName() : "";
+    }
+    
+    @Override
+    public Collection<O> call() throws SQLException {
+        return Thread.currentThread() instanceof ForkJoinWorkerThread ? executeWithManagedBlocker() : execute();
+    }
+    
+    private Collection<O> executeWithManagedBlocker() throws SQLException {
+        // JDBC calls block, let fork join pool compensate parallelism while worker is blocked
+        ExecuteBlocker blocker = new ExecuteBlocker();
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        }
+        if (null != blocker.exception) {
+            throw blocker.exception;
+        }
+        return blocker.result;
+    }
+    
+    /**
+     * Execute inputs of execution group.
+     *
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    public Collection<O> execute() throws SQLException {
+        return callback.execute(executionGroup.getInputs(), isTrunkThread);
+    }
+    
+    private final class ExecuteBlocker implements ManagedBlocker {
+        
+        private Collection<O> result;
+        
+        private SQLException exception;
+        
+        private boolean released;
+        
+        @Override
+        public boolean block() {
+            try {
+                result = execute();
+            } catch (final SQLException ex) {
+                exception = ex;
+            } finally {
+                released = true;
+            }
+            return true;
+        }
+        
+        @Override
+        public boolean isReleasable() {
+            return released;
+        }
+    }
+}
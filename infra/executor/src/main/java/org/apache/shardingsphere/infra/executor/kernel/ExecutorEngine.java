@@ -18,20 +18,27 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.StorageUnitBulkhead;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Executor engine.
@@ -41,8 +48,11 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private final StorageUnitBulkhead bulkhead;
+    
+    private ExecutorEngine(final int executorSize, final KernelExecutorType executorType, final int maxConcurrencyPerStorageUnit) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, "%d", executorType);
+        bulkhead = new StorageUnitBulkhead(maxConcurrencyPerStorageUnit);
     }
     
     /**
@@ -52,7 +62,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, KernelExecutorType.THREAD_POOL, 0);
+    }
+    
+    /**
+     * Create executor engine with configuration properties.
+     *
+     * @param props configuration properties
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final ConfigurationProperties props) {
+        return new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE), props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT));
     }
     
     /**
@@ -78,7 +99,7 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        List<O> result = new ArrayList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
         while (executionGroups.hasNext()) {
             result.addAll(syncExecute(executionGroups.next(), callback));
         }
@@ -87,37 +108,67 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        List<ExecutionGroupFuture<O>> restFutures = new ArrayList<>();
+        BlockingQueue<ExecutionGroupFuture<O>> completedFutures = new LinkedBlockingQueue<>();
+        try {
+            asyncExecute(executionGroups, callback, restFutures, completedFutures);
+            return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restFutures, completedFutures);
+        } finally {
+            restFutures.forEach(each -> each.cancel(false));
+        }
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true);
+        ExecutionGroupTask<I, O> task = new ExecutionGroupTask<>(executionGroup, callback, true);
+        Runnable permitReleaser = acquirePermit(task.getStorageUnitName());
+        try {
+            return task.call();
+        } finally {
+            permitReleaser.run();
+        }
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+    private <I, O> void asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback,
+                                     final List<ExecutionGroupFuture<O>> futures, final BlockingQueue<ExecutionGroupFuture<O>> completedFutures) throws SQLException {
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            ExecutionGroupTask<I, O> task = new ExecutionGroupTask<>(executionGroups.next(), callback, false);
+            // acquire permit in caller thread, so executor threads never wait for busy storage unit
+            ExecutionGroupFuture<O> future = new ExecutionGroupFuture<>(task, futures.size(), acquirePermit(task.getStorageUnitName()), completedFutures);
+            futures.add(future);
+            executorServiceManager.getExecutorService().execute(future);
         }
-        return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false));
+    private Runnable acquirePermit(final String storageUnitName) throws SQLException {
+        try {
+            return bulkhead.acquire(storageUnitName);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        }
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
+    private <O> List<O> getGroupResults(final Collection<O> firstResults, final List<ExecutionGroupFuture<O>> restFutures,
+                                        final BlockingQueue<ExecutionGroupFuture<O>> completedFutures) throws SQLException {
+        // collect results as groups complete to fail fast, then keep results in submission order
+        List<Collection<O>> restResults = new ArrayList<>(Collections.nCopies(restFutures.size(), Collections.emptyList()));
+        int resultSize = firstResults.size();
+        for (int i = 0; i < restFutures.size(); i++) {
             try {
-                result.addAll(each.get());
+                ExecutionGroupFuture<O> future = completedFutures.take();
+                Collection<O> groupResults = future.get();
+                restResults.set(future.getIndex(), groupResults);
+                resultSize += groupResults.size();
             } catch (final InterruptedException ex) {
                 Thread.currentThread().interrupt();
+                break;
             } catch (final ExecutionException ex) {
                 return throwException(ex);
             }
         }
+        List<O> result = new ArrayList<>(resultSize);
+        result.addAll(firstResults);
+        restResults.forEach(result::addAll);
         return result;
     }
     
@@ -132,4 +183,43 @@ public final class ExecutorEngine implements AutoCloseable {
     public void close() {
         executorServiceManager.close();
     }
+    
+    private static final class ExecutionGroupFuture<O> extends FutureTask<Collection<O>> {
+        
+        @Getter
+        private final int index;
+        
+        private final Runnable permitReleaser;
+        
+        private final BlockingQueue<ExecutionGroupFuture<O>> completedFutures;
+        
+        private final AtomicBoolean permitClaimed = new AtomicBoolean(false);
+        
+        ExecutionGroupFuture(final ExecutionGroupTask<?, O> task, final int index, final Runnable permitReleaser, final BlockingQueue<ExecutionGroupFuture<O>> completedFutures) {
+            super(task);
+            this.index = index;
+            this.permitReleaser = permitReleaser;
+            this.completedFutures = completedFutures;
+        }
+        
+        @Override
+        public void run() {
+            if (permitClaimed.compareAndSet(false, true)) {
+                try {
+                    super.run();
+                } finally {
+                    permitReleaser.run();
+                }
+            }
+        }
+        
+        @Override
+        protected void done() {
+            // release permit here only if task is cancelled before running
+            if (permitClaimed.compareAndSet(false, true)) {
+                permitReleaser.run();
+            }
+            completedFutures.add(this);
+        }
+    }
 }
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -42,14 +45,39 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, KernelExecutorType.THREAD_POOL);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final KernelExecutorType executorType) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, executorType));
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final KernelExecutorType executorType) {
+        if (KernelExecutorType.WORK_STEALING == executorType) {
+            return getWorkStealingExecutorService(executorSize, nameFormat);
+        }
+        if (KernelExecutorType.VIRTUAL_THREAD == executorType && ExecutorThreadFactoryBuilder.isVirtualThreadSupported()) {
+            return getVirtualThreadPerTaskExecutorService(nameFormat);
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getWorkStealingExecutorService(final int executorSize, final String nameFormat) {
+        int parallelism = 0 == executorSize ? Runtime.getRuntime().availableProcessors() : executorSize;
+        return new ForkJoinPool(parallelism, ExecutorThreadFactoryBuilder.buildForkJoinWorkerThreadFactory(nameFormat), null, true);
+    }
+    
+    private ExecutorService getVirtualThreadPerTaskExecutorService(final String nameFormat) {
+        // virtual threads are cheap to start and must not be pooled
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.buildVirtual(nameFormat);
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -21,7 +21,12 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Executor thread factory builder.
@@ -31,6 +36,8 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = loadVirtualThreadFactory();
+    
     /**
      * Build thread factory with thread name format.
      * 
@@ -40,4 +47,57 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build fork join worker thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return fork join worker thread factory
+     */
+    public static ForkJoinWorkerThreadFactory buildForkJoinWorkerThreadFactory(final String nameFormat) {
+        AtomicLong count = new AtomicLong();
+        return pool -> {
+            ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            return result;
+        };
+    }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * <p>Virtual thread is available since JDK 21, platform daemon thread factory is built if virtual thread is not supported by current JVM.</p>
+     *
+     * @param nameFormat thread name format
+     * @return thread factory
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        if (null == VIRTUAL_THREAD_FACTORY) {
+            return build(nameFormat);
+        }
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread result = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            return result;
+        };
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isVirtualThreadSupported() {
+        return null != VIRTUAL_THREAD_FACTORY;
+    }
+    
+    private static ThreadFactory loadVirtualThreadFactory() {
+        try {
+            Object virtualThreadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(virtualThreadBuilder);
+        } catch (final NoSuchMethodException | ClassNotFoundException | IllegalAccessException | InvocationTargetException ignored) {
+            return null;
+        }
+    }
 }
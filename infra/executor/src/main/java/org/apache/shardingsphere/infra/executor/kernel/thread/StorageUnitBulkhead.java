@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Storage unit bulkhead, which limits concurrent executions of each storage unit.
+ * 
+ * <p>Permits of a storage unit are kept only while executions hold or wait for them, so dropped storage units leave nothing behind.</p>
+ */
+@RequiredArgsConstructor
+public final class StorageUnitBulkhead {
+    
+    private static final Runnable NO_PERMIT = () -> {
+    };
+    
+    private final int maxConcurrencyPerStorageUnit;
+    
+    private final Map<String, StorageUnitPermits> permits = new ConcurrentHashMap<>();
+    
+    /**
+     * Acquire execution permit of storage unit.
+     *
+     * @param storageUnitName storage unit name
+     * @return releaser of acquired permit
+     * @throws InterruptedException interrupted exception
+     */
+    public Runnable acquire(final String storageUnitName) throws InterruptedException {
+        if (maxConcurrencyPerStorageUnit <= 0) {
+            return NO_PERMIT;
+        }
+        StorageUnitPermits storageUnitPermits = permits.compute(storageUnitName, (key, value) -> (null == value ? new StorageUnitPermits(maxConcurrencyPerStorageUnit) : value).join());
+        try {
+            storageUnitPermits.getSemaphore().acquire();
+        } catch (final InterruptedException ex) {
+            leave(storageUnitName);
+            throw ex;
+        }
+        return () -> {
+            storageUnitPermits.getSemaphore().release();
+            leave(storageUnitName);
+        };
+    }
+    
+    private void leave(final String storageUnitName) {
+        permits.computeIfPresent(storageUnitName, (key, value) -> value.leave() ? null : value);
+    }
+    
+    /**
+     * Get storage unit names with held or awaited permits.
+     *
+     * @return storage unit names
+     */
+    public Collection<String> getStorageUnitNames() {
+        return permits.keySet();
+    }
+    
+    private static final class StorageUnitPermits {
+        
+        @Getter
+        private final Semaphore semaphore;
+        
+        private int holders;
+        
+        StorageUnitPermits(final int maxConcurrency) {
+            semaphore = new Semaphore(maxConcurrency, true);
+        }
+        
+        StorageUnitPermits join() {
+            holders++;
+            return this;
+        }
+        
+        boolean leave() {
+            return 0 == --holders;
+        }
+    }
+}
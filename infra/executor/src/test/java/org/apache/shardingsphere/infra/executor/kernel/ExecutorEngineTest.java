@@ -17,22 +17,38 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +104,85 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertParallelExecuteWithWorkStealingExecutorAndBulkhead() throws SQLException {
+        ExecutorEngine workStealingExecutorEngine = ExecutorEngine.createExecutorEngine(new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "4"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE.getKey(), KernelExecutorType.WORK_STEALING.name()),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT.getKey(), "1"))));
+        try {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (String each : Arrays.asList("foo", "bar", "baz", "qux")) {
+                executionGroups.add(new ExecutionGroup<>(Collections.singletonList(each)));
+            }
+            ExecutorCallback<Object, String> callback = (inputs, isTrunkThread) -> inputs.stream().map(String::valueOf).collect(Collectors.toList());
+            List<String> actual = workStealingExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups, mock(ExecutionGroupReportContext.class)), null, callback, false);
+            assertThat(actual, is(Arrays.asList("foo", "bar", "baz", "qux")));
+        } finally {
+            workStealingExecutorEngine.close();
+        }
+    }
+    
+    @Test
+    void assertParallelExecuteFailedAndCancelRestGroups() {
+        ExecutorEngine singleThreadExecutorEngine = ExecutorEngine.createExecutorEngine(new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "1"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT.getKey(), "3"))));
+        try {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (String each : Arrays.asList("fail", "block", "rest")) {
+                executionGroups.add(new ExecutionGroup<>(Collections.singletonList(each)));
+            }
+            CountDownLatch blockLatch = new CountDownLatch(1);
+            AtomicBoolean restExecuted = new AtomicBoolean(false);
+            ExecutorCallback<Object, String> callback = (inputs, isTrunkThread) -> executeFailedOrBlocked(inputs, blockLatch, restExecuted);
+            assertThrows(SQLException.class,
+                    () -> singleThreadExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups, mock(ExecutionGroupReportContext.class)), null, callback, false));
+            blockLatch.countDown();
+            Awaitility.await().atMost(1L, TimeUnit.MINUTES).until(() -> singleThreadExecutorEngine.getBulkhead().getStorageUnitNames().isEmpty());
+            assertFalse(restExecuted.get());
+        } finally {
+            singleThreadExecutorEngine.close();
+        }
+    }
+    
+    private Collection<String> executeFailedOrBlocked(final Collection<Object> inputs, final CountDownLatch blockLatch, final AtomicBoolean restExecuted) throws SQLException {
+        String input = String.valueOf(inputs.iterator().next());
+        if ("fail".equals(input)) {
+            throw new SQLException("failed");
+        }
+        if ("block".equals(input)) {
+            Awaitility.await().atMost(1L, TimeUnit.MINUTES).until(() -> 0L == blockLatch.getCount());
+        }
+        restExecuted.set("rest".equals(input));
+        return Collections.singletonList(input);
+    }
+    
+    @Test
+    void assertParallelExecuteWithBulkhead() throws SQLException {
+        ExecutorEngine bulkheadExecutorEngine = ExecutorEngine.createExecutorEngine(new ConfigurationProperties(PropertiesBuilder.build(
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "4"),
+                new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_STORAGE_UNIT.getKey(), "2"))));
+        try {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (int i = 0; i < 8; i++) {
+                executionGroups.add(new ExecutionGroup<>(Collections.singletonList(i)));
+            }
+            AtomicInteger concurrency = new AtomicInteger();
+            AtomicInteger maxConcurrency = new AtomicInteger();
+            ExecutorCallback<Object, Object> callback = (inputs, isTrunkThread) -> {
+                maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+                Awaitility.await().pollDelay(10L, TimeUnit.MILLISECONDS).until(() -> true);
+                concurrency.decrementAndGet();
+                return inputs;
+            };
+            List<Object> actual = bulkheadExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups, mock(ExecutionGroupReportContext.class)), null, callback, false);
+            assertThat(actual, is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7)));
+            assertTrue(maxConcurrency.get() <= 2);
+            assertTrue(bulkheadExecutorEngine.getBulkhead().getStorageUnitNames().isEmpty());
+        } finally {
+            bulkheadExecutorEngine.close();
+        }
+    }
 }
@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.TransmittableThreadLocal;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -50,6 +52,16 @@ class ExecutorServiceManagerTest {
         assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
     }
     
+    @Test
+    void assertSubmitWithWorkStealingExecutorService() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(2, "%d", KernelExecutorType.WORK_STEALING);
+        try {
+            assertThat(executorServiceManager.getExecutorService().submit(() -> Thread.currentThread().getName().startsWith("ShardingSphere-")).get(), is(true));
+        } finally {
+            executorServiceManager.close();
+        }
+    }
+    
     private void assertFinished(final AtomicBoolean finished) {
         Awaitility.await().atMost(1L, TimeUnit.MINUTES).pollInterval(100L, TimeUnit.MILLISECONDS).until(finished::get);
     }
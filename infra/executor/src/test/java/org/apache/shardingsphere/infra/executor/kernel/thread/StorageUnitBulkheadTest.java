@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageUnitBulkheadTest {
+    
+    @Test
+    void assertAcquireWithoutLimit() throws InterruptedException {
+        StorageUnitBulkhead bulkhead = new StorageUnitBulkhead(0);
+        bulkhead.acquire("foo_ds").run();
+        bulkhead.acquire("foo_ds").run();
+        assertTrue(bulkhead.getStorageUnitNames().isEmpty());
+    }
+    
+    @Test
+    void assertAcquireBlockedUntilReleased() throws InterruptedException {
+        StorageUnitBulkhead bulkhead = new StorageUnitBulkhead(1);
+        Runnable fooPermitReleaser = bulkhead.acquire("foo_ds");
+        Runnable barPermitReleaser = bulkhead.acquire("bar_ds");
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.submit(() -> {
+                bulkhead.acquire("foo_ds").run();
+                acquired.set(true);
+                latch.countDown();
+                return null;
+            });
+            assertThat(latch.await(100L, TimeUnit.MILLISECONDS), is(false));
+            assertThat(acquired.get(), is(false));
+            fooPermitReleaser.run();
+            assertThat(latch.await(1L, TimeUnit.MINUTES), is(true));
+            assertThat(acquired.get(), is(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+        barPermitReleaser.run();
+        assertTrue(bulkhead.getStorageUnitNames().isEmpty());
+    }
+    
+    @Test
+    void assertAcquireInterrupted() throws InterruptedException {
+        StorageUnitBulkhead bulkhead = new StorageUnitBulkhead(1);
+        Runnable permitReleaser = bulkhead.acquire("foo_ds");
+        assertThrows(InterruptedException.class, () -> {
+            Thread.currentThread().interrupt();
+            bulkhead.acquire("foo_ds");
+        });
+        assertThat(bulkhead.getStorageUnitNames(), is(Collections.singleton("foo_ds")));
+        permitReleaser.run();
+        assertTrue(bulkhead.getStorageUnitNames().isEmpty());
+    }
+}
@@ -59,4 +59,9 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.Blob;
@@ -61,6 +63,10 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
         }
     }
     
+    protected MemoryMergedResult(final Iterator<MemoryQueryResultRow> memoryResultSetRows) {
+        this.memoryResultSetRows = memoryResultSetRows;
+    }
+    
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
@@ -102,4 +108,15 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        if (memoryResultSetRows instanceof Closeable) {
+            try {
+                ((Closeable) memoryResultSetRows).close();
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+    }
 }
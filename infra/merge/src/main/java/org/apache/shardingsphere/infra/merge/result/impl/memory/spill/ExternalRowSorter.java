@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * External row sorter.
+ *
+ * <p>Rows are buffered in memory. Once the buffer reaches the rows threshold of {@link MergeSpillConfiguration},
+ * it is sorted and spilled to disk as one sorted run. Sorted runs and the remaining buffer are merged back lazily with a k-way merge.</p>
+ */
+public final class ExternalRowSorter implements Closeable {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final MergeSpillConfiguration spillConfig;
+    
+    private final List<MemoryQueryResultRow> buffer = new ArrayList<>();
+    
+    private final List<MergeSpillFile> spillFiles = new LinkedList<>();
+    
+    @Getter
+    private long rowCount;
+    
+    @Getter
+    private long spilledBytes;
+    
+    public ExternalRowSorter(final Comparator<MemoryQueryResultRow> comparator, final MergeSpillConfiguration spillConfig) {
+        this.comparator = comparator;
+        this.spillConfig = spillConfig;
+    }
+    
+    /**
+     * Add memory query result row.
+     *
+     * @param row memory query result row
+     * @throws SQLException SQL exception
+     */
+    public void add(final MemoryQueryResultRow row) throws SQLException {
+        buffer.add(row);
+        rowCount++;
+        if (spillConfig.isEnabled() && buffer.size() >= spillConfig.getRowsThreshold()) {
+            spill();
+        }
+    }
+    
+    private void spill() throws SQLException {
+        buffer.sort(comparator);
+        try {
+            MergeSpillFile spillFile = new MergeSpillFile(spillConfig.getDirectory());
+            spillFiles.add(spillFile);
+            for (MemoryQueryResultRow each : buffer) {
+                spillFile.write(each);
+            }
+            spilledBytes += spillFile.finishWriting();
+        } catch (final IOException ex) {
+            SQLException result = new SQLException(ex);
+            try {
+                close();
+            } catch (final IOException closeEx) {
+                result.addSuppressed(closeEx);
+            }
+            throw result;
+        }
+        buffer.clear();
+    }
+    
+    /**
+     * Judge whether any row has been spilled to disk.
+     *
+     * @return spilled or not
+     */
+    public boolean isSpilled() {
+        return !spillFiles.isEmpty();
+    }
+    
+    /**
+     * Get sorted iterator of all added rows.
+     *
+     * <p>Spill files are deleted once the iterator is exhausted, or once the iterator is closed if it is {@link Closeable}.</p>
+     *
+     * @return sorted iterator
+     */
+    public Iterator<MemoryQueryResultRow> sortedIterator() {
+        buffer.sort(comparator);
+        return spillFiles.isEmpty() ? buffer.iterator() : new SpilledRowsMergeIterator(comparator, spillFiles, buffer.iterator());
+    }
+    
+    /**
+     * Close and delete all spill files.
+     *
+     * @throws IOException IO exception
+     */
+    @Override
+    public void close() throws IOException {
+        MergeSpillFile.deleteAll(spillFiles);
+    }
+}
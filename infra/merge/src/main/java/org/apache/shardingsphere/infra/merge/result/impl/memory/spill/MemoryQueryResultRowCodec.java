@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Compact binary codec of memory query result row.
+ *
+ * <p>Each cell is written as one type tag followed by its value. Common JDBC value types have dedicated encodings,
+ * other serializable values fall back to Java serialization.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryQueryResultRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte INTEGER = 1;
+    
+    private static final byte LONG = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte BYTE = 4;
+    
+    private static final byte BOOLEAN = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte BIG_INTEGER = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte SERIALIZABLE = 15;
+    
+    /**
+     * Encode memory query result row.
+     *
+     * @param row memory query result row
+     * @param output data output
+     * @throws IOException IO exception
+     */
+    public static void encode(final MemoryQueryResultRow row, final DataOutput output) throws IOException {
+        output.writeInt(row.getColumnCount());
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            encodeValue(row.getCell(i), output);
+        }
+    }
+    
+    private static void encodeValue(final Object value, final DataOutput output) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray(), output);
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray(), output);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), output);
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes((byte[]) value, output);
+        } else if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(serialize(value), output);
+        }
+    }
+    
+    private static void writeBytes(final byte[] value, final DataOutput output) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        if (!(value instanceof Serializable)) {
+            throw new NotSerializableException(value.getClass().getName());
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Decode memory query result row.
+     *
+     * @param input data input
+     * @return memory query result row
+     * @throws IOException IO exception
+     */
+    public static MemoryQueryResultRow decode(final DataInput input) throws IOException {
+        Object[] data = new Object[input.readInt()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = decodeValue(input);
+        }
+        return new MemoryQueryResultRow(data);
+    }
+    
+    private static Object decodeValue(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(input);
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new IOException(String.format("Unknown spilled value type `%s`.", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+import java.io.File;
+
+/**
+ * Merge spill configuration.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MergeSpillConfiguration {
+    
+    private final int rowsThreshold;
+    
+    private final File directory;
+    
+    public MergeSpillConfiguration(final ConfigurationProperties props) {
+        rowsThreshold = props.getValue(ConfigurationPropertyKey.MERGE_SPILL_ROWS_THRESHOLD);
+        String directoryName = props.getValue(ConfigurationPropertyKey.MERGE_SPILL_DIRECTORY);
+        directory = new File(Strings.isNullOrEmpty(directoryName) ? System.getProperty("java.io.tmpdir") : directoryName);
+    }
+    
+    /**
+     * Judge whether spill is enabled.
+     *
+     * @return spill is enabled or not
+     */
+    public boolean isEnabled() {
+        return rowsThreshold > 0;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collection;
+
+/**
+ * Merge spill file, which holds one sorted run of memory query result rows.
+ */
+public final class MergeSpillFile {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    private final DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    private long writtenRowCount;
+    
+    private long readRowCount;
+    
+    public MergeSpillFile(final File directory) throws IOException {
+        file = File.createTempFile("shardingsphere-merge-", ".spill", directory);
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath()), BUFFER_SIZE));
+    }
+    
+    /**
+     * Write memory query result row.
+     *
+     * @param row memory query result row
+     * @throws IOException IO exception
+     */
+    public void write(final MemoryQueryResultRow row) throws IOException {
+        MemoryQueryResultRowCodec.encode(row, output);
+        writtenRowCount++;
+    }
+    
+    /**
+     * Finish writing.
+     *
+     * @return spilled bytes
+     * @throws IOException IO exception
+     */
+    public long finishWriting() throws IOException {
+        output.close();
+        return file.length();
+    }
+    
+    /**
+     * Judge whether has next row to read.
+     *
+     * @return has next row or not
+     */
+    public boolean hasNext() {
+        return readRowCount < writtenRowCount;
+    }
+    
+    /**
+     * Read next memory query result row.
+     *
+     * @return memory query result row
+     * @throws IOException IO exception
+     */
+    public MemoryQueryResultRow next() throws IOException {
+        if (null == input) {
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath()), BUFFER_SIZE));
+        }
+        readRowCount++;
+        return MemoryQueryResultRowCodec.decode(input);
+    }
+    
+    /**
+     * Close and delete spill file.
+     *
+     * @throws IOException IO exception
+     */
+    public void delete() throws IOException {
+        try {
+            output.close();
+            if (null != input) {
+                input.close();
+            }
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+    
+    /**
+     * Close and delete all spill files.
+     *
+     * @param spillFiles spill files to be deleted, which will be cleared after deleted
+     * @throws IOException IO exception of the first failed spill file, other spill files are still deleted
+     */
+    public static void deleteAll(final Collection<MergeSpillFile> spillFiles) throws IOException {
+        IOException result = null;
+        for (MergeSpillFile each : spillFiles) {
+            try {
+                each.delete();
+            } catch (final IOException ex) {
+                if (null == result) {
+                    result = ex;
+                } else {
+                    result.addSuppressed(ex);
+                }
+            }
+        }
+        spillFiles.clear();
+        if (null != result) {
+            throw result;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * K-way merge iterator of spilled sorted runs and in-memory sorted rows.
+ */
+final class SpilledRowsMergeIterator implements Iterator<MemoryQueryResultRow>, Closeable {
+    
+    private final Collection<MergeSpillFile> spillFiles;
+    
+    private final Queue<RunCursor> cursors;
+    
+    SpilledRowsMergeIterator(final Comparator<MemoryQueryResultRow> comparator, final Collection<MergeSpillFile> spillFiles, final Iterator<MemoryQueryResultRow> memoryRows) {
+        this.spillFiles = spillFiles;
+        cursors = new PriorityQueue<>(spillFiles.size() + 1, (o1, o2) -> {
+            int result = comparator.compare(o1.head, o2.head);
+            return 0 == result ? Integer.compare(o1.order, o2.order) : result;
+        });
+        int order = 0;
+        try {
+            for (MergeSpillFile each : spillFiles) {
+                offer(new RunCursor(each, null, order++));
+            }
+            offer(new RunCursor(null, memoryRows, order));
+        } catch (final UncheckedIOException ex) {
+            try {
+                close();
+            } catch (final IOException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            throw ex;
+        }
+    }
+    
+    private void offer(final RunCursor cursor) {
+        if (cursor.advance()) {
+            cursors.offer(cursor);
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (cursors.isEmpty()) {
+            try {
+                close();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public MemoryQueryResultRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        RunCursor cursor = cursors.poll();
+        MemoryQueryResultRow result = cursor.head;
+        offer(cursor);
+        return result;
+    }
+    
+    /**
+     * Close and delete all spill files, no matter whether rows are consumed or not.
+     *
+     * @throws IOException IO exception
+     */
+    @Override
+    public void close() throws IOException {
+        cursors.clear();
+        MergeSpillFile.deleteAll(spillFiles);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RunCursor {
+        
+        private final MergeSpillFile spillFile;
+        
+        private final Iterator<MemoryQueryResultRow> memoryRows;
+        
+        private final int order;
+        
+        private MemoryQueryResultRow head;
+        
+        private boolean advance() {
+            if (null == spillFile) {
+                head = memoryRows.hasNext() ? memoryRows.next() : null;
+                return null != head;
+            }
+            if (!spillFile.hasNext()) {
+                return false;
+            }
+            try {
+                head = spillFile.next();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return true;
+        }
+    }
+}
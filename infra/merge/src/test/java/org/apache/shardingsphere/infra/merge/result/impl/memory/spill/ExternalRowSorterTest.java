@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalRowSorterTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = Comparator.comparing(row -> (Integer) row.getCell(1));
+    
+    @Test
+    void assertSortInMemory(@TempDir final File spillDirectory) throws SQLException {
+        ExternalRowSorter sorter = new ExternalRowSorter(comparator, new MergeSpillConfiguration(0, spillDirectory));
+        for (int each : new int[]{3, 1, 2}) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{each, "foo_" + each}));
+        }
+        assertFalse(sorter.isSpilled());
+        assertSorted(sorter.sortedIterator(), 3);
+    }
+    
+    @Test
+    void assertSortWithSpill(@TempDir final File spillDirectory) throws SQLException {
+        ExternalRowSorter sorter = new ExternalRowSorter(comparator, new MergeSpillConfiguration(3, spillDirectory));
+        for (int each : new int[]{9, 4, 7, 1, 8, 2, 6, 3, 5, 10}) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{each, "foo_" + each}));
+        }
+        assertTrue(sorter.isSpilled());
+        assertTrue(sorter.getSpilledBytes() > 0L);
+        assertThat(sorter.getRowCount(), is(10L));
+        assertThat(spillDirectory.list().length, is(3));
+        assertSorted(sorter.sortedIterator(), 10);
+        assertThat(spillDirectory.list().length, is(0));
+    }
+    
+    private void assertSorted(final Iterator<MemoryQueryResultRow> actual, final int expectedCount) {
+        for (int i = 1; i <= expectedCount; i++) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat(row.getCell(1), is(i));
+            assertThat(row.getCell(2), is("foo_" + i));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MemoryQueryResultRowCodecTest {
+    
+    @Test
+    void assertEncodeAndDecode() throws IOException {
+        Object[] data = {null, 1, 2L, (short) 3, (byte) 4, true, 5.5F, 6.6D, new BigDecimal("7.77"), BigInteger.TEN, "foo", new byte[]{1, 2},
+                new Date(1000L), new Time(2000L), new Timestamp(3000L), LocalDate.of(2023, 1, 1)};
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        MemoryQueryResultRowCodec.encode(new MemoryQueryResultRow(data), new DataOutputStream(outputStream));
+        MemoryQueryResultRow actual = MemoryQueryResultRowCodec.decode(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+        assertThat(actual.getColumnCount(), is(data.length));
+        assertNull(actual.getCell(1));
+        for (int i = 2; i <= data.length; i++) {
+            if (data[i - 1] instanceof byte[]) {
+                assertThat((byte[]) actual.getCell(i), is((byte[]) data[i - 1]));
+            } else {
+                assertThat(actual.getCell(i), is(data[i - 1]));
+            }
+        }
+    }
+}
@@ -37,7 +37,12 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                         final boolean isParseComment, final boolean isNormalizeLiteral) {
+        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isNormalizeLiteral);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
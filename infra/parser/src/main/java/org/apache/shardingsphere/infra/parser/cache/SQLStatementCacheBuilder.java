@@ -42,7 +42,7 @@ public final class SQLStatementCacheBuilder {
      */
     public static LoadingCache<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
                                                            final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
+        return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize()).recordStats()
                 .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
     }
 }
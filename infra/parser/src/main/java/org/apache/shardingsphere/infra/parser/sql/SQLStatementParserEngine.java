@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
@@ -42,17 +43,28 @@ public final class SQLStatementParserEngine {
     @Getter
     private final boolean isParseComment;
     
+    @Getter
+    private final boolean isNormalizeLiteral;
+    
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                    final boolean isParseComment, final boolean isNormalizeLiteral) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment, isNormalizeLiteral);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
         this.isParseComment = isParseComment;
+        this.isNormalizeLiteral = isNormalizeLiteral;
     }
     
     /**
      * Parse to SQL statement.
      *
+     * <p>SQL statement cache is keyed by SQL, SQL parsed without it goes through literal normalized parse tree cache if literal normalizing is enabled.</p>
+     *
      * @param sql SQL to be parsed
      * @param useCache whether to use cache
      * @return SQL statement
@@ -60,4 +72,22 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Get SQL statement cache statistics.
+     *
+     * @return SQL statement cache statistics
+     */
+    public CacheStats getSqlStatementCacheStats() {
+        return sqlStatementCache.stats();
+    }
+    
+    /**
+     * Get literal normalized parse tree cache statistics.
+     *
+     * @return literal normalized parse tree cache statistics
+     */
+    public CacheStats getLiteralNormalizedCacheStats() {
+        return sqlStatementParserExecutor.getLiteralNormalizedCacheStats();
+    }
 }
@@ -44,12 +44,27 @@ public final class SQLStatementParserEngineFactory {
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType,
                                                                        final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        return getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    /**
+     * Get SQL statement parser engine.
+     *
+     * @param databaseType database type
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param parseTreeCacheOption parse tree cache option
+     * @param isParseComment is parse comment
+     * @param isNormalizeLiteral is normalize literal
+     * @return SQL statement parser engine
+     */
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                                       final boolean isParseComment, final boolean isNormalizeLiteral) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isNormalizeLiteral));
         } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)
-                || result.isParseComment() != isParseComment) {
-            result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+                || result.isParseComment() != isParseComment || result.isNormalizeLiteral() != isNormalizeLiteral) {
+            result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isNormalizeLiteral);
             ENGINES.put(databaseType, result);
         }
         return result;
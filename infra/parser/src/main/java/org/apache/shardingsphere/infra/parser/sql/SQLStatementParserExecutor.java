@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
@@ -32,9 +33,16 @@ public final class SQLStatementParserExecutor {
     
     private final SQLStatementVisitorEngine visitorEngine;
     
+    private final boolean isNormalizeLiteral;
+    
     public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
+        this(databaseType, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment, final boolean isNormalizeLiteral) {
+        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption, isNormalizeLiteral);
         visitorEngine = new SQLStatementVisitorEngine(databaseType, isParseComment);
+        this.isNormalizeLiteral = isNormalizeLiteral;
     }
     
     /**
@@ -44,6 +52,15 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return visitorEngine.visit(isNormalizeLiteral ? parserEngine.parseWithLiteralNormalizedCache(sql) : parserEngine.parse(sql, false));
+    }
+    
+    /**
+     * Get literal normalized parse tree cache statistics.
+     *
+     * @return literal normalized parse tree cache statistics
+     */
+    public CacheStats getLiteralNormalizedCacheStats() {
+        return parserEngine.getLiteralNormalizedParseTreeCacheStats();
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.ddl.column.ColumnDefinitionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.CommentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.AlterTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLStatementParserEngineTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertParseWithLiteralNormalizedCache() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(2000, 65535L), new CacheOption(128, 1024L), true, true);
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'", false);
+        String sql = "/* trace */ SELECT * FROM t_order WHERE order_id = 1000 AND status = 'finished'";
+        SelectStatement actual = (SelectStatement) engine.parse(sql, false);
+        BinaryOperationExpression expr = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        LiteralExpressionSegment orderId = (LiteralExpressionSegment) ((BinaryOperationExpression) expr.getLeft()).getRight();
+        assertThat(orderId.getLiterals(), is(1000));
+        assertThat(orderId.getStartIndex(), is(sql.indexOf("1000")));
+        assertThat(orderId.getStopIndex(), is(sql.indexOf("1000") + 3));
+        LiteralExpressionSegment status = (LiteralExpressionSegment) ((BinaryOperationExpression) expr.getRight()).getRight();
+        assertThat(status.getLiterals(), is("finished"));
+        assertThat(status.getStopIndex(), is(sql.length() - 1));
+        assertThat(expr.getText(), is("order_id = 1000 AND status = 'finished'"));
+        CommentSegment comment = actual.getCommentSegments().iterator().next();
+        assertThat(comment.getText(), is("/* trace */"));
+        assertThat(engine.getLiteralNormalizedCacheStats().hitCount(), is(1L));
+        assertThat(engine.getLiteralNormalizedCacheStats().missCount(), is(1L));
+    }
+    
+    @Test
+    void assertParseLabeledContextWithLiteralNormalizedCache() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false, true);
+        engine.parse("ALTER TABLE t_order ADD COLUMN status VARCHAR(10)", false);
+        AlterTableStatement actual = (AlterTableStatement) engine.parse("ALTER TABLE t_order ADD COLUMN status VARCHAR(255)", false);
+        ColumnDefinitionSegment columnDefinition = actual.getAddColumnDefinitions().iterator().next().getColumnDefinitions().iterator().next();
+        assertThat(columnDefinition.getColumnName().getIdentifier().getValue(), is("status"));
+        assertThat(columnDefinition.getDataType().getDataLength().getPrecision(), is(255));
+        assertThat(engine.getLiteralNormalizedCacheStats().hitCount(), is(1L));
+    }
+    
+    @Test
+    void assertParseDifferentStructureWithLiteralNormalizedCache() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false, true);
+        engine.parse("SELECT * FROM t_order WHERE order_id IN (1, 2)", false);
+        engine.parse("SELECT * FROM t_order WHERE order_id IN (1)", false);
+        engine.parse("SELECT * FROM t_order WHERE order_id IN ('1', '2')", false);
+        assertThat(engine.getLiteralNormalizedCacheStats().hitCount(), is(0L));
+        assertThat(engine.getLiteralNormalizedCacheStats().missCount(), is(3L));
+    }
+    
+    @Test
+    void assertParseWithSQLStatementCache() {
+        SQLStatementParserEngine engine = new SQLStatementParserEngine(databaseType, new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false);
+        engine.parse("SELECT * FROM t_order WHERE order_id = ?", true);
+        engine.parse("SELECT * FROM t_order WHERE order_id = ?", true);
+        assertThat(engine.getSqlStatementCacheStats().hitCount(), is(1L));
+        assertThat(engine.getLiteralNormalizedCacheStats().requestCount(), is(0L));
+    }
+}
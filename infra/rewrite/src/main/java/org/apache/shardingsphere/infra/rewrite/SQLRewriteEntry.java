@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -74,10 +75,32 @@ public final class SQLRewriteEntry {
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> params, final SQLStatementContext sqlStatementContext,
                                     final RouteContext routeContext, final ConnectionContext connectionContext, final HintValueContext hintValueContext) {
+        return rewrite(sql, params, sqlStatementContext, routeContext, connectionContext, hintValueContext, null);
+    }
+    
+    /**
+     * Rewrite.
+     *
+     * @param sql SQL
+     * @param params SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param connectionContext connection context
+     * @param hintValueContext hint value context
+     * @param preparedRewritePlan prepared rewrite plan of prepared statement, null if rewritten SQL should not be reused
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> params, final SQLStatementContext sqlStatementContext, final RouteContext routeContext,
+                                    final ConnectionContext connectionContext, final HintValueContext hintValueContext, final PreparedRewritePlan preparedRewritePlan) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, params, sqlStatementContext, routeContext, connectionContext, hintValueContext);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
         DatabaseType protocolType = database.getProtocolType();
         Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnitMetaData().getStorageUnits();
+        if (null != preparedRewritePlan && !hintValueContext.isSkipSQLRewrite() && !routeContext.getRouteUnits().isEmpty()) {
+            preparedRewritePlan.refresh(database);
+            return new RouteSQLRewriteEngine(rule, protocolType, storageUnits).rewrite(sqlRewriteContext, routeContext, preparedRewritePlan);
+        }
+        sqlRewriteContext.generateSQLTokens();
         return routeContext.getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine(rule, protocolType, storageUnits).rewrite(sqlRewriteContext)
                 : new RouteSQLRewriteEngine(rule, protocolType, storageUnits).rewrite(sqlRewriteContext, routeContext);
@@ -87,7 +110,6 @@ public final class SQLRewriteEntry {
                                                       final RouteContext routeContext, final ConnectionContext connectionContext, final HintValueContext hintValueContext) {
         SQLRewriteContext result = new SQLRewriteContext(database, sqlStatementContext, sql, params, connectionContext, hintValueContext);
         decorate(decorators, result, routeContext, hintValueContext);
-        result.generateSQLTokens();
         return result;
     }
     
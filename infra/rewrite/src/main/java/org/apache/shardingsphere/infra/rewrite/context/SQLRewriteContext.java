@@ -84,6 +84,15 @@ public final class SQLRewriteContext {
         this.sqlTokenGenerators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether SQL tokens are cacheable.
+     *
+     * @return SQL tokens are cacheable or not
+     */
+    public boolean isSQLTokensCacheable() {
+        return sqlTokenGenerators.isCacheable();
+    }
+    
     /**
      * Generate SQL tokens.
      */
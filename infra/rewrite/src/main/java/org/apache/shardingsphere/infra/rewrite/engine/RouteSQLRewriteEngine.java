@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.resource.storage.StorageUnit;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
@@ -64,25 +65,60 @@ public final class RouteSQLRewriteEngine {
      * @return SQL rewrite result
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        return rewrite(sqlRewriteContext, routeContext, buildRouteSQLs(sqlRewriteContext, routeContext.getRouteUnits()));
+    }
+    
+    /**
+     * Rewrite SQL and parameters with prepared rewrite plan.
+     * 
+     * <p>SQL tokens of SQL rewrite context are generated only if rewritten SQL of route units is absent in prepared rewrite plan.</p>
+     *
+     * @param sqlRewriteContext SQL rewrite context without generated SQL tokens
+     * @param routeContext route context
+     * @param preparedRewritePlan prepared rewrite plan
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final PreparedRewritePlan preparedRewritePlan) {
+        if (!preparedRewritePlan.isReusable(sqlRewriteContext, routeContext)) {
+            sqlRewriteContext.generateSQLTokens();
+            return rewrite(sqlRewriteContext, routeContext);
+        }
+        Map<RouteUnit, String> routeSQLs = preparedRewritePlan.getRouteSQLs(routeContext.getRouteUnits(), () -> {
+            sqlRewriteContext.generateSQLTokens();
+            return buildRouteSQLs(sqlRewriteContext, routeContext.getRouteUnits());
+        });
+        return rewrite(sqlRewriteContext, routeContext, routeSQLs);
+    }
+    
+    private RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Map<RouteUnit, String> routeSQLs) {
         Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
             if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), routeUnits)) {
-                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits));
+                sqlRewriteUnits.put(routeUnits.iterator().next(), createSQLRewriteUnit(sqlRewriteContext, routeContext, routeUnits, routeSQLs));
             } else {
-                addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits);
+                addSQLRewriteUnits(sqlRewriteUnits, sqlRewriteContext, routeContext, routeUnits, routeSQLs);
             }
         }
         return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits));
     }
     
-    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+    private Map<RouteUnit, String> buildRouteSQLs(final SQLRewriteContext sqlRewriteContext, final Collection<RouteUnit> routeUnits) {
+        Map<RouteUnit, String> result = new LinkedHashMap<>(routeUnits.size(), 1F);
+        for (RouteUnit each : routeUnits) {
+            result.put(each, new RouteSQLBuilder(sqlRewriteContext, each).toSQL());
+        }
+        return result;
+    }
+    
+    private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits,
+                                                final Map<RouteUnit, String> routeSQLs) {
         Collection<String> sql = new LinkedList<>();
         List<Object> params = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
-            sql.add(SQLUtils.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
+            sql.add(SQLUtils.trimSemicolon(routeSQLs.get(each)));
             if (containsDollarMarker && !params.isEmpty()) {
                 continue;
             }
@@ -92,9 +128,9 @@ public final class RouteSQLRewriteEngine {
     }
     
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
-                                    final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+                                    final RouteContext routeContext, final Collection<RouteUnit> routeUnits, final Map<RouteUnit, String> routeSQLs) {
         for (RouteUnit each : routeUnits) {
-            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            sqlRewriteUnits.put(each, new SQLRewriteUnit(routeSQLs.get(each), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
         }
     }
     
@@ -122,7 +158,7 @@ public final class RouteSQLRewriteEngine {
     
     private List<Object> getParameters(final ParameterBuilder paramBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
         if (paramBuilder instanceof StandardParameterBuilder) {
-            return paramBuilder.getParameters();
+            return ((StandardParameterBuilder) paramBuilder).getParameters(routeUnit);
         }
         return routeContext.getOriginalDataNodes().isEmpty()
                 ? ((GroupedParameterBuilder) paramBuilder).getParameters()
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine.plan;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Prepared rewrite plan.
+ *
+ * <p>Prepared statement binds SQL statement context once and reuses it for every execution, so SQL tokens of the statement are the same for the same route units
+ * unless they are generated from parameters or connection context. The plan is owned by a prepared statement and memoizes rewritten SQL of every route unit by route units,
+ * sharding condition evaluation and parameter rewriting still run for every execution.</p>
+ */
+public final class PreparedRewritePlan {
+    
+    private static final int MAX_ROUTE_SIZE = 1024;
+    
+    private final Map<Collection<RouteUnit>, Map<RouteUnit, String>> routeSQLs = new ConcurrentHashMap<>();
+    
+    private volatile ShardingSphereDatabase database;
+    
+    /**
+     * Refresh database of plan.
+     *
+     * <p>Rewritten SQL is discarded if rules or storage units have been altered since it was memoized.</p>
+     *
+     * @param database database
+     */
+    public synchronized void refresh(final ShardingSphereDatabase database) {
+        if (this.database != database) {
+            routeSQLs.clear();
+            this.database = database;
+        }
+    }
+    
+    /**
+     * Judge whether rewritten SQL of route units is reusable.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @return reusable or not
+     */
+    public boolean isReusable(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+        if (sqlRewriteContext.getParameters().isEmpty() || !sqlRewriteContext.isSQLTokensCacheable()) {
+            return false;
+        }
+        SQLStatementContext sqlStatementContext = sqlRewriteContext.getSqlStatementContext();
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            return isReusable((InsertStatementContext) sqlStatementContext, routeContext);
+        }
+        // offset and row count tokens are revised with offset parameter when query is routed to multiple route units
+        return routeContext.isSingleRouting() || !(sqlStatementContext instanceof SelectStatementContext) || !((SelectStatementContext) sqlStatementContext).getPaginationContext().isHasPagination();
+    }
+    
+    private boolean isReusable(final InsertStatementContext sqlStatementContext, final RouteContext routeContext) {
+        // insert values are distributed to route units by parameters
+        if (!routeContext.isSingleRouting() && !routeContext.getOriginalDataNodes().isEmpty()) {
+            return false;
+        }
+        // generated keys of insert values without parameter are rewritten as literals
+        for (List<Object> each : sqlStatementContext.getGroupedParameters()) {
+            if (each.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get rewritten SQL of route units.
+     *
+     * @param routeUnits route units
+     * @param routeSQLsSupplier supplier to rewrite SQL of route units if absent
+     * @return rewritten SQL of route units
+     */
+    public Map<RouteUnit, String> getRouteSQLs(final Collection<RouteUnit> routeUnits, final Supplier<Map<RouteUnit, String>> routeSQLsSupplier) {
+        Map<RouteUnit, String> result = routeSQLs.get(routeUnits);
+        if (null != result) {
+            return result;
+        }
+        result = routeSQLsSupplier.get();
+        if (routeSQLs.size() < MAX_ROUTE_SIZE) {
+            routeSQLs.put(new HashSet<>(routeUnits), result);
+        }
+        return result;
+    }
+}
@@ -20,9 +20,13 @@ package org.apache.shardingsphere.infra.rewrite.parameter.builder.impl;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -43,6 +47,8 @@ public final class StandardParameterBuilder implements ParameterBuilder {
     
     private final Map<Integer, Object> replacedIndexAndParameters = new LinkedHashMap<>();
     
+    private final Map<RouteUnit, Collection<Integer>> removedRouteUnitIndexes = new HashMap<>();
+    
     /**
      * Add added parameters.
      * 
@@ -63,8 +69,32 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         replacedIndexAndParameters.put(index, param);
     }
     
+    /**
+     * Add removed parameters of route unit.
+     *
+     * @param routeUnit route unit
+     * @param indexes parameter indexes to be removed from parameters of route unit
+     */
+    public void addRemovedParameters(final RouteUnit routeUnit, final Collection<Integer> indexes) {
+        removedRouteUnitIndexes.computeIfAbsent(routeUnit, unused -> new HashSet<>()).addAll(indexes);
+    }
+    
     @Override
     public List<Object> getParameters() {
+        return getParameters(Collections.emptySet());
+    }
+    
+    /**
+     * Get parameters of route unit.
+     *
+     * @param routeUnit route unit
+     * @return parameters of route unit
+     */
+    public List<Object> getParameters(final RouteUnit routeUnit) {
+        return getParameters(removedRouteUnitIndexes.getOrDefault(routeUnit, Collections.emptySet()));
+    }
+    
+    private List<Object> getParameters(final Collection<Integer> removedIndexes) {
         List<Object> replacedParams = new ArrayList<>(originalParameters);
         for (Entry<Integer, Object> entry : replacedIndexAndParameters.entrySet()) {
             replacedParams.set(entry.getKey(), entry.getValue());
@@ -73,7 +103,7 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         List<Object> result = new LinkedList<>();
         for (int index = 0; index <= maxParamIndex; index++) {
             List<Object> currentIndexParams = new LinkedList<>();
-            if (replacedParams.size() > index) {
+            if (replacedParams.size() > index && !removedIndexes.contains(index)) {
                 currentIndexParams.add(replacedParams.get(index));
             }
             if (addedIndexAndParameters.containsKey(index)) {
@@ -47,6 +47,22 @@ public final class SQLTokenGenerators {
         generators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether SQL tokens are cacheable.
+     * 
+     * <p>SQL tokens generated with parameters or connection context vary between executions of the same SQL statement context.</p>
+     *
+     * @return SQL tokens are cacheable or not
+     */
+    public boolean isCacheable() {
+        for (SQLTokenGenerator each : generators) {
+            if (each instanceof ParametersAware || each instanceof ConnectionContextAware) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * Generate SQL tokens.
      *
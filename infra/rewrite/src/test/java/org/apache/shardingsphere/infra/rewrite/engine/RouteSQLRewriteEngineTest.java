@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.storage.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
@@ -66,6 +67,24 @@ class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
     }
     
+    @Test
+    void assertRewriteWithPreparedRewritePlan() {
+        ShardingSphereDatabase database = mockDatabase();
+        CommonSQLStatementContext statementContext = mock(CommonSQLStatementContext.class);
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        DatabaseType databaseType = mock(DatabaseType.class);
+        RouteSQLRewriteEngine engine = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, mockStorageUnits(databaseType));
+        PreparedRewritePlan plan = new PreparedRewritePlan();
+        SQLRewriteContext firstSQLRewriteContext = new SQLRewriteContext(database, statementContext, "SELECT ?", Collections.singletonList(1), mock(ConnectionContext.class), new HintValueContext());
+        assertThat(engine.rewrite(firstSQLRewriteContext, routeContext, plan).getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
+        SQLRewriteContext secondSQLRewriteContext = new SQLRewriteContext(database, statementContext, "SELECT ? ", Collections.singletonList(2), mock(ConnectionContext.class), new HintValueContext());
+        RouteSQLRewriteResult actual = engine.rewrite(secondSQLRewriteContext, routeContext, plan);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(2)));
+    }
+    
     @Test
     void assertRewriteWithStandardParameterBuilderWhenNeedAggregateRewrite() {
         SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.engine.plan;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PreparedRewritePlanTest {
+    
+    private final RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    private final RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+    
+    @Test
+    void assertRefresh() {
+        PreparedRewritePlan plan = new PreparedRewritePlan();
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        plan.refresh(database);
+        Map<RouteUnit, String> expected = Collections.singletonMap(firstRouteUnit, "SELECT * FROM t_order_0 WHERE order_id = ?");
+        Collection<RouteUnit> routeUnits = createRouteContext(firstRouteUnit).getRouteUnits();
+        assertThat(plan.getRouteSQLs(routeUnits, () -> expected), is(expected));
+        plan.refresh(database);
+        assertThat(plan.getRouteSQLs(routeUnits, Collections::emptyMap), is(expected));
+        plan.refresh(mock(ShardingSphereDatabase.class));
+        assertTrue(plan.getRouteSQLs(routeUnits, Collections::emptyMap).isEmpty());
+    }
+    
+    @Test
+    void assertIsNotReusableWithoutParameters() {
+        SQLRewriteContext sqlRewriteContext = mockSQLRewriteContext(mock(SQLStatementContext.class), true);
+        when(sqlRewriteContext.getParameters()).thenReturn(Collections.emptyList());
+        assertFalse(new PreparedRewritePlan().isReusable(sqlRewriteContext, createRouteContext(firstRouteUnit)));
+    }
+    
+    @Test
+    void assertIsNotReusableWithUncacheableSQLTokens() {
+        assertFalse(new PreparedRewritePlan().isReusable(mockSQLRewriteContext(mock(SQLStatementContext.class), false), createRouteContext(firstRouteUnit)));
+    }
+    
+    @Test
+    void assertIsReusableWithPaginationForSingleRouting() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getPaginationContext().isHasPagination()).thenReturn(true);
+        PreparedRewritePlan plan = new PreparedRewritePlan();
+        assertTrue(plan.isReusable(mockSQLRewriteContext(sqlStatementContext, true), createRouteContext(firstRouteUnit)));
+        assertFalse(plan.isReusable(mockSQLRewriteContext(sqlStatementContext, true), createRouteContext(firstRouteUnit, secondRouteUnit)));
+    }
+    
+    @Test
+    void assertIsReusableWithInsertValues() {
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getGroupedParameters()).thenReturn(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2)));
+        PreparedRewritePlan plan = new PreparedRewritePlan();
+        RouteContext routeContext = createRouteContext(firstRouteUnit, secondRouteUnit);
+        assertTrue(plan.isReusable(mockSQLRewriteContext(sqlStatementContext, true), routeContext));
+        routeContext.getOriginalDataNodes().add(Collections.emptyList());
+        assertFalse(plan.isReusable(mockSQLRewriteContext(sqlStatementContext, true), routeContext));
+    }
+    
+    @Test
+    void assertIsNotReusableWithInsertValuesWithoutParameters() {
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getGroupedParameters()).thenReturn(Arrays.asList(Collections.singletonList(1), Collections.emptyList()));
+        assertFalse(new PreparedRewritePlan().isReusable(mockSQLRewriteContext(sqlStatementContext, true), createRouteContext(firstRouteUnit)));
+    }
+    
+    @Test
+    void assertGetRouteSQLs() {
+        PreparedRewritePlan plan = new PreparedRewritePlan();
+        AtomicInteger rewriteCount = new AtomicInteger();
+        Map<RouteUnit, String> expected = Collections.singletonMap(firstRouteUnit, "SELECT * FROM t_order_0 WHERE order_id = ?");
+        assertThat(plan.getRouteSQLs(createRouteContext(firstRouteUnit).getRouteUnits(), () -> {
+            rewriteCount.incrementAndGet();
+            return expected;
+        }), is(expected));
+        assertThat(plan.getRouteSQLs(new LinkedHashSet<>(Collections.singleton(firstRouteUnit)), () -> {
+            rewriteCount.incrementAndGet();
+            return Collections.emptyMap();
+        }), is(expected));
+        assertThat(rewriteCount.get(), is(1));
+        Collection<RouteUnit> otherRouteUnits = createRouteContext(secondRouteUnit).getRouteUnits();
+        assertThat(plan.getRouteSQLs(otherRouteUnits, () -> Collections.singletonMap(secondRouteUnit, "SELECT * FROM t_order_1 WHERE order_id = ?")).get(secondRouteUnit),
+                is("SELECT * FROM t_order_1 WHERE order_id = ?"));
+    }
+    
+    private SQLRewriteContext mockSQLRewriteContext(final SQLStatementContext sqlStatementContext, final boolean sqlTokensCacheable) {
+        SQLRewriteContext result = mock(SQLRewriteContext.class);
+        when(result.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(result.getParameters()).thenReturn(Collections.singletonList(1));
+        when(result.isSQLTokensCacheable()).thenReturn(sqlTokensCacheable);
+        return result;
+    }
+    
+    private RouteContext createRouteContext(final RouteUnit... routeUnits) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().addAll(Arrays.asList(routeUnits));
+        return result;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.rewrite.parameter.builder.impl;
 
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -33,4 +35,14 @@ class StandardParameterBuilderTest {
         paramBuilder.addAddedParameters(4, Collections.singleton(7));
         assertThat(paramBuilder.getParameters(), is(Arrays.<Object>asList(1, 2, 1, 5, 7)));
     }
+    
+    @Test
+    void assertGetParametersWithRouteUnit() {
+        StandardParameterBuilder paramBuilder = new StandardParameterBuilder(Arrays.asList(1, 2, 3, 10));
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singleton(new RouteMapper("tbl", "tbl_0")));
+        paramBuilder.addRemovedParameters(routeUnit, Arrays.asList(0, 2));
+        paramBuilder.addReplacedParameters(3, 20);
+        assertThat(paramBuilder.getParameters(routeUnit), is(Arrays.<Object>asList(2, 20)));
+        assertThat(paramBuilder.getParameters(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("tbl", "tbl_1")))), is(Arrays.<Object>asList(1, 2, 3, 20)));
+    }
 }
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -66,7 +67,9 @@ public final class BatchExecutionUnit {
         if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
             result.add(Collections.emptyList());
         } else {
-            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes));
+            // copy to random access list, partitions of linked list are traversed from head for every parameter
+            List<Object> params = new ArrayList<>(executionUnit.getSqlUnit().getParameters());
+            result.addAll(Lists.partition(params, params.size() / actualCallAddBatchTimes));
         }
         return result;
     }
@@ -36,9 +36,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +59,8 @@ public final class BatchPreparedStatementExecutor {
     @Getter
     private final Collection<BatchExecutionUnit> batchExecutionUnits;
     
+    private final Map<BatchExecutionUnit, BatchExecutionUnit> batchExecutionUnitIndexes;
+    
     private int batchCount;
     
     private final String databaseName;
@@ -69,6 +71,7 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(databaseName));
         batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnitIndexes = new HashMap<>();
     }
     
     /**
@@ -82,35 +85,24 @@ public final class BatchPreparedStatementExecutor {
     
     /**
      * Add batch for execution units.
+     * 
+     * <p>Parameters of execution units with the same data source and SQL are grouped into one batch execution unit, so rewritten SQL is executed as one JDBC batch.</p>
      *
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+            BatchExecutionUnit oldBatchExecutionUnit = batchExecutionUnitIndexes.get(batchExecutionUnit);
+            if (null == oldBatchExecutionUnit) {
+                batchExecutionUnit.mapAddBatchCount(batchCount);
+                batchExecutionUnits.add(batchExecutionUnit);
+                batchExecutionUnitIndexes.put(batchExecutionUnit, batchExecutionUnit);
+            } else {
+                reviseBatchExecutionUnit(oldBatchExecutionUnit, batchExecutionUnit);
             }
         }
+        batchCount++;
     }
     
     private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
@@ -118,14 +110,6 @@ public final class BatchPreparedStatementExecutor {
         oldBatchExecutionUnit.mapAddBatchCount(batchCount);
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
-    }
-    
     /**
      * Execute batch.
      *
@@ -256,5 +240,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        batchExecutionUnitIndexes.clear();
     }
 }
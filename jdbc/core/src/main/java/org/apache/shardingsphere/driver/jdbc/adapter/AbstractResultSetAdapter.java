@@ -81,7 +81,7 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     }
     
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
         forceExecuteTemplate.execute(resultSets, ResultSet::close);
     }
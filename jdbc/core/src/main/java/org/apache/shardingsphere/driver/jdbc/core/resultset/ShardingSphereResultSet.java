@@ -81,6 +81,15 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.next();
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            mergeResultSet.close();
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return mergeResultSet.wasNull();
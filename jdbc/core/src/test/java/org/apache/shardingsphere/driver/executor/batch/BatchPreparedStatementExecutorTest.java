@@ -55,6 +55,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
@@ -62,6 +63,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -170,6 +172,27 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Arrays.asList(
+                    new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(i)))),
+                    new ExecutionUnit("ds_1", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(i))))));
+        }
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(3))))));
+        assertThat(executor.getBatchExecutionUnits().size(), is(2));
+        Iterator<BatchExecutionUnit> actual = executor.getBatchExecutionUnits().iterator();
+        BatchExecutionUnit firstBatchExecutionUnit = actual.next();
+        assertThat(firstBatchExecutionUnit.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(firstBatchExecutionUnit.getParameterSets(),
+                is(Arrays.asList(Collections.singletonList(0), Collections.singletonList(1), Collections.singletonList(2), Collections.singletonList(3))));
+        BatchExecutionUnit secondBatchExecutionUnit = actual.next();
+        assertThat(secondBatchExecutionUnit.getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(secondBatchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size(), is(3));
+        executor.clear();
+        assertTrue(executor.getBatchExecutionUnits().isEmpty());
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -75,4 +75,14 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
     default Optional<String> buildCRC32SQL(String qualifiedTableName, final String columnName) {
         return Optional.empty();
     }
+    
+    /**
+     * Build table sample clause, which follows table name in FROM clause.
+     *
+     * @param samplePercent sample percent, between 0 and 100
+     * @return built SQL clause
+     */
+    default Optional<String> buildTableSampleClause(double samplePercent) {
+        return Optional.empty();
+    }
 }
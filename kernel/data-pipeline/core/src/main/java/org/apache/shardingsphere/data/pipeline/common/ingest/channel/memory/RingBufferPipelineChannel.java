@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>Bounded multiple producers single consumer ring buffer. Producers claim slots by CAS and park when the buffer is full,
+ * consumer parks when the buffer is empty, and both sides unpark each other after publishing or consuming records.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private final AtomicReferenceArray<List<Record>> buffer;
+    
+    private final int mask;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private volatile long consumerSequence;
+    
+    private final AtomicReference<Thread> waitingConsumer = new AtomicReference<>();
+    
+    private final Queue<Thread> waitingProducers = new ConcurrentLinkedQueue<>();
+    
+    private final LongAdder producerBlockedCount = new LongAdder();
+    
+    private final LongAdder producerBlockedNanos = new LongAdder();
+    
+    private final AckCallback ackCallback;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final AckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 1));
+        capacity = capacity < bufferSize ? capacity << 1 : capacity;
+        buffer = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void pushRecords(final List<Record> records) {
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence > mask) {
+                awaitCapacity();
+                continue;
+            }
+            if (producerSequence.compareAndSet(sequence, sequence + 1L)) {
+                break;
+            }
+        } while (true);
+        buffer.set(getIndex(sequence), records);
+        Thread consumer = waitingConsumer.get();
+        if (null != consumer) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    private void awaitCapacity() throws InterruptedException {
+        Thread currentThread = Thread.currentThread();
+        waitingProducers.offer(currentThread);
+        try {
+            // check again after registered, consumer may have consumed records before that
+            if (producerSequence.get() - consumerSequence > mask) {
+                producerBlockedCount.increment();
+                long startNanos = System.nanoTime();
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+                producerBlockedNanos.add(System.nanoTime() - startNanos);
+            }
+        } finally {
+            waitingProducers.remove(currentThread);
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long deadlineNanos = System.nanoTime() + timeUnit.toNanos(timeout);
+        while (result.size() < batchSize) {
+            List<Record> records = poll();
+            if (null != records) {
+                result.addAll(records);
+            } else if (!awaitRecords(deadlineNanos)) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private boolean awaitRecords(final long deadlineNanos) throws InterruptedException {
+        waitingConsumer.set(Thread.currentThread());
+        try {
+            while (null == buffer.get(getIndex(consumerSequence))) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0L) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remainingNanos);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return true;
+        } finally {
+            waitingConsumer.set(null);
+        }
+    }
+    
+    private List<Record> poll() {
+        long sequence = consumerSequence;
+        int index = getIndex(sequence);
+        List<Record> result = buffer.get(index);
+        if (null == result) {
+            return null;
+        }
+        // release slot before advancing sequence, producers claim slot only after sequence is advanced
+        buffer.set(index, null);
+        consumerSequence = sequence + 1L;
+        for (Thread each : waitingProducers) {
+            LockSupport.unpark(each);
+        }
+        return result;
+    }
+    
+    private int getIndex(final long sequence) {
+        return (int) (sequence & mask);
+    }
+    
+    @Override
+    public List<Record> peekRecords() {
+        List<Record> result = buffer.get(getIndex(consumerSequence));
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public List<Record> pollRecords() {
+        List<Record> result = poll();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    /**
+     * Get count of record batches in buffer.
+     *
+     * @return count of record batches in buffer
+     */
+    public int getBufferedSize() {
+        return (int) Math.max(0L, producerSequence.get() - consumerSequence);
+    }
+    
+    /**
+     * Get count of producers blocked by full buffer.
+     *
+     * @return producer blocked count
+     */
+    public long getProducerBlockedCount() {
+        return producerBlockedCount.sum();
+    }
+    
+    /**
+     * Get total time of producers blocked by full buffer.
+     *
+     * @return producer blocked time in milliseconds
+     */
+    public long getProducerBlockedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(producerBlockedNanos.sum());
+    }
+    
+    @Override
+    public void close() {
+        // drain records to release blocked producers
+        List<Record> records = poll();
+        while (null != records) {
+            records = poll();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.RangePrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.UnsupportedKeyPosition;
 
@@ -53,6 +54,8 @@ public final class PrimaryKeyPositionFactory {
                 return new IntegerPrimaryKeyPosition(Long.parseLong(beginValue), Long.parseLong(endValue));
             case 's':
                 return new StringPrimaryKeyPosition(beginValue, endValue);
+            case 'r':
+                return new RangePrimaryKeyPosition(PrimaryKeyValueUtils.unescape(beginValue), PrimaryKeyValueUtils.unescape(endValue));
             case 'u':
                 return new UnsupportedKeyPosition();
             default:
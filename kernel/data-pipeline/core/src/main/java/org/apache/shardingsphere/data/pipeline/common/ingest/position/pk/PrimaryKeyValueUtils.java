@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.position.pk;
+
+import com.google.common.io.BaseEncoding;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+
+/**
+ * Primary key value utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrimaryKeyValueUtils {
+    
+    private static final BaseEncoding HEX = BaseEncoding.base16().lowerCase();
+    
+    /**
+     * Whether column values can be converted to text and bound back as range parameters.
+     *
+     * @param columnType column type, value of java.sql.Types
+     * @return true or false
+     */
+    public static boolean isConvertible(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.OTHER:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Convert column value to text.
+     *
+     * @param value column value
+     * @return text value
+     */
+    public static String toText(final Object value) {
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof byte[]) {
+            return HEX.encode((byte[]) value);
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value).toString();
+        }
+        if (value instanceof OffsetDateTime) {
+            return Timestamp.from(((OffsetDateTime) value).toInstant()).toString();
+        }
+        if (value instanceof LocalDate) {
+            return Date.valueOf((LocalDate) value).toString();
+        }
+        if (value instanceof LocalTime) {
+            return Time.valueOf((LocalTime) value).toString();
+        }
+        return value.toString();
+    }
+    
+    /**
+     * Convert text value to parameter of column.
+     *
+     * @param text text value
+     * @param columnType column type, value of java.sql.Types
+     * @return parameter value
+     */
+    public static Object toParameter(final String text, final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                BigInteger integerValue = new BigInteger(text);
+                // unsigned big integer may be out of range of long
+                return integerValue.bitLength() < Long.SIZE ? (Object) integerValue.longValue() : integerValue;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new BigDecimal(text);
+            case Types.DATE:
+                return Date.valueOf(text);
+            case Types.TIME:
+                return Time.valueOf(text);
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return Timestamp.valueOf(text);
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return HEX.decode(text);
+            default:
+                return text;
+        }
+    }
+    
+    /**
+     * Escape text value to be a part of position.
+     *
+     * @param text text value
+     * @return escaped text value
+     */
+    public static String escape(final String text) {
+        return null == text ? "" : text.replace("%", "%25").replace(",", "%2C");
+    }
+    
+    /**
+     * Unescape text value from a part of position.
+     *
+     * @param text escaped text value
+     * @return text value
+     */
+    public static String unescape(final String text) {
+        return text.replace("%2C", ",").replace("%25", "%");
+    }
+}
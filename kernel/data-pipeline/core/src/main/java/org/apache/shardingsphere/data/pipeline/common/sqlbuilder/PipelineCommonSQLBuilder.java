@@ -93,6 +93,24 @@ public final class PipelineCommonSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build split points SQL, which queries the first unique key value of every split in order.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param splitCount split count
+     * @param samplePercent sample percent, between 0 and 100, table is not sampled if it is 100
+     * @return split points SQL
+     */
+    public String buildSplitPointsSQL(final String schemaName, final String tableName, final String uniqueKey, final int splitCount, final double samplePercent) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        String qualifiedTableName = sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName);
+        String tableSampleClause = samplePercent < 100D ? dialectSQLBuilder.buildTableSampleClause(samplePercent).map(optional -> " " + optional).orElse("") : "";
+        return String.format("SELECT MIN(%s) FROM (SELECT %s, NTILE(%d) OVER (ORDER BY %s) AS split_id FROM %s%s) split_points GROUP BY split_id ORDER BY split_id",
+                escapedUniqueKey, escapedUniqueKey, splitCount, escapedUniqueKey, qualifiedTableName, tableSampleClause);
+    }
+    
     /**
      * Build check empty SQL.
      *
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.data.pipeline.common.sqlbuilder;
 
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -78,6 +80,31 @@ public final class PipelineInventoryDumpSQLBuilder {
         return String.format("SELECT %s FROM %s ORDER BY %s ASC", buildQueryColumns(columnNames), qualifiedTableName, quotedUniqueKey);
     }
     
+    /**
+     * Build range inventory dump SQL, lower bound is inclusive and upper bound is exclusive.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @param hasLowerBound whether range has lower bound
+     * @param hasUpperBound whether range has upper bound
+     * @return built SQL
+     */
+    public String buildRangeSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey, final boolean hasLowerBound, final boolean hasUpperBound) {
+        String qualifiedTableName = sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName);
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        Collection<String> conditions = new LinkedList<>();
+        if (hasLowerBound) {
+            conditions.add(escapedUniqueKey + ">=?");
+        }
+        if (hasUpperBound) {
+            conditions.add(escapedUniqueKey + "<?");
+        }
+        String whereClause = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return String.format("SELECT %s FROM %s%s ORDER BY %s ASC", buildQueryColumns(columnNames), qualifiedTableName, whereClause, escapedUniqueKey);
+    }
+    
     private String buildQueryColumns(final List<String> columnNames) {
         return columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.joining(","));
     }
@@ -40,6 +40,8 @@ import org.apache.shardingsphere.data.pipeline.common.ingest.position.FinishedPo
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.PrimaryKeyPositionFactory;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.PrimaryKeyValueUtils;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.RangePrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.query.JDBCStreamQueryBuilder;
 import org.apache.shardingsphere.data.pipeline.common.sqlbuilder.PipelineInventoryDumpSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.common.util.PipelineJdbcUtils;
@@ -57,6 +59,8 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -163,6 +167,10 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         PrimaryKeyPosition<?> primaryKeyPosition = (PrimaryKeyPosition<?>) dumperConfig.getPosition();
         PipelineColumnMetaData firstColumn = dumperConfig.getUniqueKeyColumns().get(0);
         List<String> columnNames = dumperConfig.getColumnNames(logicTableName).orElse(Collections.singletonList("*"));
+        if (primaryKeyPosition instanceof RangePrimaryKeyPosition) {
+            return inventoryDumpSQLBuilder.buildRangeSQL(schemaName, dumperConfig.getActualTableName(), columnNames, firstColumn.getName(),
+                    null != primaryKeyPosition.getBeginValue(), null != primaryKeyPosition.getEndValue());
+        }
         if (PipelineJdbcUtils.isIntegerColumn(firstColumn.getDataType()) || PipelineJdbcUtils.isStringColumn(firstColumn.getDataType())) {
             if (null != primaryKeyPosition.getBeginValue() && null != primaryKeyPosition.getEndValue()) {
                 return inventoryDumpSQLBuilder.buildDivisibleSQL(schemaName, dumperConfig.getActualTableName(), columnNames, firstColumn.getName());
@@ -180,6 +188,10 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         }
         PipelineColumnMetaData firstColumn = dumperConfig.getUniqueKeyColumns().get(0);
         PrimaryKeyPosition<?> position = (PrimaryKeyPosition<?>) dumperConfig.getPosition();
+        if (position instanceof RangePrimaryKeyPosition) {
+            setRangeParameters(preparedStatement, (RangePrimaryKeyPosition) position, firstColumn.getDataType());
+            return;
+        }
         if (PipelineJdbcUtils.isIntegerColumn(firstColumn.getDataType()) && null != position.getBeginValue() && null != position.getEndValue()) {
             preparedStatement.setObject(1, position.getBeginValue());
             preparedStatement.setObject(2, position.getEndValue());
@@ -195,6 +207,21 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         }
     }
     
+    private void setRangeParameters(final PreparedStatement preparedStatement, final RangePrimaryKeyPosition position, final int dataType) throws SQLException {
+        int parameterIndex = 1;
+        for (String each : Arrays.asList(position.getBeginValue(), position.getEndValue())) {
+            if (null == each) {
+                continue;
+            }
+            Object parameter = PrimaryKeyValueUtils.toParameter(each, dataType);
+            if (Types.OTHER == dataType) {
+                preparedStatement.setObject(parameterIndex++, parameter, Types.OTHER);
+            } else {
+                preparedStatement.setObject(parameterIndex++, parameter);
+            }
+        }
+    }
+    
     private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final PipelineTableMetaData tableMetaData) throws SQLException {
         int columnCount = resultSetMetaData.getColumnCount();
         DataRecord result = new DataRecord(IngestDataChangeType.INSERT, dumperConfig.getLogicTableName(), newPosition(resultSet), columnCount);
@@ -211,9 +238,14 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
     }
     
     private IngestPosition newPosition(final ResultSet resultSet) throws SQLException {
-        return dumperConfig.hasUniqueKey()
-                ? PrimaryKeyPositionFactory.newInstance(resultSet.getObject(dumperConfig.getUniqueKeyColumns().get(0).getName()), ((PrimaryKeyPosition<?>) dumperConfig.getPosition()).getEndValue())
-                : new PlaceholderPosition();
+        if (!dumperConfig.hasUniqueKey()) {
+            return new PlaceholderPosition();
+        }
+        Object uniqueKeyValue = resultSet.getObject(dumperConfig.getUniqueKeyColumns().get(0).getName());
+        PrimaryKeyPosition<?> position = (PrimaryKeyPosition<?>) dumperConfig.getPosition();
+        return position instanceof RangePrimaryKeyPosition
+                ? new RangePrimaryKeyPosition(PrimaryKeyValueUtils.toText(uniqueKeyValue), ((RangePrimaryKeyPosition) position).getEndValue())
+                : PrimaryKeyPositionFactory.newInstance(uniqueKeyValue, position.getEndValue());
     }
     
     @Override
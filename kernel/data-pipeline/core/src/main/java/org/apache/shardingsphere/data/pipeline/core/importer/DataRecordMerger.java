@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord.Key;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
@@ -25,12 +26,16 @@ import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeTyp
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -40,22 +45,21 @@ import java.util.stream.Collectors;
 public final class DataRecordMerger {
     
     /**
-     * Group by table and type.
+     * Group by table and type, and merge change chain of the same key into one data record if possible.
      *
      * @param dataRecords data records
      * @return grouped data records
      */
     public List<GroupedDataRecord> group(final List<DataRecord> dataRecords) {
         int insertCount = 0;
-        Map<Key, Boolean> duplicateKeyMap = new HashMap<>();
+        Map<Key, List<DataRecord>> sameKeyDataRecordsMap = new HashMap<>();
         Set<String> tableNames = new LinkedHashSet<>();
         for (DataRecord each : dataRecords) {
             if (IngestDataChangeType.INSERT.equals(each.getType())) {
                 insertCount++;
             }
             tableNames.add(each.getTableName());
-            Key key = getKeyFromDataRecord(each);
-            duplicateKeyMap.put(key, duplicateKeyMap.containsKey(key));
+            sameKeyDataRecordsMap.computeIfAbsent(getKeyFromDataRecord(each), ignored -> new LinkedList<>()).add(each);
         }
         List<GroupedDataRecord> result = new ArrayList<>(100);
         if (insertCount == dataRecords.size()) {
@@ -67,14 +71,26 @@ public final class DataRecordMerger {
         }
         Map<String, List<DataRecord>> nonBatchRecords = new LinkedHashMap<>();
         Map<String, Map<String, List<DataRecord>>> batchDataRecords = new LinkedHashMap<>();
+        Set<Key> nonBatchKeys = new HashSet<>();
         for (DataRecord each : dataRecords) {
             Key key = getKeyFromDataRecord(each);
-            if (duplicateKeyMap.getOrDefault(key, false)) {
+            if (nonBatchKeys.contains(key)) {
+                nonBatchRecords.computeIfAbsent(each.getTableName(), ignored -> new LinkedList<>()).add(each);
+                continue;
+            }
+            List<DataRecord> sameKeyDataRecords = sameKeyDataRecordsMap.get(key);
+            if (each != sameKeyDataRecords.get(0)) {
+                // merged into the first record of the same key
+                continue;
+            }
+            Optional<DataRecord> mergedDataRecord = 1 == sameKeyDataRecords.size() ? Optional.of(each) : merge(sameKeyDataRecords);
+            if (!mergedDataRecord.isPresent()) {
+                nonBatchKeys.add(key);
                 nonBatchRecords.computeIfAbsent(each.getTableName(), ignored -> new LinkedList<>()).add(each);
                 continue;
             }
             Map<String, List<DataRecord>> recordMap = batchDataRecords.computeIfAbsent(each.getTableName(), ignored -> new HashMap<>());
-            recordMap.computeIfAbsent(each.getType(), ignored -> new LinkedList<>()).add(each);
+            recordMap.computeIfAbsent(mergedDataRecord.get().getType(), ignored -> new LinkedList<>()).add(mergedDataRecord.get());
         }
         for (String each : tableNames) {
             Map<String, List<DataRecord>> batchMap = batchDataRecords.getOrDefault(each, Collections.emptyMap());
@@ -85,6 +101,70 @@ public final class DataRecordMerger {
         return result;
     }
     
+    private Optional<DataRecord> merge(final List<DataRecord> sameKeyDataRecords) {
+        Iterator<DataRecord> iterator = sameKeyDataRecords.iterator();
+        DataRecord result = iterator.next();
+        // records of table without unique key are not the same row even if keys are equal
+        if (result.getUniqueKeyValue().isEmpty()) {
+            return Optional.empty();
+        }
+        while (iterator.hasNext()) {
+            Optional<DataRecord> mergedDataRecord = merge(result, iterator.next());
+            if (!mergedDataRecord.isPresent()) {
+                return Optional.empty();
+            }
+            result = mergedDataRecord.get();
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<DataRecord> merge(final DataRecord before, final DataRecord after) {
+        if (isUniqueKeyUpdated(before) || isUniqueKeyUpdated(after) || IngestDataChangeType.DELETE.equals(before.getType())) {
+            return Optional.empty();
+        }
+        switch (after.getType()) {
+            case IngestDataChangeType.UPDATE:
+                // insert + update -> insert, update + update -> update
+                return mergeColumns(before.getType(), before, after);
+            case IngestDataChangeType.DELETE:
+                // insert + delete -> delete, update + delete -> delete
+                return Optional.of(after);
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private boolean isUniqueKeyUpdated(final DataRecord dataRecord) {
+        if (!IngestDataChangeType.UPDATE.equals(dataRecord.getType())) {
+            return false;
+        }
+        for (Column each : dataRecord.getColumns()) {
+            if (each.isUniqueKey() && null != each.getOldValue() && !Objects.equals(each.getOldValue(), each.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Optional<DataRecord> mergeColumns(final String type, final DataRecord before, final DataRecord after) {
+        if (before.getColumnCount() != after.getColumnCount()) {
+            return Optional.empty();
+        }
+        DataRecord result = new DataRecord(type, after.getSchemaName(), after.getTableName(), after.getPosition(), after.getColumnCount());
+        result.setActualTableName(after.getActualTableName());
+        result.setCsn(after.getCsn());
+        result.setCommitTime(after.getCommitTime());
+        for (int i = 0; i < after.getColumnCount(); i++) {
+            Column beforeColumn = before.getColumn(i);
+            Column afterColumn = after.getColumn(i);
+            if (!beforeColumn.getName().equals(afterColumn.getName())) {
+                return Optional.empty();
+            }
+            result.addColumn(afterColumn.isUpdated() ? new Column(afterColumn.getName(), beforeColumn.getOldValue(), afterColumn.getValue(), true, afterColumn.isUniqueKey()) : beforeColumn);
+        }
+        return Optional.of(result);
+    }
+    
     private Key getKeyFromDataRecord(final DataRecord dataRecord) {
         return IngestDataChangeType.DELETE.equals(dataRecord.getType()) ? dataRecord.getOldKey() : dataRecord.getKey();
     }
@@ -44,8 +44,12 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -149,7 +153,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
                     if (null != rateLimitAlgorithm) {
                         rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
                     }
-                    executeUpdate(connection, buffer);
+                    executeBatchUpdate(connection, buffer);
                     break;
                 case IngestDataChangeType.DELETE:
                     if (null != rateLimitAlgorithm) {
@@ -166,49 +170,77 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private void doFlush(final Connection connection, final List<DataRecord> buffer) {
         // TODO it's better use transaction, but execute delete maybe not effect when open transaction of PostgreSQL sometimes
-        for (DataRecord each : buffer) {
-            try {
-                doFlush(connection, each);
-            } catch (final SQLException ex) {
-                throw new PipelineImporterJobWriteException(String.format("Write failed, record=%s", each), ex);
+        Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+        try {
+            for (DataRecord each : buffer) {
+                try {
+                    doFlush(connection, preparedStatements, each);
+                } catch (final SQLException ex) {
+                    throw new PipelineImporterJobWriteException(String.format("Write failed, record=%s", each), ex);
+                }
             }
+        } finally {
+            closeStatements(preparedStatements.values());
         }
     }
     
-    private void doFlush(final Connection connection, final DataRecord dataRecord) throws SQLException {
+    private void doFlush(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final DataRecord dataRecord) throws SQLException {
         switch (dataRecord.getType()) {
             case IngestDataChangeType.INSERT:
                 if (null != rateLimitAlgorithm) {
                     rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
                 }
-                executeBatchInsert(connection, Collections.singletonList(dataRecord));
+                executeInsert(getPreparedStatement(connection, preparedStatements, buildInsertSQL(dataRecord)), dataRecord);
                 break;
             case IngestDataChangeType.UPDATE:
                 if (null != rateLimitAlgorithm) {
                     rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
                 }
-                executeUpdate(connection, dataRecord);
+                executeUpdate(connection, preparedStatements, dataRecord);
                 break;
             case IngestDataChangeType.DELETE:
                 if (null != rateLimitAlgorithm) {
                     rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
                 }
-                executeBatchDelete(connection, Collections.singletonList(dataRecord));
+                executeDelete(getPreparedStatement(connection, preparedStatements, buildDeleteSQL(dataRecord)), dataRecord);
                 break;
             default:
         }
     }
     
+    private PreparedStatement getPreparedStatement(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final String sql) throws SQLException {
+        PreparedStatement result = preparedStatements.get(sql);
+        if (null == result) {
+            result = connection.prepareStatement(sql);
+            result.setQueryTimeout(30);
+            preparedStatements.put(sql, result);
+        }
+        return result;
+    }
+    
+    private String buildInsertSQL(final DataRecord dataRecord) {
+        return importSQLBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
+    }
+    
+    private String buildUpdateSQL(final DataRecord dataRecord, final List<Column> conditionColumns) {
+        return importSQLBuilder.buildUpdateSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
+    }
+    
+    private String buildDeleteSQL(final DataRecord dataRecord) {
+        return importSQLBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord,
+                RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName())));
+    }
+    
+    private String getSchemaName(final String logicTableName) {
+        return getImporterConfig().getSchemaName(new LogicTableName(logicTableName));
+    }
+    
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        DataRecord dataRecord = dataRecords.get(0);
-        String insertSql = importSQLBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(buildInsertSQL(dataRecords.get(0)))) {
             batchInsertStatement.set(preparedStatement);
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
-                for (int i = 0; i < each.getColumnCount(); i++) {
-                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
-                }
+                setInsertParameters(preparedStatement, each);
                 preparedStatement.addBatch();
             }
             preparedStatement.executeBatch();
@@ -217,61 +249,86 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
-    private String getSchemaName(final String logicTableName) {
-        return getImporterConfig().getSchemaName(new LogicTableName(logicTableName));
+    private void executeInsert(final PreparedStatement preparedStatement, final DataRecord dataRecord) throws SQLException {
+        batchInsertStatement.set(preparedStatement);
+        try {
+            setInsertParameters(preparedStatement, dataRecord);
+            preparedStatement.executeUpdate();
+        } finally {
+            batchInsertStatement.set(null);
+        }
     }
     
-    private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+    private void setInsertParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord) throws SQLException {
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            preparedStatement.setObject(i + 1, dataRecord.getColumn(i).getValue());
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord dataRecord) throws SQLException {
-        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
-        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
-        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
-        String updateSql = importSQLBuilder.buildUpdateSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
-            updateStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+    private void executeBatchUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        // records with the same updated columns share one prepared statement, and are executed in one batch
+        Map<String, PreparedStatement> preparedStatements = new LinkedHashMap<>();
+        try {
+            for (DataRecord each : dataRecords) {
+                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
+                PreparedStatement preparedStatement = getPreparedStatement(connection, preparedStatements, buildUpdateSQL(each, conditionColumns));
+                setUpdateParameters(preparedStatement, each, conditionColumns);
+                preparedStatement.addBatch();
             }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
+            for (Entry<String, PreparedStatement> entry : preparedStatements.entrySet()) {
+                updateStatement.set(entry.getValue());
+                int[] counts = entry.getValue().executeBatch();
+                if (IntStream.of(counts).anyMatch(value -> 1 != value)) {
+                    log.warn("batchUpdate failed, counts={}, sql={}", Arrays.toString(counts), entry.getKey());
                 }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
             }
+        } finally {
+            updateStatement.set(null);
+            closeStatements(preparedStatements.values());
+        }
+    }
+    
+    private void executeUpdate(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final DataRecord dataRecord) throws SQLException {
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
+        String updateSql = buildUpdateSQL(dataRecord, conditionColumns);
+        PreparedStatement preparedStatement = getPreparedStatement(connection, preparedStatements, updateSql);
+        updateStatement.set(preparedStatement);
+        try {
+            setUpdateParameters(preparedStatement, dataRecord, conditionColumns);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
-                log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, setColumns, conditionColumns);
+                log.warn("executeUpdate failed, updateCount={}, updateSql={}, dataRecord={}, conditionColumns={}", updateCount, updateSql, dataRecord, conditionColumns);
             }
         } finally {
             updateStatement.set(null);
         }
     }
     
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord, final List<Column> conditionColumns) throws SQLException {
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+        }
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        DataRecord dataRecord = dataRecords.get(0);
-        String deleteSQL = importSQLBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord,
-                RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName())));
+        String deleteSQL = buildDeleteSQL(dataRecords.get(0));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
             batchDeleteStatement.set(preparedStatement);
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
-                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(dataRecord.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    Object oldValue = conditionColumns.get(i).getOldValue();
-                    if (null == oldValue) {
-                        log.warn("Record old value is null, record={}", each);
-                    }
-                    preparedStatement.setObject(i + 1, oldValue);
-                }
+                setDeleteParameters(preparedStatement, each);
                 preparedStatement.addBatch();
             }
             int[] counts = preparedStatement.executeBatch();
@@ -283,6 +340,40 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void executeDelete(final PreparedStatement preparedStatement, final DataRecord dataRecord) throws SQLException {
+        batchDeleteStatement.set(preparedStatement);
+        try {
+            setDeleteParameters(preparedStatement, dataRecord);
+            int deleteCount = preparedStatement.executeUpdate();
+            if (1 != deleteCount) {
+                log.warn("executeDelete failed, deleteCount={}, dataRecord={}", deleteCount, dataRecord);
+            }
+        } finally {
+            batchDeleteStatement.set(null);
+        }
+    }
+    
+    private void setDeleteParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord) throws SQLException {
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Object oldValue = conditionColumns.get(i).getOldValue();
+            if (null == oldValue) {
+                log.warn("Record old value is null, record={}", dataRecord);
+            }
+            preparedStatement.setObject(i + 1, oldValue);
+        }
+    }
+    
+    private void closeStatements(final Collection<PreparedStatement> preparedStatements) {
+        for (PreparedStatement each : preparedStatements) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                log.warn("Close prepared statement failed", ex);
+            }
+        }
+    }
+    
     private void sequentialFlush(final DataSource dataSource, final List<DataRecord> buffer) {
         if (buffer.isEmpty()) {
             return;
@@ -31,9 +31,10 @@ import org.apache.shardingsphere.data.pipeline.common.config.process.PipelineRea
 import org.apache.shardingsphere.data.pipeline.common.context.InventoryIncrementalJobItemContext;
 import org.apache.shardingsphere.data.pipeline.common.context.InventoryIncrementalProcessContext;
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.PrimaryKeyValueUtils;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
-import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.StringPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.RangePrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.UnsupportedKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.job.progress.InventoryIncrementalJobItemProgress;
 import org.apache.shardingsphere.data.pipeline.common.metadata.loader.PipelineTableMetaDataUtils;
@@ -53,6 +54,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -67,6 +69,10 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final long MAX_SPLIT_COUNT = 10000L;
+    
+    private static final long SAMPLE_ROWS_PER_SPLIT = 1000L;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperConfiguration dumperConfig;
@@ -170,15 +176,12 @@ public final class InventoryTaskSplitter {
             return Collections.singleton(new UnsupportedKeyPosition());
         }
         List<PipelineColumnMetaData> uniqueKeyColumns = dumperConfig.getUniqueKeyColumns();
-        if (1 == uniqueKeyColumns.size()) {
-            int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
-            if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
-                return getPositionByIntegerUniqueKeyRange(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
-            }
-            if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                // TODO Support string unique key table splitting. Ascii characters ordering are different in different versions of databases.
-                return Collections.singleton(new StringPrimaryKeyPosition(null, null));
-            }
+        int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
+        if (1 == uniqueKeyColumns.size() && PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
+            return getPositionByIntegerUniqueKeyRange(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
+        }
+        if (PrimaryKeyValueUtils.isConvertible(firstColumnDataType)) {
+            return getPositionBySplitPoints(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
         }
         return Collections.singleton(new UnsupportedKeyPosition());
     }
@@ -215,4 +218,49 @@ public final class InventoryTaskSplitter {
             throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
         }
     }
+    
+    private Collection<IngestPosition> getPositionBySplitPoints(final InventoryDumperConfiguration dumperConfig, final long tableRecordsCount,
+                                                                final InventoryIncrementalJobItemContext jobItemContext, final PipelineDataSourceWrapper dataSource) {
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        long splitCount = Math.min(tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0), MAX_SPLIT_COUNT);
+        if (splitCount <= 1) {
+            return Collections.singleton(new RangePrimaryKeyPosition(null, null));
+        }
+        List<String> splitPoints = getSplitPoints(jobItemContext, dataSource, dumperConfig, (int) splitCount, Math.min(100D, SAMPLE_ROWS_PER_SPLIT * splitCount * 100D / tableRecordsCount));
+        Collection<IngestPosition> result = new LinkedList<>();
+        String beginValue = null;
+        for (String each : splitPoints) {
+            result.add(new RangePrimaryKeyPosition(beginValue, each));
+            beginValue = each;
+        }
+        result.add(new RangePrimaryKeyPosition(beginValue, null));
+        return result;
+    }
+    
+    private List<String> getSplitPoints(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig,
+                                        final int splitCount, final double samplePercent) {
+        String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
+        PipelineCommonSQLBuilder pipelineSQLBuilder = new PipelineCommonSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String sql = pipelineSQLBuilder.buildSplitPointsSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), uniqueKey,
+                splitCount, samplePercent);
+        List<String> result = new ArrayList<>(splitCount);
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                String splitPoint = PrimaryKeyValueUtils.toText(resultSet.getObject(1));
+                // split points of first column of composite unique key may be duplicated
+                if (null != splitPoint && (result.isEmpty() || !splitPoint.equals(result.get(result.size() - 1)))) {
+                    result.add(splitPoint);
+                }
+            }
+        } catch (final SQLException ex) {
+            // window function may be unsupported by old version database, dump table without split
+            log.warn("Get split points failed, table={}, unique key={}, sql={}", dumperConfig.getActualTableName(), uniqueKey, sql, ex);
+            return Collections.emptyList();
+        }
+        // the first split point is the minimum value, first split has no lower bound
+        return result.isEmpty() ? result : result.subList(1, result.size());
+    }
 }
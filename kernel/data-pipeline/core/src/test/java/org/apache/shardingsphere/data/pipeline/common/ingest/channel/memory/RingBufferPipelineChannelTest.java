@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.common.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchRecordsInPushedOrder() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        Record first = new PlaceholderRecord(new PlaceholderPosition());
+        Record second = new PlaceholderRecord(new PlaceholderPosition());
+        Record third = new PlaceholderRecord(new PlaceholderPosition());
+        channel.pushRecords(Arrays.asList(first, second));
+        channel.pushRecords(Collections.singletonList(third));
+        assertThat(channel.getBufferedSize(), is(2));
+        List<Record> actual = channel.fetchRecords(3, 1, TimeUnit.SECONDS);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), is(first));
+        assertThat(actual.get(1), is(second));
+        assertThat(actual.get(2), is(third));
+        assertThat(channel.getBufferedSize(), is(0));
+    }
+    
+    @Test
+    void assertFetchRecordsTimeoutCorrectly() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        long startMills = System.currentTimeMillis();
+        assertTrue(channel.fetchRecords(1, 500, TimeUnit.MILLISECONDS).isEmpty());
+        long endMills = System.currentTimeMillis();
+        assertTrue(endMills - startMills >= 500 && endMills - startMills < 600);
+    }
+    
+    @Test
+    void assertFetchRecordsWakeUpByPushRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        CompletableFuture.runAsync(() -> {
+            sleep(50L);
+            channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        });
+        long startMills = System.currentTimeMillis();
+        assertThat(channel.fetchRecords(1, 5, TimeUnit.SECONDS).size(), is(1));
+        assertTrue(System.currentTimeMillis() - startMills < 1000L);
+    }
+    
+    @Test
+    void assertPushRecordsBlockedByFullBuffer() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, new EmptyAckCallback());
+        channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition()))));
+        sleep(200L);
+        assertFalse(future.isDone());
+        assertThat(channel.pollRecords().size(), is(1));
+        future.join();
+        assertThat(channel.getBufferedSize(), is(2));
+        assertTrue(channel.getProducerBlockedCount() > 0L);
+    }
+    
+    @Test
+    void assertPeekAndPollRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(10, new EmptyAckCallback());
+        assertTrue(channel.peekRecords().isEmpty());
+        assertTrue(channel.pollRecords().isEmpty());
+        Record record = new PlaceholderRecord(new PlaceholderPosition());
+        channel.pushRecords(Collections.singletonList(record));
+        assertThat(channel.peekRecords().get(0), is(record));
+        assertThat(channel.pollRecords().get(0), is(record));
+        assertTrue(channel.peekRecords().isEmpty());
+    }
+    
+    private static void sleep(final long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.position.pk;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrimaryKeyValueUtilsTest {
+    
+    @Test
+    void assertIsConvertible() {
+        assertTrue(PrimaryKeyValueUtils.isConvertible(Types.TIMESTAMP));
+        assertTrue(PrimaryKeyValueUtils.isConvertible(Types.VARBINARY));
+        assertFalse(PrimaryKeyValueUtils.isConvertible(Types.ARRAY));
+    }
+    
+    @Test
+    void assertToText() {
+        assertNull(PrimaryKeyValueUtils.toText(null));
+        assertThat(PrimaryKeyValueUtils.toText(new byte[]{1, (byte) 0xab}), is("01ab"));
+        assertThat(PrimaryKeyValueUtils.toText(new BigDecimal("1E+3")), is("1000"));
+        assertThat(PrimaryKeyValueUtils.toText(LocalDateTime.of(2023, 1, 2, 3, 4, 5)), is("2023-01-02 03:04:05.0"));
+        assertThat(PrimaryKeyValueUtils.toText("foo"), is("foo"));
+    }
+    
+    @Test
+    void assertToParameter() {
+        assertThat(PrimaryKeyValueUtils.toParameter("01ab", Types.BINARY), is(new byte[]{1, (byte) 0xab}));
+        assertThat(PrimaryKeyValueUtils.toParameter("2023-01-02 03:04:05.0", Types.TIMESTAMP), is(Timestamp.valueOf("2023-01-02 03:04:05")));
+        assertThat(PrimaryKeyValueUtils.toParameter("2023-01-02", Types.DATE), is(Date.valueOf("2023-01-02")));
+        assertThat(PrimaryKeyValueUtils.toParameter("1", Types.BIGINT), is(1L));
+        assertThat(PrimaryKeyValueUtils.toParameter("18446744073709551615", Types.BIGINT), is(new BigInteger("18446744073709551615")));
+        assertThat(PrimaryKeyValueUtils.toParameter("1.5", Types.DECIMAL), is(new BigDecimal("1.5")));
+        assertThat(PrimaryKeyValueUtils.toParameter("foo", Types.VARCHAR), is("foo"));
+    }
+    
+    @Test
+    void assertEscapeAndUnescape() {
+        assertThat(PrimaryKeyValueUtils.escape("a,b%2C"), is("a%2Cb%252C"));
+        assertThat(PrimaryKeyValueUtils.unescape("a%2Cb%252C"), is("a,b%2C"));
+        assertThat(PrimaryKeyValueUtils.escape(null), is(""));
+    }
+}
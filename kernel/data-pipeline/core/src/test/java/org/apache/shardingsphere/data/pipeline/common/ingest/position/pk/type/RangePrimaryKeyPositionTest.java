@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type;
+
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.PrimaryKeyPositionFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RangePrimaryKeyPositionTest {
+    
+    @Test
+    void assertInit() {
+        RangePrimaryKeyPosition position = (RangePrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance("r,2023-01-01 00:00:00.0,a%2Cb%25");
+        assertThat(position.getBeginValue(), is("2023-01-01 00:00:00.0"));
+        assertThat(position.getEndValue(), is("a,b%"));
+    }
+    
+    @Test
+    void assertToString() {
+        assertThat(new RangePrimaryKeyPosition("2023-01-01 00:00:00.0", "a,b%").toString(), is("r,2023-01-01 00:00:00.0,a%2Cb%25"));
+    }
+    
+    @Test
+    void assertEmptyToNull() {
+        RangePrimaryKeyPosition actual = (RangePrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance("r,,");
+        assertNull(actual.getBeginValue());
+        assertNull(actual.getEndValue());
+    }
+}
@@ -48,6 +48,16 @@ class PipelineInventoryDumpSQLBuilderTest {
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order ORDER BY order_id ASC"));
     }
     
+    @Test
+    void assertBuildRangeSQL() {
+        assertThat(inventoryDumpSQLBuilder.buildRangeSQL(null, "t_order", Arrays.asList("order_id", "user_id"), "order_id", true, true),
+                is("SELECT order_id,user_id FROM t_order WHERE order_id>=? AND order_id<? ORDER BY order_id ASC"));
+        assertThat(inventoryDumpSQLBuilder.buildRangeSQL(null, "t_order", Arrays.asList("order_id", "user_id"), "order_id", false, true),
+                is("SELECT order_id,user_id FROM t_order WHERE order_id<? ORDER BY order_id ASC"));
+        assertThat(inventoryDumpSQLBuilder.buildRangeSQL(null, "t_order", Arrays.asList("order_id", "user_id"), "order_id", false, false),
+                is("SELECT order_id,user_id FROM t_order ORDER BY order_id ASC"));
+    }
+    
     @Test
     void assertBuildFetchAllSQL() {
         String actual = inventoryDumpSQLBuilder.buildFetchAllSQL(null, "t_order");
@@ -50,7 +50,9 @@ class DataRecordMergerTest {
         DataRecord afterDataRecord = mockUpdateDataRecord(1, 2, 2);
         List<GroupedDataRecord> actual = dataRecordMerger.group(Arrays.asList(beforeDataRecord, afterDataRecord));
         assertThat(actual.size(), is(1));
-        assertDataRecordsMatched(actual.iterator().next().getNonBatchRecords(), Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.get(0).getNonBatchRecords().size(), is(0));
+        assertThat(actual.get(0).getBatchInsertDataRecords().size(), is(1));
+        assertMergedDataRecord(actual.get(0).getBatchInsertDataRecords().get(0), IngestDataChangeType.INSERT, 1, 2, 2);
     }
     
     @Test
@@ -59,7 +61,22 @@ class DataRecordMergerTest {
         DataRecord afterDataRecord = mockUpdateDataRecord(1, 1, 2, 2);
         List<GroupedDataRecord> actual = dataRecordMerger.group(Arrays.asList(beforeDataRecord, afterDataRecord));
         assertThat(actual.size(), is(1));
-        assertDataRecordsMatched(actual.iterator().next().getNonBatchRecords(), Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.get(0).getNonBatchRecords().size(), is(0));
+        assertThat(actual.get(0).getBatchInsertDataRecords().size(), is(1));
+        assertMergedDataRecord(actual.get(0).getBatchInsertDataRecords().get(0), IngestDataChangeType.INSERT, 1, 2, 2);
+    }
+    
+    @Test
+    void assertInsertBeforeUpdatePrimaryKeyValue() {
+        DataRecord beforeDataRecord = mockInsertDataRecord(1, 1, 1);
+        DataRecord afterDataRecord = mockUpdateDataRecord(1, 2, 2, 2);
+        DataRecord lastDataRecord = mockUpdateDataRecord(2, 3, 3);
+        List<GroupedDataRecord> actual = dataRecordMerger.group(Arrays.asList(beforeDataRecord, afterDataRecord, lastDataRecord));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getBatchInsertDataRecords().size(), is(1));
+        assertThat(actual.get(0).getNonBatchRecords().size(), is(2));
+        assertThat(actual.get(0).getNonBatchRecords().get(0), sameInstance(afterDataRecord));
+        assertThat(actual.get(0).getNonBatchRecords().get(1), sameInstance(lastDataRecord));
     }
     
     @Test
@@ -68,7 +85,9 @@ class DataRecordMergerTest {
         DataRecord afterDataRecord = mockUpdateDataRecord(1, 2, 2);
         List<GroupedDataRecord> actual = dataRecordMerger.group(Arrays.asList(beforeDataRecord, afterDataRecord));
         assertThat(actual.size(), is(1));
-        assertDataRecordsMatched(actual.iterator().next().getNonBatchRecords(), Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.get(0).getNonBatchRecords().size(), is(0));
+        assertThat(actual.get(0).getBatchUpdateDataRecords().size(), is(1));
+        assertMergedDataRecord(actual.get(0).getBatchUpdateDataRecords().get(0), IngestDataChangeType.UPDATE, 1, 2, 2);
     }
     
     @Test
@@ -110,7 +129,9 @@ class DataRecordMergerTest {
         DataRecord afterDataRecord = mockDeleteDataRecord(1, 1, 1);
         List<GroupedDataRecord> actual = dataRecordMerger.group(Arrays.asList(beforeDataRecord, afterDataRecord));
         assertThat(actual.size(), is(1));
-        assertDataRecordsMatched(actual.iterator().next().getNonBatchRecords(), Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.get(0).getNonBatchRecords().size(), is(0));
+        assertThat(actual.get(0).getBatchDeleteDataRecords().size(), is(1));
+        assertThat(actual.get(0).getBatchDeleteDataRecords().get(0), sameInstance(afterDataRecord));
     }
     
     @Test
@@ -119,7 +140,9 @@ class DataRecordMergerTest {
         DataRecord afterDataRecord = mockDeleteDataRecord(1, 1, 1);
         List<GroupedDataRecord> actual = dataRecordMerger.group(Arrays.asList(beforeDataRecord, afterDataRecord));
         assertThat(actual.size(), is(1));
-        assertDataRecordsMatched(actual.iterator().next().getNonBatchRecords(), Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.get(0).getNonBatchRecords().size(), is(0));
+        assertThat(actual.get(0).getBatchDeleteDataRecords().size(), is(1));
+        assertThat(actual.get(0).getBatchDeleteDataRecords().get(0), sameInstance(afterDataRecord));
     }
     
     @Test
@@ -131,6 +154,13 @@ class DataRecordMergerTest {
         assertDataRecordsMatched(actual.iterator().next().getNonBatchRecords(), Arrays.asList(beforeDataRecord, afterDataRecord));
     }
     
+    private void assertMergedDataRecord(final DataRecord actual, final String expectedType, final int expectedId, final int expectedUserId, final int expectedTotalPrice) {
+        assertThat(actual.getType(), is(expectedType));
+        assertThat(actual.getColumn(0).getValue(), is(expectedId));
+        assertThat(actual.getColumn(1).getValue(), is(expectedUserId));
+        assertThat(actual.getColumn(2).getValue(), is(expectedTotalPrice));
+    }
+    
     private void assertDataRecordsMatched(final List<DataRecord> actualRecords, final List<DataRecord> expectedRecords) {
         for (int i = 0; i < actualRecords.size(); i++) {
             assertThat(actualRecords.get(0), sameInstance(expectedRecords.get(0)));
@@ -152,10 +182,10 @@ class DataRecordMergerTest {
         List<GroupedDataRecord> groupedDataRecords = dataRecordMerger.group(dataRecords);
         assertThat(groupedDataRecords.size(), is(2));
         assertThat(groupedDataRecords.get(0).getTableName(), is("t1"));
-        assertThat(groupedDataRecords.get(0).getBatchInsertDataRecords().size(), is(1));
-        assertThat(groupedDataRecords.get(0).getBatchUpdateDataRecords().size(), is(0));
+        assertThat(groupedDataRecords.get(0).getBatchInsertDataRecords().size(), is(2));
+        assertThat(groupedDataRecords.get(0).getBatchUpdateDataRecords().size(), is(1));
         assertThat(groupedDataRecords.get(0).getBatchDeleteDataRecords().size(), is(1));
-        assertThat(groupedDataRecords.get(0).getNonBatchRecords().size(), is(6));
+        assertThat(groupedDataRecords.get(0).getNonBatchRecords().size(), is(0));
         assertThat(groupedDataRecords.get(1).getTableName(), is("t2"));
         assertThat(groupedDataRecords.get(1).getBatchInsertDataRecords().size(), is(1));
     }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.common.sqlbuilder.PipelineSQLSegmentBuilder;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.DialectPipelineSQLBuilder;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -61,6 +62,11 @@ public final class PostgreSQLPipelineSQLBuilder implements DialectPipelineSQLBui
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildTableSampleClause(final double samplePercent) {
+        return Optional.of(String.format("TABLESAMPLE SYSTEM (%s)", BigDecimal.valueOf(samplePercent).toPlainString()));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
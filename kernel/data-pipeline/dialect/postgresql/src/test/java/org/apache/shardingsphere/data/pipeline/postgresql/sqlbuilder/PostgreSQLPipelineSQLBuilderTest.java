@@ -38,6 +38,11 @@ class PostgreSQLPipelineSQLBuilderTest {
         assertThat(actual, is("ON CONFLICT (order_id) DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
     }
     
+    @Test
+    void assertBuildTableSampleClause() {
+        assertThat(sqlBuilder.buildTableSampleClause(0.01D).orElse(null), is("TABLESAMPLE SYSTEM (0.01)"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(IngestDataChangeType.INSERT, "t_order", new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.addColumn(new Column("order_id", 1, true, true));
@@ -41,10 +41,13 @@ import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorit
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -55,6 +58,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class CDCImporter extends AbstractLifecycleExecutor implements Importer {
     
+    private static final int MAX_IN_FLIGHT_BATCHES = 10000;
+    
+    private static final long MAX_IDLE_SLEEP_MILLIS = 10L;
+    
     @Getter
     private final String importerId = RandomStringUtils.randomAlphanumeric(8);
     
@@ -74,7 +81,14 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
     
     private final PriorityQueue<CSNRecords> csnRecordsQueue = new PriorityQueue<>(new CSNRecordsComparator());
     
-    private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(10000).expireAfterAccess(5, TimeUnit.MINUTES).build();
+    private final Set<CDCChannelProgressPair> queuedChannelProgressPairs = Collections.newSetFromMap(new IdentityHashMap<>());
+    
+    private final Semaphore inFlightBatches = new Semaphore(MAX_IN_FLIGHT_BATCHES);
+    
+    private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(MAX_IN_FLIGHT_BATCHES).expireAfterAccess(5, TimeUnit.MINUTES)
+            .<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>>removalListener((key, value, cause) -> inFlightBatches.release()).build();
+    
+    private long idleSleepMillis;
     
     @Override
     protected void runBlocking() {
@@ -104,6 +118,9 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
             if (null != rateLimitAlgorithm) {
                 rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
             }
+            if (!acquireInFlightBatch()) {
+                return;
+            }
             String ackId = CDCAckId.build(importerId).marshal();
             ackCache.put(ackId, Collections.singletonList(Pair.of(channelProgressPair, new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
             sink.write(ackId, records);
@@ -123,28 +140,28 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
         if (null != rateLimitAlgorithm) {
             rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
         }
-        CSNRecords firstCsnRecords = null;
         List<CSNRecords> csnRecordsList = new LinkedList<>();
-        for (int i = 0, count = channelProgressPairs.size(); i < count; i++) {
-            prepareTransactionRecords(channelProgressPairs);
-            CSNRecords csnRecords = csnRecordsQueue.peek();
-            if (null == csnRecords) {
-                continue;
-            }
-            if (null == firstCsnRecords) {
-                csnRecords = csnRecordsQueue.poll();
-                firstCsnRecords = csnRecords;
-                csnRecordsList.add(csnRecords);
-            } else if (csnRecords.getCsn() == firstCsnRecords.getCsn()) {
-                csnRecords = csnRecordsQueue.poll();
-                csnRecordsList.add(csnRecords);
+        int dataRecordsCount = 0;
+        long startMillis = System.currentTimeMillis();
+        // combine small transactions which are ready into a large transaction, until records or delay reach the limit
+        do {
+            List<CSNRecords> sameCSNRecordsList = pollSameCSNRecords(channelProgressPairs);
+            if (sameCSNRecordsList.isEmpty()) {
+                break;
             }
-        }
+            csnRecordsList.addAll(sameCSNRecordsList);
+            dataRecordsCount += sameCSNRecordsList.stream().mapToInt(each -> getDataRecordsCount(each.getRecords())).sum();
+        } while (dataRecordsCount < batchSize && System.currentTimeMillis() - startMillis < timeUnit.toMillis(timeout));
         if (csnRecordsList.isEmpty()) {
-            timeUnit.sleep(timeout);
+            // back off while all channels are idle, but not longer than a short interval, so new transactions are not delayed by timeout
+            idleSleepMillis = Math.min(Math.max(idleSleepMillis << 1, 1L), Math.min(MAX_IDLE_SLEEP_MILLIS, timeUnit.toMillis(timeout)));
+            TimeUnit.MILLISECONDS.sleep(idleSleepMillis);
+            return;
+        }
+        idleSleepMillis = 0L;
+        if (!acquireInFlightBatch()) {
             return;
         }
-        // TODO Combine small transactions into a large transaction, to improve transformation performance.
         String ackId = CDCAckId.build(importerId).marshal();
         if (1 == csnRecordsList.size()) {
             CSNRecords csnRecords = csnRecordsList.get(0);
@@ -156,9 +173,39 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
         List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue = csnRecordsList.stream().map(each -> Pair.of(each.getChannelProgressPair(),
                 new CDCAckPosition(each.getRecords().get(each.getRecords().size() - 1), getDataRecordsCount(each.getRecords())))).collect(Collectors.toList());
         ackCache.put(ackId, ackValue);
-        List<Record> records = new ArrayList<>(ackValue.stream().mapToInt(each -> each.getRight().getDataRecordCount()).sum());
+        List<Record> records = new ArrayList<>(dataRecordsCount);
         csnRecordsList.forEach(each -> records.addAll(filterDataRecords(each.getRecords())));
-        sink.write(ackId, filterDataRecords(records));
+        sink.write(ackId, records);
+    }
+    
+    private List<CSNRecords> pollSameCSNRecords(final List<CDCChannelProgressPair> channelProgressPairs) {
+        prepareTransactionRecords(channelProgressPairs);
+        CSNRecords firstCsnRecords = csnRecordsQueue.poll();
+        if (null == firstCsnRecords) {
+            return Collections.emptyList();
+        }
+        queuedChannelProgressPairs.remove(firstCsnRecords.getChannelProgressPair());
+        List<CSNRecords> result = new LinkedList<>();
+        result.add(firstCsnRecords);
+        while (!csnRecordsQueue.isEmpty() && csnRecordsQueue.peek().getCsn() == firstCsnRecords.getCsn()) {
+            CSNRecords csnRecords = csnRecordsQueue.poll();
+            queuedChannelProgressPairs.remove(csnRecords.getChannelProgressPair());
+            result.add(csnRecords);
+        }
+        return result;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private boolean acquireInFlightBatch() {
+        // records are sent without waiting for ack of previous batches, until the window of in-flight batches is full
+        while (isRunning()) {
+            if (inFlightBatches.tryAcquire(timeout, timeUnit)) {
+                return true;
+            }
+            log.debug("In-flight batches reach the limit {}, waiting for ack", MAX_IN_FLIGHT_BATCHES);
+        }
+        // batch without permit must not be put into ack cache, whose removal listener releases permit
+        return false;
     }
     
     private int getDataRecordsCount(final List<Record> records) {
@@ -170,17 +217,12 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
     }
     
     // TODO openGauss CSN should be incremented for every transaction. Currently, CSN might be duplicated in transactions.
-    // TODO Use channels watermark depth to improve performance.
     private void prepareTransactionRecords(final List<CDCChannelProgressPair> channelProgressPairs) {
-        if (csnRecordsQueue.isEmpty()) {
-            prepareWhenQueueIsEmpty(channelProgressPairs);
-        } else {
-            prepareWhenQueueIsNotEmpty(channelProgressPairs, csnRecordsQueue.peek().getCsn());
-        }
-    }
-    
-    private void prepareWhenQueueIsEmpty(final List<CDCChannelProgressPair> channelProgressPairs) {
+        // every channel has at most one transaction records in queue, which is the watermark of the channel, so only channels without watermark are polled
         for (CDCChannelProgressPair each : channelProgressPairs) {
+            if (queuedChannelProgressPairs.contains(each)) {
+                continue;
+            }
             PipelineChannel channel = each.getChannel();
             List<Record> records = channel.pollRecords();
             if (records.isEmpty()) {
@@ -191,6 +233,7 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
                 continue;
             }
             csnRecordsQueue.add(new CSNRecords(findFirstDataRecord(records).getCsn(), each, records));
+            queuedChannelProgressPairs.add(each);
         }
     }
     
@@ -203,26 +246,6 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
         throw new IllegalStateException("No data record found");
     }
     
-    private void prepareWhenQueueIsNotEmpty(final List<CDCChannelProgressPair> channelProgressPairs, final long oldestCSN) {
-        for (CDCChannelProgressPair each : channelProgressPairs) {
-            PipelineChannel channel = each.getChannel();
-            List<Record> records = channel.peekRecords();
-            if (records.isEmpty()) {
-                continue;
-            }
-            if (0 == getDataRecordsCount(records)) {
-                records = channel.pollRecords();
-                channel.ack(records);
-                continue;
-            }
-            long csn = findFirstDataRecord(records).getCsn();
-            if (csn <= oldestCSN) {
-                records = channel.pollRecords();
-                csnRecordsQueue.add(new CSNRecords(csn, each, records));
-            }
-        }
-    }
-    
     /**
      * Ack.
      *
@@ -234,6 +257,7 @@ public final class CDCImporter extends AbstractLifecycleExecutor implements Impo
             log.warn("Could not find cached ack info, ack id: {}", ackId);
             return;
         }
+        ackCache.invalidate(ackId);
         for (Pair<CDCChannelProgressPair, CDCAckPosition> each : channelPositionPairList) {
             CDCAckPosition ackPosition = each.getRight();
             each.getLeft().getChannel().ack(Collections.singletonList(ackPosition.getLastRecord()));
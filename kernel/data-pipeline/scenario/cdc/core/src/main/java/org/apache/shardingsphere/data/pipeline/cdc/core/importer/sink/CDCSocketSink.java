@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
@@ -37,9 +38,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * CDC socket sink.
@@ -49,16 +47,14 @@ public final class CDCSocketSink implements PipelineSink {
     
     private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
     
-    private final Lock lock = new ReentrantLock();
-    
-    private final Condition condition = lock.newCondition();
-    
     private final ShardingSphereDatabase database;
     
     private final Channel channel;
     
     private final Map<String, String> tableNameSchemaMap = new HashMap<>();
     
+    private volatile ChannelFuture lastWriteFuture;
+    
     public CDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
         this.channel = channel;
         this.database = database;
@@ -93,24 +89,19 @@ public final class CDCSocketSink implements PipelineSink {
             resultRecords.add(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableNameSchemaMap.get(dataRecord.getTableName()), dataRecord));
         }
         DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
+        lastWriteFuture = channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
         return new PipelineJobProgressUpdatedParameter(resultRecords.size());
     }
     
     @SneakyThrows(InterruptedException.class)
     private void doAwait() {
-        lock.lock();
-        long startMillis = System.currentTimeMillis();
-        long endMillis = startMillis;
-        boolean awaitResult;
-        try {
-            do {
-                awaitResult = condition.await(DEFAULT_TIMEOUT_MILLISECONDS - (endMillis - startMillis), TimeUnit.MILLISECONDS);
-                endMillis = System.currentTimeMillis();
-            } while (!awaitResult && DEFAULT_TIMEOUT_MILLISECONDS > endMillis - startMillis);
-        } finally {
-            lock.unlock();
+        ChannelFuture writeFuture = lastWriteFuture;
+        // channel becomes writable when pending write buffer is flushed, so wait for the last write instead of sleeping
+        if (null != writeFuture && !writeFuture.isDone()) {
+            writeFuture.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            return;
         }
+        TimeUnit.MILLISECONDS.sleep(DEFAULT_TIMEOUT_MILLISECONDS);
     }
     
     @Override
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.common.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CDCImporterTest {
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertGroupCommitWithSorting() {
+        DataRecord firstRecord = createDataRecord(1L);
+        DataRecord secondRecord = createDataRecord(2L);
+        PipelineChannel firstChannel = mock(PipelineChannel.class);
+        when(firstChannel.pollRecords()).thenReturn(Collections.singletonList(firstRecord), Collections.emptyList());
+        PipelineChannel secondChannel = mock(PipelineChannel.class);
+        when(secondChannel.pollRecords()).thenReturn(Collections.singletonList(secondRecord), Collections.emptyList());
+        PipelineJobProgressListener jobProgressListener = mock(PipelineJobProgressListener.class);
+        PipelineSink sink = mock(PipelineSink.class);
+        CDCImporter importer = new CDCImporter(Arrays.asList(new CDCChannelProgressPair(firstChannel, jobProgressListener), new CDCChannelProgressPair(secondChannel, jobProgressListener)),
+                100, 100L, TimeUnit.MILLISECONDS, sink, true, null);
+        new Thread(importer).start();
+        try {
+            ArgumentCaptor<String> ackIdCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<List<Record>> recordsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(sink, timeout(5000L)).write(ackIdCaptor.capture(), recordsCaptor.capture());
+            assertThat(recordsCaptor.getValue(), is(Arrays.<Record>asList(firstRecord, secondRecord)));
+            importer.ack(ackIdCaptor.getValue());
+            verify(firstChannel).ack(Collections.singletonList(firstRecord));
+            verify(secondChannel).ack(Collections.singletonList(secondRecord));
+        } finally {
+            importer.stop();
+        }
+        verify(sink, timeout(1000L).times(1)).write(anyString(), anyList());
+        verify(jobProgressListener, timeout(1000L).times(2)).onProgressUpdated(any());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertMergeChannelsInCSNOrderWithIdleChannel() {
+        DataRecord firstRecord = createDataRecord(3L);
+        DataRecord secondRecord = createDataRecord(4L);
+        DataRecord thirdRecord = createDataRecord(5L);
+        PipelineChannel firstChannel = mock(PipelineChannel.class);
+        when(firstChannel.pollRecords()).thenReturn(Collections.singletonList(firstRecord), Collections.singletonList(thirdRecord), Collections.emptyList());
+        PipelineChannel secondChannel = mock(PipelineChannel.class);
+        when(secondChannel.pollRecords()).thenReturn(Collections.singletonList(secondRecord), Collections.emptyList());
+        PipelineChannel idleChannel = mock(PipelineChannel.class);
+        when(idleChannel.pollRecords()).thenReturn(Collections.emptyList());
+        PipelineJobProgressListener jobProgressListener = mock(PipelineJobProgressListener.class);
+        PipelineSink sink = mock(PipelineSink.class);
+        CDCImporter importer = new CDCImporter(Arrays.asList(new CDCChannelProgressPair(firstChannel, jobProgressListener), new CDCChannelProgressPair(secondChannel, jobProgressListener),
+                new CDCChannelProgressPair(idleChannel, jobProgressListener)), 100, 1000L, TimeUnit.MILLISECONDS, sink, true, null);
+        new Thread(importer).start();
+        try {
+            ArgumentCaptor<List<Record>> recordsCaptor = ArgumentCaptor.forClass(List.class);
+            verify(sink, timeout(5000L)).write(anyString(), recordsCaptor.capture());
+            assertThat(recordsCaptor.getValue(), is(Arrays.<Record>asList(firstRecord, secondRecord, thirdRecord)));
+        } finally {
+            importer.stop();
+        }
+    }
+    
+    private DataRecord createDataRecord(final long csn) {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, "t_order", mock(IngestPosition.class), 1);
+        result.setCsn(csn);
+        return result;
+    }
+}
@@ -22,8 +22,10 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.compiler.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.planner.OptimizerPlannerContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableScanPlanCache;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Optimizer context.
@@ -38,6 +40,8 @@ public final class OptimizerContext {
     
     private final Map<String, OptimizerPlannerContext> plannerContexts;
     
+    private final Map<String, EnumerableScanPlanCache> scanPlanCaches = new ConcurrentHashMap<>();
+    
     /**
      * Get parser context.
      * 
@@ -95,4 +99,23 @@ public final class OptimizerContext {
     public void removePlannerContext(final String databaseName) {
         plannerContexts.remove(databaseName.toLowerCase());
     }
+    
+    /**
+     * Get scan plan cache.
+     *
+     * @param databaseName database name
+     * @return scan plan cache
+     */
+    public EnumerableScanPlanCache getScanPlanCache(final String databaseName) {
+        return scanPlanCaches.computeIfAbsent(databaseName.toLowerCase(), unused -> new EnumerableScanPlanCache(sqlParserRule.getSqlStatementCache()));
+    }
+    
+    /**
+     * Remove scan plan cache.
+     *
+     * @param databaseName database name
+     */
+    public void removeScanPlanCache(final String databaseName) {
+        scanPlanCaches.remove(databaseName.toLowerCase());
+    }
 }
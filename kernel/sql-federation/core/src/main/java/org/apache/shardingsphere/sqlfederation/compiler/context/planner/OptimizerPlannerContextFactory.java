@@ -77,7 +77,7 @@ public final class OptimizerPlannerContextFactory {
         Map<String, SqlToRelConverter> converters = new LinkedHashMap<>();
         for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
             CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(parserContext.getDialectProps());
-            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY);
+            Schema sqlFederationSchema = new SQLFederationSchema(entry.getKey(), entry.getValue(), database.getRuleMetaData(), database.getProtocolType(), DEFAULT_DATA_TYPE_FACTORY);
             CalciteCatalogReader catalogReader = SQLFederationPlannerUtils.createCatalogReader(entry.getKey(), sqlFederationSchema, DEFAULT_DATA_TYPE_FACTORY, connectionConfig);
             SqlValidator validator = SQLFederationPlannerUtils.createSqlValidator(catalogReader, DEFAULT_DATA_TYPE_FACTORY, parserContext.getDatabaseType(), connectionConfig);
             SqlToRelConverter converter = SQLFederationPlannerUtils.createSqlToRelConverter(catalogReader, validator, SQLFederationPlannerUtils.createRelOptCluster(DEFAULT_DATA_TYPE_FACTORY),
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.metadata.schema;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.calcite.DataContext;
@@ -35,13 +36,13 @@ import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.schema.QueryableTable;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Schemas;
-import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.util.SQLFederationDataTypeUtils;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.util.RuntimeFilterSQLGenerator;
 import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationStatistic;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableScanExecutorContext;
@@ -65,6 +66,10 @@ public final class SQLFederationTable extends AbstractTable implements Queryable
     @Setter
     private EnumerableScanExecutor scanExecutor;
     
+    @Getter
+    @Setter
+    private boolean columnValueTransformed;
+    
     @Override
     public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
         return SQLFederationDataTypeUtils.createRelDataType(table, protocolType, typeFactory);
@@ -96,13 +101,34 @@ public final class SQLFederationTable extends AbstractTable implements Queryable
      * @param root data context
      * @param sql sql
      * @param paramIndexes param indexes
+     * @param columnTypes java types of push down columns
+     * @return enumerable result
+     */
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final Class<?>[] columnTypes) {
+        if (null == scanExecutor) {
+            return createEmptyEnumerable();
+        }
+        return scanExecutor.execute(table, new EnumerableScanExecutorContext(root, sql, paramIndexes, columnTypes));
+    }
+    
+    /**
+     * Execute with runtime filter.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes
+     * @param columnTypes java types of push down columns
+     * @param runtimeFilterId runtime filter ID
+     * @param runtimeFilterKeyIndex runtime filter key index
+     * @param runtimeFilterSQLGenerator runtime filter SQL generator
      * @return enumerable result
      */
-    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes) {
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final Class<?>[] columnTypes,
+                                      final int runtimeFilterId, final int runtimeFilterKeyIndex, final RuntimeFilterSQLGenerator runtimeFilterSQLGenerator) {
         if (null == scanExecutor) {
             return createEmptyEnumerable();
         }
-        return scanExecutor.execute(table, new EnumerableScanExecutorContext(root, sql, paramIndexes));
+        return scanExecutor.execute(table, new EnumerableScanExecutorContext(root, sql, paramIndexes, columnTypes, runtimeFilterId, runtimeFilterKeyIndex, runtimeFilterSQLGenerator));
     }
     
     private AbstractEnumerable<Object> createEmptyEnumerable() {
@@ -121,7 +147,7 @@ public final class SQLFederationTable extends AbstractTable implements Queryable
     }
     
     @Override
-    public Statistic getStatistic() {
+    public SQLFederationStatistic getStatistic() {
         return statistic;
     }
 }
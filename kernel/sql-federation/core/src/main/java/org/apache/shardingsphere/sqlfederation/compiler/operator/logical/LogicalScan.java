@@ -20,9 +20,13 @@ package org.apache.shardingsphere.sqlfederation.compiler.operator.logical;
 import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Sort;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.calcite.rel.logical.LogicalTableScan;
 import org.apache.shardingsphere.sqlfederation.compiler.operator.util.LogicalScanPushDownRelBuilder;
 
@@ -53,7 +57,7 @@ public final class LogicalScan extends TableScan {
     
     /**
      * Push down logical filter.
-     * 
+     *
      * @param logicalFilter logical filter
      */
     public void pushDown(final LogicalFilter logicalFilter) {
@@ -63,7 +67,7 @@ public final class LogicalScan extends TableScan {
     
     /**
      * Push down logical project.
-     *  
+     *
      * @param logicalProject logical project
      */
     public void pushDown(final LogicalProject logicalProject) {
@@ -71,6 +75,44 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        pushDownRelBuilder.push(logicalAggregate.copy(logicalAggregate.getTraitSet(), Collections.singletonList(pushDownRelBuilder.build())));
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Push down logical sort.
+     *
+     * @param logicalSort logical sort
+     */
+    public void pushDown(final LogicalSort logicalSort) {
+        pushDownRelBuilder.push(logicalSort.copy(logicalSort.getTraitSet(), pushDownRelBuilder.build(), logicalSort.getCollation(), logicalSort.offset, logicalSort.fetch));
+        resetRowType(logicalSort);
+    }
+    
+    /**
+     * Judge whether aggregate is the last pushed down rel node.
+     *
+     * @return aggregate is the last pushed down rel node or not
+     */
+    public boolean isAggregated() {
+        return pushDownRelBuilder.peek() instanceof Aggregate;
+    }
+    
+    /**
+     * Judge whether sort is the last pushed down rel node.
+     *
+     * @return sort is the last pushed down rel node or not
+     */
+    public boolean isSorted() {
+        return pushDownRelBuilder.peek() instanceof Sort;
+    }
+    
     /**
      * Peek rel node.
      *
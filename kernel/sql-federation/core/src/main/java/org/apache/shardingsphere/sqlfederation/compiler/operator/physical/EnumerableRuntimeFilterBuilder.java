@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.operator.physical;
+
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.shardingsphere.sqlfederation.executor.filter.RuntimeFilterCollectEnumerable;
+
+import java.util.List;
+
+/**
+ * Enumerable runtime filter builder, which collects join keys of hash join build side into runtime filter.
+ */
+@Getter
+public final class EnumerableRuntimeFilterBuilder extends SingleRel implements EnumerableRel {
+    
+    private final int runtimeFilterId;
+    
+    private final int keyIndex;
+    
+    private final int expectedKeyCount;
+    
+    public EnumerableRuntimeFilterBuilder(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final int runtimeFilterId, final int keyIndex, final int expectedKeyCount) {
+        super(cluster, traitSet, input);
+        this.runtimeFilterId = runtimeFilterId;
+        this.keyIndex = keyIndex;
+        this.expectedKeyCount = expectedKeyCount;
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new EnumerableRuntimeFilterBuilder(getCluster(), traitSet, sole(inputs), runtimeFilterId, keyIndex, expectedKeyCount);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter relWriter) {
+        return super.explainTerms(relWriter).item("runtimeFilter", runtimeFilterId).item("key", keyIndex);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        Result result = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+        if (JavaRowFormat.ARRAY != result.format && JavaRowFormat.SCALAR != result.format) {
+            return result;
+        }
+        BlockBuilder builder = new BlockBuilder();
+        Expression input = builder.append("input", result.block);
+        builder.add(Expressions.return_(null, Expressions.new_(RuntimeFilterCollectEnumerable.class,
+                input, implementor.getRootExpression(), Expressions.constant(runtimeFilterId), Expressions.constant(keyIndex), Expressions.constant(expectedKeyCount))));
+        return implementor.result(result.physType, builder.toBlock());
+    }
+}
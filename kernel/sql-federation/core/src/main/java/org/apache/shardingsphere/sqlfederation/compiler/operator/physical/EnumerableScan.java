@@ -24,6 +24,7 @@ import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
 import org.apache.calcite.adapter.enumerable.PhysType;
 import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
 import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
@@ -36,10 +37,13 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlDialect;
 import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.util.RuntimeFilterSQLGenerator;
 import org.apache.shardingsphere.sqlfederation.executor.SQLDialectFactory;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
@@ -49,32 +53,70 @@ import java.util.Objects;
 @Getter
 public final class EnumerableScan extends TableScan implements EnumerableRel {
     
+    private final RelNode pushDownRelNode;
+    
+    private final String databaseType;
+    
     private final SqlString sqlString;
     
     private final RelDataType pushDownRowType;
     
+    private final int runtimeFilterId;
+    
+    private final int runtimeFilterKeyIndex;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
-        super(cluster, traitSet, Collections.emptyList(), table);
-        this.traitSet = this.traitSet.replace(EnumerableConvention.INSTANCE);
-        sqlString = createSQLString(pushDownRelNode, databaseType);
-        pushDownRowType = pushDownRelNode.getRowType();
+        this(cluster, traitSet, table, pushDownRelNode, databaseType, createSQLString(pushDownRelNode, databaseType), -1, -1);
     }
     
-    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+    private EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType, final SqlString sqlString,
+                           final int runtimeFilterId, final int runtimeFilterKeyIndex) {
         super(cluster, traitSet, Collections.emptyList(), table);
         this.traitSet = this.traitSet.replace(EnumerableConvention.INSTANCE);
+        this.pushDownRelNode = pushDownRelNode;
+        this.databaseType = databaseType;
         this.sqlString = sqlString;
-        this.pushDownRowType = pushDownRowType;
+        pushDownRowType = pushDownRelNode.getRowType();
+        this.runtimeFilterId = runtimeFilterId;
+        this.runtimeFilterKeyIndex = runtimeFilterKeyIndex;
+    }
+    
+    private static SqlString createSQLString(final RelNode scanContext, final String databaseType) {
+        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
+        return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
+    }
+    
+    /**
+     * Judge whether runtime filter can be applied on key.
+     *
+     * @param keyIndex key index
+     * @return runtime filter can be applied or not
+     */
+    public boolean isRuntimeFilterSupported(final int keyIndex) {
+        SQLFederationTable federationTable = table.unwrap(SQLFederationTable.class);
+        // column values of encrypt and mask tables are transformed by kernel, so they can not be compared with values of other tables in storage unit
+        return runtimeFilterId < 0 && null != federationTable && !federationTable.isColumnValueTransformed() && RuntimeFilterSQLGenerator.isSupported(pushDownRelNode, keyIndex);
+    }
+    
+    /**
+     * Attach runtime filter.
+     *
+     * @param runtimeFilterId runtime filter ID
+     * @param keyIndex key index
+     * @return enumerable scan with runtime filter
+     */
+    public EnumerableScan attachRuntimeFilter(final int runtimeFilterId, final int keyIndex) {
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, runtimeFilterId, keyIndex);
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, runtimeFilterId, runtimeFilterKeyIndex);
     }
     
     @Override
     public RelWriter explainTerms(final RelWriter relWriter) {
-        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll("[\r\n]", " "));
+        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll("[\r\n]", " ")).itemIf("runtimeFilter", runtimeFilterId, runtimeFilterId >= 0);
     }
     
     @Override
@@ -86,13 +128,23 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
         PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
         int[] paramIndexes = null == sqlString.getDynamicParameters() ? new int[]{} : getParamIndexes(sqlString.getDynamicParameters());
-        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", implementor.getRootExpression(),
-                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
+        List<Expression> arguments = new LinkedList<>(
+                Arrays.asList(implementor.getRootExpression(), Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes),
+                        implementor.stash(getColumnTypes(physType), Class[].class)));
+        if (runtimeFilterId >= 0) {
+            arguments.add(Expressions.constant(runtimeFilterId));
+            arguments.add(Expressions.constant(runtimeFilterKeyIndex));
+            arguments.add(implementor.stash(new RuntimeFilterSQLGenerator(pushDownRelNode, runtimeFilterKeyIndex, databaseType), RuntimeFilterSQLGenerator.class));
+        }
+        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", arguments)));
     }
     
-    private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
-        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
-        return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
+    private Class<?>[] getColumnTypes(final PhysType physType) {
+        Class<?>[] result = new Class<?>[getPushDownRowType().getFieldCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = physType.fieldClass(i);
+        }
+        return result;
     }
     
     private int[] getParamIndexes(final Collection<Integer> dynamicParameters) {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.operator.util;
+
+import org.apache.calcite.adapter.enumerable.EnumerableCalc;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexProgram;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.physical.EnumerableRuntimeFilterBuilder;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.physical.EnumerableScan;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Runtime filter rel shuttle.
+ *
+ * <p>Build side of inner hash join is consumed before probe side is enumerated, so join keys of build side can filter probe side scan in storage units.</p>
+ */
+public final class RuntimeFilterRelShuttle extends RelShuttleImpl {
+    
+    private static final Collection<SqlTypeName> SUPPORTED_KEY_TYPES = EnumSet.of(
+            SqlTypeName.TINYINT, SqlTypeName.SMALLINT, SqlTypeName.INTEGER, SqlTypeName.BIGINT, SqlTypeName.DECIMAL, SqlTypeName.CHAR, SqlTypeName.VARCHAR);
+    
+    private static final int MAX_EXPECTED_KEY_COUNT = 1 << 22;
+    
+    private int runtimeFilterCount;
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        RelNode result = super.visit(other);
+        return result instanceof EnumerableHashJoin ? attachRuntimeFilter((EnumerableHashJoin) result) : result;
+    }
+    
+    private RelNode attachRuntimeFilter(final EnumerableHashJoin join) {
+        JoinInfo joinInfo = join.analyzeCondition();
+        if (JoinRelType.INNER != join.getJoinType() || joinInfo.leftKeys.isEmpty()) {
+            return join;
+        }
+        int probeKeyIndex = joinInfo.leftKeys.get(0);
+        int buildKeyIndex = joinInfo.rightKeys.get(0);
+        RelDataType probeKeyType = join.getLeft().getRowType().getFieldList().get(probeKeyIndex).getType();
+        RelDataType buildKeyType = join.getRight().getRowType().getFieldList().get(buildKeyIndex).getType();
+        if (!SUPPORTED_KEY_TYPES.contains(probeKeyType.getSqlTypeName()) || probeKeyType.getSqlTypeName() != buildKeyType.getSqlTypeName()) {
+            return join;
+        }
+        Optional<RelNode> probe = attachRuntimeFilter(join.getLeft(), probeKeyIndex, runtimeFilterCount);
+        if (!probe.isPresent()) {
+            return join;
+        }
+        Double buildRowCount = join.getCluster().getMetadataQuery().getRowCount(join.getRight());
+        int expectedKeyCount = null == buildRowCount ? 0 : (int) Math.min(buildRowCount, MAX_EXPECTED_KEY_COUNT);
+        RelNode build = new EnumerableRuntimeFilterBuilder(join.getCluster(), join.getRight().getTraitSet(), join.getRight(), runtimeFilterCount++, buildKeyIndex, expectedKeyCount);
+        return join.copy(join.getTraitSet(), Arrays.asList(probe.get(), build));
+    }
+    
+    private Optional<RelNode> attachRuntimeFilter(final RelNode probe, final int keyIndex, final int runtimeFilterId) {
+        if (probe instanceof EnumerableScan) {
+            EnumerableScan scan = (EnumerableScan) probe;
+            return scan.isRuntimeFilterSupported(keyIndex) ? Optional.of(scan.attachRuntimeFilter(runtimeFilterId, keyIndex)) : Optional.empty();
+        }
+        if (probe instanceof EnumerableCalc) {
+            RexProgram program = ((EnumerableCalc) probe).getProgram();
+            RexNode key = program.expandLocalRef(program.getProjectList().get(keyIndex));
+            if (key instanceof RexInputRef) {
+                return attachRuntimeFilter(((EnumerableCalc) probe).getInput(), ((RexInputRef) key).getIndex(), runtimeFilterId)
+                        .map(optional -> ((EnumerableCalc) probe).copy(probe.getTraitSet(), optional, program));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Attach runtime filters to probe side scans of hash joins.
+     *
+     * @param relNode rel node
+     * @return rel node with runtime filters
+     */
+    public static RelNode attach(final RelNode relNode) {
+        return relNode.accept(new RuntimeFilterRelShuttle());
+    }
+}
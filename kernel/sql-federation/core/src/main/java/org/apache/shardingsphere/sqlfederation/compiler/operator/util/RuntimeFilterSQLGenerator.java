@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.operator.util;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.util.SqlString;
+import org.apache.shardingsphere.sqlfederation.executor.SQLDialectFactory;
+import org.apache.shardingsphere.sqlfederation.executor.filter.RuntimeFilter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runtime filter SQL generator, which generates SQL of probe side scan with runtime filter condition.
+ */
+@RequiredArgsConstructor
+public final class RuntimeFilterSQLGenerator {
+    
+    private final RelNode pushDownRelNode;
+    
+    private final int keyIndex;
+    
+    private final String databaseType;
+    
+    /**
+     * Judge whether runtime filter condition can be generated for key of push down rel node.
+     *
+     * @param pushDownRelNode push down rel node
+     * @param keyIndex key index of push down rel node
+     * @return runtime filter condition can be generated or not
+     */
+    public static boolean isSupported(final RelNode pushDownRelNode, final int keyIndex) {
+        return findColumnIndex(pushDownRelNode, keyIndex).isPresent();
+    }
+    
+    private static Optional<Integer> findColumnIndex(final RelNode relNode, final int index) {
+        if (relNode instanceof TableScan) {
+            return Optional.of(index);
+        }
+        if (relNode instanceof Filter) {
+            return findColumnIndex(((Filter) relNode).getInput(), index);
+        }
+        if (relNode instanceof Project) {
+            RexNode project = ((Project) relNode).getProjects().get(index);
+            return project instanceof RexInputRef ? findColumnIndex(((Project) relNode).getInput(), ((RexInputRef) project).getIndex()) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Generate SQL with runtime filter condition.
+     *
+     * @param runtimeFilter runtime filter
+     * @param paramOffset index offset of runtime filter parameters
+     * @return SQL with runtime filter condition, dynamic parameters whose index is not less than param offset are parameters of runtime filter
+     */
+    public Optional<SqlString> generate(final RuntimeFilter runtimeFilter, final int paramOffset) {
+        Optional<Integer> columnIndex = findColumnIndex(pushDownRelNode, keyIndex);
+        if (!columnIndex.isPresent() || runtimeFilter.getParameters().isEmpty()) {
+            return Optional.empty();
+        }
+        RexNode condition = createCondition(runtimeFilter, columnIndex.get(), paramOffset);
+        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
+        return Optional.of(new RelToSqlConverter(sqlDialect).visitRoot(addCondition(pushDownRelNode, condition)).asStatement().toSqlString(sqlDialect));
+    }
+    
+    private RexNode createCondition(final RuntimeFilter runtimeFilter, final int columnIndex, final int paramOffset) {
+        RexBuilder rexBuilder = pushDownRelNode.getCluster().getRexBuilder();
+        RelDataType columnType = findTableScan(pushDownRelNode).getRowType().getFieldList().get(columnIndex).getType();
+        RexNode column = rexBuilder.makeInputRef(columnType, columnIndex);
+        if (runtimeFilter.isInValuesAvailable()) {
+            List<RexNode> params = new ArrayList<>(runtimeFilter.getInValues().size());
+            for (int i = 0; i < runtimeFilter.getInValues().size(); i++) {
+                params.add(rexBuilder.makeDynamicParam(columnType, paramOffset + i));
+            }
+            return rexBuilder.makeIn(column, params);
+        }
+        return rexBuilder.makeCall(SqlStdOperatorTable.AND, rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, column, rexBuilder.makeDynamicParam(columnType, paramOffset)),
+                rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN_OR_EQUAL, column, rexBuilder.makeDynamicParam(columnType, paramOffset + 1)));
+    }
+    
+    private TableScan findTableScan(final RelNode relNode) {
+        return relNode instanceof TableScan ? (TableScan) relNode : findTableScan(relNode.getInput(0));
+    }
+    
+    private RelNode addCondition(final RelNode relNode, final RexNode condition) {
+        if (relNode instanceof TableScan) {
+            return LogicalFilter.create(relNode, condition);
+        }
+        if (relNode instanceof Filter && ((Filter) relNode).getInput() instanceof TableScan) {
+            Filter filter = (Filter) relNode;
+            return filter.copy(filter.getTraitSet(), filter.getInput(), RexUtil.composeConjunction(relNode.getCluster().getRexBuilder(), Arrays.asList(filter.getCondition(), condition)));
+        }
+        return relNode.copy(relNode.getTraitSet(), Collections.singletonList(addCondition(relNode.getInput(0), condition)));
+    }
+}
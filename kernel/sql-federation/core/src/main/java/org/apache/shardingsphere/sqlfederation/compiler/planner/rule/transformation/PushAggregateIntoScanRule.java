@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+
+/**
+ * Push aggregate into scan rule.
+ *
+ * <p>Aggregation of every shard is executed by storage unit, then combined by merge engine of kernel.</p>
+ */
+@Value.Enclosing
+public final class PushAggregateIntoScanRule extends RelRule<PushAggregateIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new HashSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private static final Collection<SqlKind> MERGEABLE_AGGREGATION_KINDS = EnumSet.of(SqlKind.COUNT, SqlKind.SUM, SqlKind.MIN, SqlKind.MAX, SqlKind.AVG);
+    
+    private PushAggregateIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each.toLowerCase())) {
+                return false;
+            }
+        }
+        SQLFederationTable table = logicalScan.getTable().unwrap(SQLFederationTable.class);
+        if (null == table || table.isColumnValueTransformed() || logicalScan.isAggregated() || logicalScan.isSorted()) {
+            return false;
+        }
+        LogicalAggregate logicalAggregate = call.rel(0);
+        return Group.SIMPLE == logicalAggregate.getGroupType() && isMergeable(logicalAggregate.getAggCallList()) && isColumnReferences(logicalScan.peek(), logicalAggregate);
+    }
+    
+    private boolean isMergeable(final Collection<AggregateCall> aggregateCalls) {
+        for (AggregateCall each : aggregateCalls) {
+            if (!MERGEABLE_AGGREGATION_KINDS.contains(each.getAggregation().getKind()) || each.isDistinct() || each.isApproximate() || each.hasFilter() || each.getArgList().size() > 1
+                    || !each.getCollation().getFieldCollations().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isColumnReferences(final RelNode input, final LogicalAggregate logicalAggregate) {
+        if (!(input instanceof Project)) {
+            return true;
+        }
+        ImmutableBitSet.Builder usedFields = logicalAggregate.getGroupSet().rebuild();
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            usedFields.addAll(each.getArgList());
+        }
+        for (int each : usedFields.build()) {
+            if (!(((Project) input).getProjects().get(each) instanceof RexInputRef)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown(logicalAggregate);
+        call.transformTo(logicalScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushAggregateIntoScanRule toRule() {
+            return new PushAggregateIntoScanRule(this);
+        }
+    }
+}
@@ -52,6 +52,10 @@ public final class PushFilterIntoScanRule extends RelRule<PushFilterIntoScanRule
                 return false;
             }
         }
+        // generated SQL is merged by kernel, which does not support filter or project over aggregate and sort
+        if (logicalScan.isAggregated() || logicalScan.isSorted()) {
+            return false;
+        }
         LogicalFilter logicalFilter = call.rel(0);
         RexNode condition = logicalFilter.getCondition();
         return !(condition instanceof RexCall) || !containsCorrelate(((RexCall) condition).getOperands());
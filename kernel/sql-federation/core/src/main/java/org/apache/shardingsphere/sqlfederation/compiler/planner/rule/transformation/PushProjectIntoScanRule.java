@@ -52,6 +52,10 @@ public final class PushProjectIntoScanRule extends RelRule<PushProjectIntoScanRu
                 return false;
             }
         }
+        // generated SQL is merged by kernel, which does not support filter or project over aggregate and sort
+        if (logicalScan.isAggregated() || logicalScan.isSorted()) {
+            return false;
+        }
         LogicalProject logicalProject = call.rel(0);
         for (RexNode each : logicalProject.getProjects()) {
             if (containsCastFunction(each)) {
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Push sort into scan rule.
+ *
+ * <p>Sort and top-N of every shard is executed by storage unit, then merged by merge engine of kernel.
+ * Sort is pushed down with default null direction only, and nulls are ordered by database as the merge engine does.</p>
+ */
+@Value.Enclosing
+public final class PushSortIntoScanRule extends RelRule<PushSortIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new HashSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private PushSortIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each.toLowerCase())) {
+                return false;
+            }
+        }
+        SQLFederationTable table = logicalScan.getTable().unwrap(SQLFederationTable.class);
+        if (null == table || table.isColumnValueTransformed() || logicalScan.isSorted()) {
+            return false;
+        }
+        LogicalSort logicalSort = call.rel(0);
+        return isDefaultNullDirection(logicalSort.getCollation()) && isColumnReferences(logicalScan.peek(), logicalSort);
+    }
+    
+    private boolean isDefaultNullDirection(final RelCollation collation) {
+        for (RelFieldCollation each : collation.getFieldCollations()) {
+            if (each.nullDirection != each.direction.defaultNullDirection()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isColumnReferences(final RelNode input, final LogicalSort logicalSort) {
+        if (!(input instanceof Project)) {
+            return true;
+        }
+        for (RelFieldCollation each : logicalSort.getCollation().getFieldCollations()) {
+            if (!(((Project) input).getProjects().get(each.getFieldIndex()) instanceof RexInputRef)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalSort logicalSort = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        RelCollation collation = getCollationWithUnspecifiedNullDirection(logicalSort.getCollation());
+        logicalScan.pushDown((LogicalSort) logicalSort.copy(logicalSort.getTraitSet().replace(collation), logicalSort.getInput(), collation, logicalSort.offset, logicalSort.fetch));
+        call.transformTo(logicalScan);
+    }
+    
+    private RelCollation getCollationWithUnspecifiedNullDirection(final RelCollation collation) {
+        List<RelFieldCollation> result = new ArrayList<>(collation.getFieldCollations().size());
+        for (RelFieldCollation each : collation.getFieldCollations()) {
+            result.add(each.withNullDirection(NullDirection.UNSPECIFIED));
+        }
+        return RelCollations.of(result);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushSortIntoScanRule.Config.builder().description(PushSortIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalSort.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushSortIntoScanRule toRule() {
+            return new PushSortIntoScanRule(this);
+        }
+    }
+}
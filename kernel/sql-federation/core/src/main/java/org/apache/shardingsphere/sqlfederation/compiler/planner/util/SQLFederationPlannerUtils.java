@@ -52,8 +52,10 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.view.ShardingSphereViewExpander;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushFilterIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushProjectIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushSortIntoScanRule;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -99,6 +101,7 @@ public final class SQLFederationPlannerUtils {
         HepProgramBuilder builder = new HepProgramBuilder();
         builder.addGroupBegin().addRuleCollection(getFilterRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getProjectRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
+        builder.addGroupBegin().addRuleCollection(getAggregationAndSortPushDownRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getAggregationRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getSubQueryRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
@@ -183,6 +186,13 @@ public final class SQLFederationPlannerUtils {
         return result;
     }
     
+    private static Collection<RelOptRule> getAggregationAndSortPushDownRules() {
+        Collection<RelOptRule> result = new LinkedList<>();
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushSortIntoScanRule.Config.DEFAULT.toRule());
+        return result;
+    }
+    
     private static Collection<RelOptRule> getAggregationRules() {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(CoreRules.AGGREGATE_MERGE);
@@ -233,7 +243,7 @@ public final class SQLFederationPlannerUtils {
     
     /**
      * Create sql to rel converter.
-     * 
+     *
      * @param catalogReader catalog reader
      * @param validator validator
      * @param cluster cluster
@@ -253,7 +263,7 @@ public final class SQLFederationPlannerUtils {
     
     /**
      * Create rel opt cluster.
-     * 
+     *
      * @param relDataTypeFactory rel data type factory
      * @return rel opt cluster
      */
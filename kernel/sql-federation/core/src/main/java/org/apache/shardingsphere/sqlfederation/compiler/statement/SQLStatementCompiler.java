@@ -30,7 +30,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.compiler.operator.util.LogicalScanRelShuttle;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.util.RuntimeFilterRelShuttle;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.util.SQLFederationPlannerUtils;
+import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationRelMetadataProvider;
 
 import java.util.Objects;
 
@@ -40,6 +42,8 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public final class SQLStatementCompiler {
     
+    private static final JaninoRelMetadataProvider METADATA_PROVIDER = JaninoRelMetadataProvider.of(SQLFederationRelMetadataProvider.INSTANCE);
+    
     private final SqlToRelConverter converter;
     
     /**
@@ -50,13 +54,13 @@ public final class SQLStatementCompiler {
      * @return sql federation execution plan
      */
     public SQLFederationExecutionPlan compile(final SQLStatement sqlStatement, final String databaseType) {
-        RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.DEFAULT);
+        RelMetadataQueryBase.THREAD_PROVIDERS.set(METADATA_PROVIDER);
         SqlNode sqlNode = SQLNodeConverterEngine.convert(sqlStatement);
         RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
         RelNode replacePlan = LogicalScanRelShuttle.replace(logicalPlan, databaseType);
         RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerUtils.createHepPlanner());
-        RelNode physicalPlan = optimize(rewritePlan, converter);
+        RelNode physicalPlan = RuntimeFilterRelShuttle.attach(optimize(rewritePlan, converter));
         RelMetadataQueryBase.THREAD_PROVIDERS.remove();
         return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
     }
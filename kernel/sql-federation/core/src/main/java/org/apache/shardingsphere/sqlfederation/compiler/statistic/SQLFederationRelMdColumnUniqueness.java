@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.physical.EnumerableScan;
+
+/**
+ * SQL federation rel metadata handler of column uniqueness.
+ *
+ * <p>Columns of scan are columns of its push down rel node rather than columns of table, so uniqueness is derived from push down rel node.</p>
+ */
+public final class SQLFederationRelMdColumnUniqueness implements MetadataHandler<BuiltInMetadata.ColumnUniqueness> {
+    
+    @Override
+    public MetadataDef<BuiltInMetadata.ColumnUniqueness> getDef() {
+        return BuiltInMetadata.ColumnUniqueness.DEF;
+    }
+    
+    /**
+     * Judge whether columns of logical scan are unique or not.
+     *
+     * @param scan logical scan
+     * @param mq rel metadata query
+     * @param columns column indexes
+     * @param ignoreNulls whether to ignore null values or not
+     * @return columns are unique or not, null if unknown
+     */
+    public Boolean areColumnsUnique(final LogicalScan scan, final RelMetadataQuery mq, final ImmutableBitSet columns, final boolean ignoreNulls) {
+        return mq.areColumnsUnique(scan.peek(), columns, ignoreNulls);
+    }
+    
+    /**
+     * Judge whether columns of enumerable scan are unique or not.
+     *
+     * @param scan enumerable scan
+     * @param mq rel metadata query
+     * @param columns column indexes
+     * @param ignoreNulls whether to ignore null values or not
+     * @return columns are unique or not, null if unknown
+     */
+    public Boolean areColumnsUnique(final EnumerableScan scan, final RelMetadataQuery mq, final ImmutableBitSet columns, final boolean ignoreNulls) {
+        return mq.areColumnsUnique(scan.getPushDownRelNode(), columns, ignoreNulls);
+    }
+}
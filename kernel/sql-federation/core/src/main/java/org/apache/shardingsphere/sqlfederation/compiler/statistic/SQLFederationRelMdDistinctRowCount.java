@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.physical.EnumerableScan;
+
+/**
+ * SQL federation rel metadata handler of distinct row count, which estimates scan by its push down rel node.
+ */
+public final class SQLFederationRelMdDistinctRowCount implements MetadataHandler<BuiltInMetadata.DistinctRowCount> {
+    
+    @Override
+    public MetadataDef<BuiltInMetadata.DistinctRowCount> getDef() {
+        return BuiltInMetadata.DistinctRowCount.DEF;
+    }
+    
+    /**
+     * Get distinct row count of logical scan.
+     *
+     * @param scan logical scan
+     * @param mq rel metadata query
+     * @param groupKey column indexes of group key
+     * @param predicate predicate
+     * @return distinct row count
+     */
+    public Double getDistinctRowCount(final LogicalScan scan, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        return mq.getDistinctRowCount(scan.peek(), groupKey, predicate);
+    }
+    
+    /**
+     * Get distinct row count of enumerable scan.
+     *
+     * @param scan enumerable scan
+     * @param mq rel metadata query
+     * @param groupKey column indexes of group key
+     * @param predicate predicate
+     * @return distinct row count
+     */
+    public Double getDistinctRowCount(final EnumerableScan scan, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        return mq.getDistinctRowCount(scan.getPushDownRelNode(), groupKey, predicate);
+    }
+}
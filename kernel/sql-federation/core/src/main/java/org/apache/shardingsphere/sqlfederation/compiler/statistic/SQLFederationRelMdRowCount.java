@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.physical.EnumerableScan;
+
+/**
+ * SQL federation rel metadata handler of row count, which estimates scan by its push down rel node.
+ */
+public final class SQLFederationRelMdRowCount implements MetadataHandler<BuiltInMetadata.RowCount> {
+    
+    @Override
+    public MetadataDef<BuiltInMetadata.RowCount> getDef() {
+        return BuiltInMetadata.RowCount.DEF;
+    }
+    
+    /**
+     * Get row count of logical scan.
+     *
+     * @param scan logical scan
+     * @param mq rel metadata query
+     * @return row count
+     */
+    public Double getRowCount(final LogicalScan scan, final RelMetadataQuery mq) {
+        return mq.getRowCount(scan.peek());
+    }
+    
+    /**
+     * Get row count of enumerable scan.
+     *
+     * @param scan enumerable scan
+     * @param mq rel metadata query
+     * @return row count
+     */
+    public Double getRowCount(final EnumerableScan scan, final RelMetadataQuery mq) {
+        return mq.getRowCount(scan.getPushDownRelNode());
+    }
+}
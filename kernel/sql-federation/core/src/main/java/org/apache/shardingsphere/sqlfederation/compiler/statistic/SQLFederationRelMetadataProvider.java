@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ChainedRelMetadataProvider;
+import org.apache.calcite.rel.metadata.DefaultRelMetadataProvider;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+
+/**
+ * SQL federation rel metadata provider, which estimates federation scans before falling back to default rel metadata provider.
+ */
+public final class SQLFederationRelMetadataProvider extends ChainedRelMetadataProvider {
+    
+    public static final SQLFederationRelMetadataProvider INSTANCE = new SQLFederationRelMetadataProvider();
+    
+    private SQLFederationRelMetadataProvider() {
+        super(ImmutableList.of(
+                ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdRowCount(), BuiltInMetadata.RowCount.Handler.class),
+                ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdDistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class),
+                ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdColumnUniqueness(), BuiltInMetadata.ColumnUniqueness.Handler.class),
+                DefaultRelMetadataProvider.INSTANCE));
+    }
+}
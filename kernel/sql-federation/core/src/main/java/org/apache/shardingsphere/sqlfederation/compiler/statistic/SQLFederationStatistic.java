@@ -17,13 +17,18 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.statistic;
 
+import lombok.Setter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,6 +36,48 @@ import java.util.List;
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final List<ImmutableBitSet> keys;
+    
+    @Setter
+    private volatile Double rowCount;
+    
+    public SQLFederationStatistic(final ShardingSphereTable table, final boolean singleDataNode) {
+        // primary key of actual table is not unique across data nodes of logic table
+        keys = singleDataNode ? createKeys(table) : Collections.emptyList();
+    }
+    
+    private List<ImmutableBitSet> createKeys(final ShardingSphereTable table) {
+        ImmutableBitSet.Builder primaryKey = ImmutableBitSet.builder();
+        int index = 0;
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            if (each.isPrimaryKey()) {
+                primaryKey.set(index);
+            }
+            index++;
+        }
+        return primaryKey.isEmpty() ? Collections.emptyList() : Collections.singletonList(primaryKey.build());
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL federation statistic utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticUtils {
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    /**
+     * Load row counts of logic tables.
+     *
+     * <p>Row counts are summed up from actual tables of sharding table statistics, which are refreshed by statistics collector in background.
+     * Tables without collected row count or absent in schema are absent, so optimizer falls back to default row count for them.</p>
+     *
+     * @param statistics ShardingSphere statistics
+     * @param databaseName database name
+     * @param schema schema which logic tables belong to
+     * @return row counts, key is lower case logic table name
+     */
+    public static Map<String, Double> loadTableRowCounts(final ShardingSphereStatistics statistics, final String databaseName, final ShardingSphereSchema schema) {
+        Map<String, Double> result = new HashMap<>();
+        if (null == statistics) {
+            return result;
+        }
+        for (ShardingSphereDatabaseData databaseData : statistics.getDatabaseData().values()) {
+            for (ShardingSphereSchemaData schemaData : databaseData.getSchemaData().values()) {
+                ShardingSphereTableData tableData = schemaData.getTable(SHARDING_TABLE_STATISTICS);
+                if (null != tableData) {
+                    loadTableRowCounts(tableData, databaseName, schema, result);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static void loadTableRowCounts(final ShardingSphereTableData tableData, final String databaseName, final ShardingSphereSchema schema, final Map<String, Double> rowCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || null == row.get(LOGIC_TABLE_NAME_INDEX) || null == row.get(ROW_COUNT_INDEX)
+                    || !databaseName.equalsIgnoreCase(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX))) || !schema.containsTable(row.get(LOGIC_TABLE_NAME_INDEX).toString())) {
+                continue;
+            }
+            double rowCount = new BigDecimal(row.get(ROW_COUNT_INDEX).toString()).doubleValue();
+            // zero is appended when dialect collector is absent, which means unknown rather than empty
+            if (rowCount > 0D) {
+                rowCounts.merge(row.get(LOGIC_TABLE_NAME_INDEX).toString().toLowerCase(), rowCount, Double::sum);
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.calcite.schema.Schema;
 import org.apache.calcite.schema.Table;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
@@ -42,6 +43,8 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationCompilerEngine;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
@@ -50,10 +53,12 @@ import org.apache.shardingsphere.sqlfederation.compiler.context.planner.Optimize
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.compiler.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationStatisticUtils;
 import org.apache.shardingsphere.sqlfederation.executor.SQLFederationDataContext;
 import org.apache.shardingsphere.sqlfederation.executor.SQLFederationExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableScanExecutor;
+import org.apache.shardingsphere.sqlfederation.executor.prefetch.ScanPrefetchEngine;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
@@ -62,7 +67,6 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -94,6 +98,8 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private ResultSet resultSet;
     
+    private ScanPrefetchEngine prefetchEngine;
+    
     public SQLFederationEngine(final String databaseName, final String schemaName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics, final JDBCExecutor jdbcExecutor) {
         deciders = OrderedSPILoader.getServices(SQLFederationDecider.class, metaData.getDatabase(databaseName).getRuleMetaData().getRules());
         this.databaseName = databaseName;
@@ -156,8 +162,10 @@ public final class SQLFederationEngine implements AutoCloseable {
         String databaseName = federationContext.getQueryContext().getDatabaseNameFromSQLStatement().orElse(this.databaseName);
         String schemaName = federationContext.getQueryContext().getSchemaNameFromSQLStatement().orElse(this.schemaName);
         SQLFederationExecutionPlan executionPlan = compileQuery(prepareEngine, callback, federationContext, databaseName, schemaName);
-        Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), EnumerableRel.Prefer.ARRAY);
+        Map<String, Object> stashedParams = new HashMap<>();
+        Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(stashedParams, null, (EnumerableRel) executionPlan.getPhysicalPlan(), EnumerableRel.Prefer.ARRAY);
         Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+        params.putAll(stashedParams);
         OptimizerPlannerContext plannerContext = sqlFederationRule.getOptimizerContext().getPlannerContext(databaseName);
         Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationDataContext(plannerContext.getValidator(schemaName), plannerContext.getConverter(schemaName), params)).enumerator();
         ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
@@ -203,17 +211,35 @@ public final class SQLFederationEngine implements AutoCloseable {
         if (null == sqlFederationSchema) {
             return;
         }
-        TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, metaData.getProps(), federationContext);
+        if (null != prefetchEngine) {
+            prefetchEngine.close();
+        }
+        prefetchEngine = new ScanPrefetchEngine(sqlFederationRule.getPrefetchExecutorService(), metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+        TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, metaData.getProps(), federationContext, prefetchEngine);
         EnumerableScanExecutor scanExecutor = new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, metaData.getGlobalRuleMetaData(), executorContext, statistics);
+        ShardingSphereSchema schema = metaData.getDatabase(databaseName).getSchema(schemaName);
+        Map<String, Double> tableRowCounts = SQLFederationStatisticUtils.loadTableRowCounts(statistics, databaseName, schema);
         // TODO register only the required tables
-        for (String each : metaData.getDatabase(databaseName).getSchema(schemaName).getAllTableNames()) {
+        for (String each : schema.getAllTableNames()) {
             Table table = sqlFederationSchema.getTable(each);
             if (table instanceof SQLFederationTable) {
                 ((SQLFederationTable) table).setScanExecutor(scanExecutor);
+                ((SQLFederationTable) table).getStatistic().setRowCount(tableRowCounts.get(each.toLowerCase()));
+                ((SQLFederationTable) table).setColumnValueTransformed(isColumnValueTransformed(metaData.getDatabase(databaseName).getRuleMetaData(), each));
             }
         }
     }
     
+    private boolean isColumnValueTransformed(final RuleMetaData ruleMetaData, final String tableName) {
+        // rules without data node, such as encrypt and mask, transform column values when rewriting and merging, so storage unit can not aggregate or sort them
+        for (ShardingSphereRule each : ruleMetaData.getRules()) {
+            if (each instanceof TableContainedRule && !(each instanceof DataNodeContainedRule) && ((TableContainedRule) each).getLogicTableMapper().contains(tableName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
@@ -228,5 +254,8 @@ public final class SQLFederationEngine implements AutoCloseable {
         if (null != resultSet) {
             resultSet.close();
         }
+        if (null != prefetchEngine) {
+            prefetchEngine.close();
+        }
     }
 }
@@ -25,8 +25,10 @@ import org.apache.calcite.linq4j.QueryProvider;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.sqlfederation.executor.filter.RuntimeFilter;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL federation data context.
@@ -41,6 +43,9 @@ public final class SQLFederationDataContext implements DataContext {
     @Getter
     private final Map<String, Object> parameters;
     
+    @Getter
+    private final Map<Integer, RuntimeFilter> runtimeFilters = new ConcurrentHashMap<>();
+    
     @Override
     public SchemaPlus getRootSchema() {
         return validator.getCatalogReader().getRootSchema().plus();
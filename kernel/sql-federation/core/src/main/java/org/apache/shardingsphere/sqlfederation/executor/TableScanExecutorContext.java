@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sqlfederation.executor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.sqlfederation.executor.prefetch.ScanPrefetchEngine;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -39,5 +40,7 @@ public final class TableScanExecutorContext {
     
     private final SQLFederationExecutorContext federationContext;
     
+    private final ScanPrefetchEngine prefetchEngine;
+    
     private final Map<String, Integer> connectionOffsets = new LinkedHashMap<>();
 }
@@ -22,6 +22,7 @@ import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
@@ -33,7 +34,6 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
-import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -55,14 +55,17 @@ import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaD
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
-import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.context.OptimizerContext;
+import org.apache.shardingsphere.sqlfederation.executor.SQLFederationDataContext;
 import org.apache.shardingsphere.sqlfederation.executor.SQLFederationExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.executor.filter.RuntimeFilter;
 import org.apache.shardingsphere.sqlfederation.executor.row.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.row.MemoryEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.row.SQLFederationRowEnumerator;
@@ -135,29 +138,46 @@ public final class EnumerableScanExecutor {
         if (new SystemDatabase(databaseType).getSystemSchemas().contains(schemaName)) {
             return executeByShardingSphereData(databaseName, schemaName, table, databaseType);
         }
+        if (null == scanContext.getRuntimeFilterSQLGenerator() || executorContext.getFederationContext().isPreview()) {
+            return execute(databaseType, scanContext.getSql(), getParameters(scanContext.getParamIndexes()), null, scanContext);
+        }
+        // probe side scan is executed when it is enumerated, which is after runtime filter is built by hash join build side
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return executeWithRuntimeFilter(databaseType, scanContext).enumerator();
+            }
+        };
+    }
+    
+    private Enumerable<Object> execute(final DatabaseType databaseType, final String sql, final List<Object> params, final RuntimeFilter runtimeFilter,
+                                       final EnumerableScanExecutorContext scanContext) {
         SQLFederationExecutorContext federationContext = executorContext.getFederationContext();
-        QueryContext queryContext = createQueryContext(federationContext.getMetaData(), scanContext, databaseType, federationContext.getQueryContext().isUseCache());
-        ShardingSphereDatabase database = federationContext.getMetaData().getDatabase(databaseName);
+        QueryContext queryContext = createQueryContext(federationContext.getMetaData(), sql, params, databaseType, federationContext.getQueryContext().isUseCache());
+        ShardingSphereDatabase database = federationContext.getMetaData().getDatabase(executorContext.getDatabaseName().toLowerCase());
         ExecutionContext context = new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, executorContext.getProps(), new ConnectionContext());
         if (federationContext.isPreview()) {
             federationContext.getExecutionUnits().addAll(context.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return execute(queryContext, database, context);
+        return execute(queryContext, database, context, runtimeFilter, scanContext);
     }
     
-    private AbstractEnumerable<Object> execute(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+    private Enumerable<Object> execute(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context,
+                                       final RuntimeFilter runtimeFilter, final EnumerableScanExecutorContext scanContext) {
         try {
-            computeConnectionOffsets(context);
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext =
                     prepareEngine.prepare(context.getRouteContext(), executorContext.getConnectionOffsets(), context.getExecutionUnits(), new ExecutionGroupReportContext(database.getName()));
+            addConnectionOffsets(executionGroupContext.getInputGroups());
             setParameters(executionGroupContext.getInputGroups());
             processEngine.executeSQL(executionGroupContext, context.getQueryContext());
-            List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-            MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
-            MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-            Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-            return createEnumerable(mergedResult, queryResults.get(0).getMetaData(), statements);
+            // connections of transaction are bound to query thread, so scans in transaction are not prefetched
+            Optional<Enumerable<Object>> prefetchedEnumerable = jdbcExecutor.getConnectionContext().getTransactionContext().isInTransaction()
+                    ? Optional.empty()
+                    : executorContext.getPrefetchEngine().prefetch(() -> executeQuery(queryContext, database, executionGroupContext, runtimeFilter, scanContext).enumerator(),
+                            () -> cancelStatements(getStatements(executionGroupContext.getInputGroups())));
+            return prefetchedEnumerable.isPresent() ? prefetchedEnumerable.get() : executeQuery(queryContext, database, executionGroupContext, runtimeFilter, scanContext);
         } catch (final SQLException ex) {
             throw new SQLWrapperException(ex);
         } finally {
@@ -165,14 +185,42 @@ public final class EnumerableScanExecutor {
         }
     }
     
-    private void computeConnectionOffsets(final ExecutionContext context) {
-        for (ExecutionUnit each : context.getExecutionUnits()) {
-            if (executorContext.getConnectionOffsets().containsKey(each.getDataSourceName())) {
-                int connectionOffset = executorContext.getConnectionOffsets().get(each.getDataSourceName());
-                executorContext.getConnectionOffsets().put(each.getDataSourceName(), ++connectionOffset);
-            } else {
-                executorContext.getConnectionOffsets().put(each.getDataSourceName(), 0);
-            }
+    private Enumerable<Object> executeWithRuntimeFilter(final DatabaseType databaseType, final EnumerableScanExecutorContext scanContext) {
+        RuntimeFilter runtimeFilter = scanContext.getRoot() instanceof SQLFederationDataContext
+                ? ((SQLFederationDataContext) scanContext.getRoot()).getRuntimeFilters().get(scanContext.getRuntimeFilterId())
+                : null;
+        if (null == runtimeFilter || !runtimeFilter.isAvailable()) {
+            return execute(databaseType, scanContext.getSql(), getParameters(scanContext.getParamIndexes()), null, scanContext);
+        }
+        if (runtimeFilter.isEmpty()) {
+            return createEmptyEnumerable();
+        }
+        List<Object> federationParams = executorContext.getFederationContext().getQueryContext().getParameters();
+        Optional<SqlString> sqlString = scanContext.getRuntimeFilterSQLGenerator().generate(runtimeFilter, federationParams.size());
+        if (!sqlString.isPresent()) {
+            return execute(databaseType, scanContext.getSql(), getParameters(scanContext.getParamIndexes()), runtimeFilter, scanContext);
+        }
+        List<Object> runtimeFilterParams = runtimeFilter.getParameters();
+        List<Object> params = new ArrayList<>();
+        for (int each : null == sqlString.get().getDynamicParameters() ? Collections.<Integer>emptyList() : sqlString.get().getDynamicParameters()) {
+            params.add(each < federationParams.size() ? federationParams.get(each) : runtimeFilterParams.get(each - federationParams.size()));
+        }
+        return execute(databaseType, sqlString.get().getSql().replace("u&'\\", "'\\u"), params, runtimeFilter, scanContext);
+    }
+    
+    private Enumerable<Object> executeQuery(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                            final RuntimeFilter runtimeFilter, final EnumerableScanExecutorContext scanContext) throws SQLException {
+        List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return createEnumerable(mergedResult, queryResults.get(0).getMetaData(), statements, runtimeFilter, scanContext);
+    }
+    
+    private void addConnectionOffsets(final Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups) {
+        // every execution group holds a connection, scans executed concurrently must not share connections
+        for (ExecutionGroup<JDBCExecutionUnit> each : inputGroups) {
+            executorContext.getConnectionOffsets().merge(each.getInputs().get(0).getExecutionUnit().getDataSourceName(), 1, Integer::sum);
         }
     }
     
@@ -249,6 +297,15 @@ public final class EnumerableScanExecutor {
         return result;
     }
     
+    private void cancelStatements(final Collection<Statement> statements) {
+        for (Statement each : statements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
     private void setParameters(final Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups) {
         for (ExecutionGroup<JDBCExecutionUnit> each : inputGroups) {
             for (JDBCExecutionUnit executionUnit : each.getInputs()) {
@@ -267,26 +324,45 @@ public final class EnumerableScanExecutor {
         }
     }
     
-    private AbstractEnumerable<Object> createEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements) {
+    private AbstractEnumerable<Object> createEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements,
+                                                        final RuntimeFilter runtimeFilter, final EnumerableScanExecutorContext scanContext) {
         return new AbstractEnumerable<Object>() {
             
             @Override
             public Enumerator<Object> enumerator() {
-                return new SQLFederationRowEnumerator(mergedResult, metaData, statements);
+                return new SQLFederationRowEnumerator(mergedResult, metaData, statements, runtimeFilter, scanContext.getRuntimeFilterKeyIndex(), scanContext.getColumnTypes());
             }
         };
     }
     
-    private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final EnumerableScanExecutorContext sqlString, final DatabaseType databaseType, final boolean useCache) {
-        String sql = sqlString.getSql().replace("\n", " ");
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType,
-                optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache(),
-                optimizerContext.getSqlParserRule().isSqlCommentParseEnabled()).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+    private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final String originalSQL, final List<Object> params, final DatabaseType databaseType, final boolean useCache) {
+        String sql = originalSQL.replace("\n", " ");
+        SQLStatement sqlStatement = parseSQL(sql, databaseType, useCache);
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getDatabaseName()).bind(sqlStatement, params);
         return new QueryContext(sqlStatementContext, sql, params, new HintValueContext(), useCache);
     }
     
+    private SQLStatement parseSQL(final String sql, final DatabaseType databaseType, final boolean useCache) {
+        if (!useCache) {
+            return parseSQL(sql, databaseType);
+        }
+        EnumerableScanPlanCache scanPlanCache = optimizerContext.getScanPlanCache(executorContext.getDatabaseName());
+        Optional<SQLStatement> cachedSQLStatement = scanPlanCache.get(sql);
+        if (cachedSQLStatement.isPresent()) {
+            return cachedSQLStatement.get();
+        }
+        SQLStatement result = parseSQL(sql, databaseType);
+        scanPlanCache.put(sql, result);
+        return result;
+    }
+    
+    private SQLStatement parseSQL(final String sql, final DatabaseType databaseType) {
+        SQLParserRule sqlParserRule = optimizerContext.getSqlParserRule();
+        // scan SQL is only cached by scan plan cache of database, which is evicted when database is altered or dropped
+        return SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlParserRule.getSqlStatementCache(), sqlParserRule.getParseTreeCache(),
+                sqlParserRule.isSqlCommentParseEnabled(), sqlParserRule.isSqlLiteralNormalizeEnabled()).parse(sql, false);
+    }
+    
     private List<Object> getParameters(final int[] paramIndexes) {
         if (null == paramIndexes) {
             return Collections.emptyList();
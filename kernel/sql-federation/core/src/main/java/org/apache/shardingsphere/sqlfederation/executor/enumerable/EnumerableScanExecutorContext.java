@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sqlfederation.executor.enumerable;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
+import org.apache.shardingsphere.sqlfederation.compiler.operator.util.RuntimeFilterSQLGenerator;
 
 /**
  * Enumerable push down table scan executor context.
@@ -33,4 +34,16 @@ public final class EnumerableScanExecutorContext {
     private final String sql;
     
     private final int[] paramIndexes;
+    
+    private final Class<?>[] columnTypes;
+    
+    private final int runtimeFilterId;
+    
+    private final int runtimeFilterKeyIndex;
+    
+    private final RuntimeFilterSQLGenerator runtimeFilterSQLGenerator;
+    
+    public EnumerableScanExecutorContext(final DataContext root, final String sql, final int[] paramIndexes, final Class<?>[] columnTypes) {
+        this(root, sql, paramIndexes, columnTypes, -1, -1, null);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Optional;
+
+/**
+ * Enumerable scan plan cache.
+ *
+ * <p>Push down table scan SQL is generated from federation execution plan and scan node, so the same scan SQL of a database can reuse its parsed statement.
+ * Only the parsed statement is cached, statement context is bound for every execution because it is mutable and holds parameter aware segments.
+ * The cache is held by optimizer context per database and is rebuilt when the database is altered or dropped.</p>
+ */
+public final class EnumerableScanPlanCache {
+    
+    private final Cache<String, SQLStatement> sqlStatements;
+    
+    public EnumerableScanPlanCache(final CacheOption cacheOption) {
+        sqlStatements = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).build();
+    }
+    
+    /**
+     * Get SQL statement.
+     *
+     * @param sql scan SQL
+     * @return SQL statement
+     */
+    public Optional<SQLStatement> get(final String sql) {
+        return Optional.ofNullable(sqlStatements.getIfPresent(sql));
+    }
+    
+    /**
+     * Put SQL statement.
+     *
+     * @param sql scan SQL
+     * @param sqlStatement SQL statement
+     */
+    public void put(final String sql, final SQLStatement sqlStatement) {
+        sqlStatements.put(sql, sqlStatement);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.filter;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runtime filter.
+ *
+ * <p>Runtime filter holds join keys of hash join build side, and filters rows of probe side scan.
+ * Join keys are kept as values of IN condition while they are few, otherwise only min and max values and a bloom filter of join keys are kept.</p>
+ */
+public final class RuntimeFilter {
+    
+    private static final int MAX_IN_VALUE_COUNT = 1024;
+    
+    private static final double BLOOM_FILTER_FPP = 0.03D;
+    
+    private final int expectedKeyCount;
+    
+    private Map<String, Object> inValues = new LinkedHashMap<>();
+    
+    private BloomFilter<CharSequence> bloomFilter;
+    
+    private boolean numeric = true;
+    
+    @Getter
+    private Object minValue;
+    
+    @Getter
+    private Object maxValue;
+    
+    private BigDecimal minDecimalValue;
+    
+    private BigDecimal maxDecimalValue;
+    
+    private boolean supported = true;
+    
+    private volatile boolean completed;
+    
+    public RuntimeFilter(final int expectedKeyCount) {
+        this.expectedKeyCount = Math.max(expectedKeyCount, MAX_IN_VALUE_COUNT << 1);
+    }
+    
+    /**
+     * Add join key of build side.
+     *
+     * @param key join key
+     */
+    public void add(final Object key) {
+        if (null == key || !supported) {
+            return;
+        }
+        if (!(key instanceof String) && !isExactNumeric(key)) {
+            supported = false;
+            return;
+        }
+        String normalizedKey = normalize(key);
+        if (null == bloomFilter) {
+            inValues.putIfAbsent(normalizedKey, key);
+            if (inValues.size() > MAX_IN_VALUE_COUNT) {
+                bloomFilter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedKeyCount, BLOOM_FILTER_FPP);
+                inValues.keySet().forEach(bloomFilter::put);
+                inValues = null;
+            }
+        } else {
+            bloomFilter.put(normalizedKey);
+        }
+        numeric = numeric && !(key instanceof String);
+        if (numeric) {
+            updateRange(key);
+        }
+    }
+    
+    private boolean isExactNumeric(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger || value instanceof BigDecimal;
+    }
+    
+    private String normalize(final Object value) {
+        if (value instanceof BigDecimal) {
+            BigDecimal decimalValue = (BigDecimal) value;
+            return 0 == decimalValue.signum() ? "0" : decimalValue.stripTrailingZeros().toPlainString();
+        }
+        return value.toString();
+    }
+    
+    private void updateRange(final Object key) {
+        BigDecimal decimalValue = new BigDecimal(key.toString());
+        if (null == minDecimalValue || decimalValue.compareTo(minDecimalValue) < 0) {
+            minDecimalValue = decimalValue;
+            minValue = key;
+        }
+        if (null == maxDecimalValue || decimalValue.compareTo(maxDecimalValue) > 0) {
+            maxDecimalValue = decimalValue;
+            maxValue = key;
+        }
+    }
+    
+    /**
+     * Complete adding join keys.
+     */
+    public void complete() {
+        completed = true;
+    }
+    
+    /**
+     * Judge whether runtime filter is available to filter probe side.
+     *
+     * @return runtime filter is available or not
+     */
+    public boolean isAvailable() {
+        return completed && supported;
+    }
+    
+    /**
+     * Judge whether build side has no join key.
+     *
+     * @return build side has no join key or not
+     */
+    public boolean isEmpty() {
+        return null == bloomFilter && inValues.isEmpty();
+    }
+    
+    /**
+     * Judge whether join keys are kept as values of IN condition.
+     *
+     * @return join keys are kept as values of IN condition or not
+     */
+    public boolean isInValuesAvailable() {
+        return null == bloomFilter;
+    }
+    
+    /**
+     * Get values of IN condition.
+     *
+     * @return values of IN condition
+     */
+    public Collection<Object> getInValues() {
+        return inValues.values();
+    }
+    
+    /**
+     * Judge whether min and max values of join keys are available.
+     *
+     * @return min and max values of join keys are available or not
+     */
+    public boolean isRangeAvailable() {
+        return numeric && null != minValue;
+    }
+    
+    /**
+     * Get parameters of runtime filter condition, which are values of IN condition or min and max values of join keys.
+     *
+     * @return parameters of runtime filter condition
+     */
+    public List<Object> getParameters() {
+        if (isInValuesAvailable()) {
+            return new ArrayList<>(inValues.values());
+        }
+        return isRangeAvailable() ? Arrays.asList(minValue, maxValue) : Collections.emptyList();
+    }
+    
+    /**
+     * Judge whether value of probe side might be contained in join keys.
+     *
+     * @param value value of probe side
+     * @return value might be contained or not
+     */
+    public boolean mightContain(final Object value) {
+        if (null == value) {
+            return false;
+        }
+        if (!(value instanceof String) && !isExactNumeric(value)) {
+            return true;
+        }
+        String normalizedValue = normalize(value);
+        return null == bloomFilter ? inValues.containsKey(normalizedValue) : bloomFilter.mightContain(normalizedValue);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.sqlfederation.executor.SQLFederationDataContext;
+
+/**
+ * Runtime filter collect enumerable, which collects join keys of hash join build side into runtime filter.
+ */
+@RequiredArgsConstructor
+public final class RuntimeFilterCollectEnumerable extends AbstractEnumerable<Object> {
+    
+    private final Enumerable<Object> input;
+    
+    private final DataContext root;
+    
+    private final int runtimeFilterId;
+    
+    private final int keyIndex;
+    
+    private final int expectedKeyCount;
+    
+    @Override
+    public Enumerator<Object> enumerator() {
+        if (!(root instanceof SQLFederationDataContext)) {
+            return input.enumerator();
+        }
+        RuntimeFilter runtimeFilter = new RuntimeFilter(expectedKeyCount);
+        ((SQLFederationDataContext) root).getRuntimeFilters().put(runtimeFilterId, runtimeFilter);
+        return new RuntimeFilterCollectEnumerator(input.enumerator(), runtimeFilter, keyIndex);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerator;
+
+/**
+ * Runtime filter collect enumerator.
+ */
+@RequiredArgsConstructor
+public final class RuntimeFilterCollectEnumerator implements Enumerator<Object> {
+    
+    private final Enumerator<Object> input;
+    
+    private final RuntimeFilter runtimeFilter;
+    
+    private final int keyIndex;
+    
+    @Override
+    public Object current() {
+        return input.current();
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (input.moveNext()) {
+            Object row = input.current();
+            runtimeFilter.add(row instanceof Object[] ? ((Object[]) row)[keyIndex] : row);
+            return true;
+        }
+        runtimeFilter.complete();
+        return false;
+    }
+    
+    @Override
+    public void reset() {
+        input.reset();
+    }
+    
+    @Override
+    public void close() {
+        input.close();
+    }
+}
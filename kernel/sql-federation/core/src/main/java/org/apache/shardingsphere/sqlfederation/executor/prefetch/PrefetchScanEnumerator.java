@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.prefetch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prefetch scan enumerator.
+ *
+ * <p>Prefetch thread executes scan and puts row batches into bounded queue, query thread takes row batches from the queue.</p>
+ */
+@RequiredArgsConstructor
+public final class PrefetchScanEnumerator implements Enumerator<Object> {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private static final int QUEUE_SIZE = 16;
+    
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    
+    private static final long CLOSE_TIMEOUT_SECONDS = 30L;
+    
+    private static final List<Object> END_OF_ROWS = new ArrayList<>(0);
+    
+    private final Callable<Enumerator<Object>> scanEnumeratorCallable;
+    
+    private final Runnable cancelCallback;
+    
+    private final Runnable completeCallback;
+    
+    private final BlockingQueue<List<Object>> batches = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    
+    private final CountDownLatch prefetchLatch = new CountDownLatch(1);
+    
+    private volatile boolean closed;
+    
+    private volatile Throwable failure;
+    
+    private List<Object> currentBatch;
+    
+    private int currentIndex;
+    
+    private boolean endOfRows;
+    
+    private Object currentRow;
+    
+    /**
+     * Prefetch rows of scan, which is executed by prefetch thread.
+     */
+    public void prefetch() {
+        try (Enumerator<Object> scanEnumerator = scanEnumeratorCallable.call()) {
+            List<Object> batch = new ArrayList<>(BATCH_SIZE);
+            while (!closed && scanEnumerator.moveNext()) {
+                batch.add(scanEnumerator.current());
+                if (batch.size() >= BATCH_SIZE) {
+                    offer(batch);
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                offer(batch);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+        } finally {
+            offer(END_OF_ROWS);
+            prefetchLatch.countDown();
+            completeCallback.run();
+        }
+    }
+    
+    private void offer(final List<Object> batch) {
+        try {
+            // query thread may still consume previous batches, so offering is retried until enumerator is closed
+            boolean offered = false;
+            while (!closed && !offered) {
+                offered = batches.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+    }
+    
+    @Override
+    public Object current() {
+        return currentRow;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        while (null == currentBatch || currentIndex >= currentBatch.size()) {
+            if (endOfRows || !takeBatch()) {
+                return false;
+            }
+        }
+        currentRow = currentBatch.get(currentIndex++);
+        return true;
+    }
+    
+    private boolean takeBatch() {
+        try {
+            currentBatch = batches.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        currentIndex = 0;
+        if (END_OF_ROWS == currentBatch) {
+            endOfRows = true;
+            throwFailureIfNecessary();
+            return false;
+        }
+        return true;
+    }
+    
+    private void throwFailureIfNecessary() {
+        if (null == failure) {
+            return;
+        }
+        if (failure instanceof SQLException) {
+            throw new SQLWrapperException((SQLException) failure);
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new IllegalStateException(failure);
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public void close() {
+        closed = true;
+        batches.clear();
+        if (0L != prefetchLatch.getCount()) {
+            cancelCallback.run();
+        }
+        try {
+            // statements of scan are closed by prefetch thread, wait for it to release connections of the query
+            prefetchLatch.await(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        currentBatch = null;
+        currentRow = null;
+    }
+}
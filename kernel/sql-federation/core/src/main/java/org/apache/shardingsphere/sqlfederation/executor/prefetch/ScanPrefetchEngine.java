@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.prefetch;
+
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Scan prefetch engine.
+ *
+ * <p>Scans of a federation query are executed by prefetch threads concurrently, and their rows are buffered in bounded queues,
+ * so latency of the query is close to the slowest scan instead of the sum of all scans. Prefetching scans of a query are bounded by max connections size per query,
+ * scans beyond the bound are executed by the query thread. Prefetch threads are shared by federation queries, the engine only closes its prefetching scans.</p>
+ */
+public final class ScanPrefetchEngine implements AutoCloseable {
+    
+    private final ExecutorService executorService;
+    
+    private final Semaphore permits;
+    
+    private final Collection<PrefetchScanEnumerator> prefetchScanEnumerators = new ConcurrentLinkedQueue<>();
+    
+    public ScanPrefetchEngine(final ExecutorService executorService, final int maxPrefetchSize) {
+        this.executorService = executorService;
+        permits = new Semaphore(maxPrefetchSize);
+    }
+    
+    /**
+     * Prefetch scan.
+     *
+     * @param scanEnumeratorCallable callable to execute scan and create its row enumerator
+     * @param cancelCallback callback to cancel statements of scan
+     * @return prefetched scan enumerable, or empty if prefetching scans reach the bound
+     */
+    public Optional<Enumerable<Object>> prefetch(final Callable<Enumerator<Object>> scanEnumeratorCallable, final Runnable cancelCallback) {
+        if (!permits.tryAcquire()) {
+            return Optional.empty();
+        }
+        PrefetchScanEnumerator result = new PrefetchScanEnumerator(scanEnumeratorCallable, cancelCallback, permits::release);
+        prefetchScanEnumerators.add(result);
+        try {
+            executorService.execute(result::prefetch);
+        } catch (final RejectedExecutionException ex) {
+            prefetchScanEnumerators.remove(result);
+            permits.release();
+            return Optional.empty();
+        }
+        return Optional.of(new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return result;
+            }
+        });
+    }
+    
+    @Override
+    public void close() {
+        for (PrefetchScanEnumerator each : prefetchScanEnumerators) {
+            each.close();
+        }
+        prefetchScanEnumerators.clear();
+    }
+}
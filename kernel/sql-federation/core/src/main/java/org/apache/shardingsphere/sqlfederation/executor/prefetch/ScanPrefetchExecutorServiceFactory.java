@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.prefetch;
+
+import com.alibaba.ttl.threadpool.TtlExecutors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scan prefetch executor service factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ScanPrefetchExecutorServiceFactory {
+    
+    private static final int MAX_PREFETCH_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    
+    /**
+     * Create executor service shared by scan prefetch engines of federation queries.
+     *
+     * <p>Prefetch threads are bounded and not queued, scan is rejected and executed by query thread if all prefetch threads are busy.
+     * Idle prefetch threads are stopped after keep alive time.</p>
+     *
+     * @return created executor service
+     */
+    public static ExecutorService create() {
+        return TtlExecutors.getTtlExecutorService(new ThreadPoolExecutor(0, MAX_PREFETCH_THREADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                ExecutorThreadFactoryBuilder.build("SQLFederation-Prefetch-%d")));
+    }
+}
@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.sqlfederation.executor.row;
 
+import com.google.common.primitives.Primitives;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.sqlfederation.executor.filter.RuntimeFilter;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
@@ -40,8 +43,20 @@ public final class SQLFederationRowEnumerator implements Enumerator<Object> {
     
     private final Collection<Statement> statements;
     
+    private final RuntimeFilter runtimeFilter;
+    
+    private final int runtimeFilterKeyIndex;
+    
+    private final Class<?>[] columnTypes;
+    
     private Object currentRow;
     
+    private int columnCount = -1;
+    
+    public SQLFederationRowEnumerator(final MergedResult queryResult, final QueryResultMetaData metaData, final Collection<Statement> statements) {
+        this(queryResult, metaData, statements, null, -1, null);
+    }
+    
     @Override
     public Object current() {
         return currentRow;
@@ -54,19 +69,69 @@ public final class SQLFederationRowEnumerator implements Enumerator<Object> {
     }
     
     private boolean moveNext0() throws SQLException {
-        if (queryResult.next()) {
-            setCurrentRow();
-            return true;
+        if (columnCount < 0) {
+            // column count of JDBC result set meta data is not cached by all drivers, so it is read only once for all rows
+            // merge engine may append derived columns, such as count and sum of avg, after push down columns
+            columnCount = null == columnTypes ? metaData.getColumnCount() : columnTypes.length;
+        }
+        while (queryResult.next()) {
+            if (null == runtimeFilter) {
+                setCurrentRow(-1, null);
+                return true;
+            }
+            Object runtimeFilterKey = queryResult.getValue(runtimeFilterKeyIndex + 1, Object.class);
+            if (runtimeFilter.mightContain(runtimeFilterKey)) {
+                setCurrentRow(runtimeFilterKeyIndex, runtimeFilterKey);
+                return true;
+            }
         }
         return false;
     }
     
-    private void setCurrentRow() throws SQLException {
-        Object[] rowValues = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
-            rowValues[i] = queryResult.getValue(i + 1, Object.class);
+    private void setCurrentRow(final int loadedColumnIndex, final Object loadedValue) throws SQLException {
+        if (1 == columnCount) {
+            currentRow = convert(0 == loadedColumnIndex ? loadedValue : queryResult.getValue(1, Object.class), 0);
+            return;
+        }
+        Object[] rowValues = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            rowValues[i] = convert(i == loadedColumnIndex ? loadedValue : queryResult.getValue(i + 1, Object.class), i);
+        }
+        currentRow = rowValues;
+    }
+    
+    private Object convert(final Object value, final int columnIndex) {
+        // merge engine combines aggregation values of shards as big decimal, which must be converted to java type of push down column
+        if (null == columnTypes || !(value instanceof Number)) {
+            return value;
+        }
+        Class<?> columnType = Primitives.wrap(columnTypes[columnIndex]);
+        if (columnType.isInstance(value)) {
+            return value;
+        }
+        Number number = (Number) value;
+        if (Integer.class == columnType) {
+            return number.intValue();
+        }
+        if (Long.class == columnType) {
+            return number.longValue();
+        }
+        if (Short.class == columnType) {
+            return number.shortValue();
+        }
+        if (Byte.class == columnType) {
+            return number.byteValue();
+        }
+        if (Double.class == columnType) {
+            return number.doubleValue();
+        }
+        if (Float.class == columnType) {
+            return number.floatValue();
+        }
+        if (BigDecimal.class == columnType) {
+            return new BigDecimal(number.toString());
         }
-        this.currentRow = 1 == metaData.getColumnCount() ? rowValues[0] : rowValues;
+        return value;
     }
     
     @Override
@@ -76,6 +141,7 @@ public final class SQLFederationRowEnumerator implements Enumerator<Object> {
     @Override
     public void close() {
         try {
+            queryResult.close();
             for (Statement each : statements) {
                 each.close();
             }
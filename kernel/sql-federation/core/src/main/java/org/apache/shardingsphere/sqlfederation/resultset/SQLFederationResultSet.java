@@ -63,6 +63,8 @@ public final class SQLFederationResultSet extends AbstractUnsupportedOperationRe
     
     private static final Collection<Class<?>> INVALID_FEDERATION_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
     
+    private static final Object[] EMPTY_ROW = new Object[0];
+    
     private final Enumerator<Object> enumerator;
     
     private final Map<String, Integer> columnLabelAndIndexes;
@@ -98,9 +100,10 @@ public final class SQLFederationResultSet extends AbstractUnsupportedOperationRe
     public boolean next() {
         boolean result = enumerator.moveNext();
         if (result) {
-            currentRows = enumerator.current().getClass().isArray() ? (Object[]) enumerator.current() : new Object[]{enumerator.current()};
+            Object currentRow = enumerator.current();
+            currentRows = currentRow instanceof Object[] ? (Object[]) currentRow : new Object[]{currentRow};
         } else {
-            currentRows = new Object[]{};
+            currentRows = EMPTY_ROW;
         }
         return result;
     }
@@ -30,8 +30,10 @@ import org.apache.shardingsphere.sqlfederation.compiler.context.parser.Optimizer
 import org.apache.shardingsphere.sqlfederation.compiler.context.parser.dialect.OptimizerSQLPropertiesBuilder;
 import org.apache.shardingsphere.sqlfederation.compiler.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.planner.OptimizerPlannerContextFactory;
+import org.apache.shardingsphere.sqlfederation.executor.prefetch.ScanPrefetchExecutorServiceFactory;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /**
  * SQL federation rule.
@@ -43,9 +45,12 @@ public final class SQLFederationRule implements GlobalRule, MetaDataHeldRule {
     
     private final OptimizerContext optimizerContext;
     
+    private final ExecutorService prefetchExecutorService;
+    
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Map<String, ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         configuration = ruleConfig;
         optimizerContext = OptimizerContextFactory.create(databases, props);
+        prefetchExecutorService = ScanPrefetchExecutorServiceFactory.create();
     }
     
     @Override
@@ -55,11 +60,13 @@ public final class SQLFederationRule implements GlobalRule, MetaDataHeldRule {
         optimizerContext.putParserContext(database.getName(), parserContext);
         OptimizerPlannerContext plannerContext = OptimizerPlannerContextFactory.create(database, parserContext, optimizerContext.getSqlParserRule());
         optimizerContext.putPlannerContext(database.getName(), plannerContext);
+        optimizerContext.removeScanPlanCache(database.getName());
     }
     
     @Override
     public void dropDatabase(final String databaseName) {
         optimizerContext.removeParserContext(databaseName);
         optimizerContext.removePlannerContext(databaseName);
+        optimizerContext.removeScanPlanCache(databaseName);
     }
 }
@@ -25,11 +25,14 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sqlfederation.compiler.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.planner.OptimizerPlannerContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableScanPlanCache;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -55,6 +58,15 @@ class OptimizerContextTest {
         assertThat(actual.getPlannerContext(DefaultDatabase.LOGIC_NAME.toLowerCase()), instanceOf(OptimizerPlannerContext.class));
     }
     
+    @Test
+    void assertGetScanPlanCache() {
+        OptimizerContext actual = OptimizerContextFactory.create(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, createShardingSphereDatabase()), mock(ConfigurationProperties.class));
+        EnumerableScanPlanCache scanPlanCache = actual.getScanPlanCache(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.getScanPlanCache(DefaultDatabase.LOGIC_NAME.toUpperCase()), is(scanPlanCache));
+        actual.removeScanPlanCache(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.getScanPlanCache(DefaultDatabase.LOGIC_NAME), not(scanPlanCache));
+    }
+    
     private ShardingSphereDatabase createShardingSphereDatabase() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         when(result.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.operator.physical;
+
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.config.CalciteConnectionConfig;
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.runtime.Bindable;
+import org.apache.calcite.sql.validate.SqlValidator;
+import org.apache.calcite.sql2rel.SqlToRelConverter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.util.SQLFederationPlannerUtils;
+import org.apache.shardingsphere.sqlfederation.compiler.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.executor.SQLFederationDataContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableScanExecutor;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.EnumerableScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.executor.row.SQLFederationRowEnumerator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EnumerableScanTest {
+    
+    private static final String SCHEMA_NAME = "federate_jdbc";
+    
+    @Test
+    void assertExecuteWithPushDownAverage() throws SQLException {
+        SQLFederationSchema schema = new SQLFederationSchema(SCHEMA_NAME, createSchema(), new RuleMetaData(Collections.emptyList()), TypedSPILoader.getService(DatabaseType.class, "H2"),
+                new JavaTypeFactoryImpl());
+        SqlToRelConverter converter = createSqlToRelConverter(schema);
+        SQLStatement sqlStatement = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()).getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL"))
+                .parse("SELECT user_id, AVG(order_id) FROM t_order GROUP BY user_id", false);
+        EnumerableRel physicalPlan = (EnumerableRel) new SQLStatementCompiler(converter).compile(sqlStatement, "MySQL").getPhysicalPlan();
+        assertTrue(physicalPlan instanceof EnumerableScan);
+        Map<String, Object> stashedParams = new HashMap<>();
+        Bindable<Object> bindable = EnumerableInterpretable.toBindable(stashedParams, null, physicalPlan, EnumerableRel.Prefer.ARRAY);
+        MergedResult mergedResult = createAverageMergedResult();
+        EnumerableScanExecutor scanExecutor = mock(EnumerableScanExecutor.class);
+        when(scanExecutor.execute(any(), any())).thenAnswer(invocation -> createEnumerable(mergedResult, invocation.getArgument(1)));
+        ((SQLFederationTable) schema.getTable("t_order")).setScanExecutor(scanExecutor);
+        Enumerator<Object> actual = bindable.bind(new SQLFederationDataContext(converter.validator, converter, stashedParams)).enumerator();
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{10, 2L}));
+        assertFalse(actual.moveNext());
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false);
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(orderIdColumn, userIdColumn), Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.emptyMap());
+    }
+    
+    private SqlToRelConverter createSqlToRelConverter(final SQLFederationSchema schema) {
+        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(new Properties());
+        RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        CalciteCatalogReader catalogReader = SQLFederationPlannerUtils.createCatalogReader(SCHEMA_NAME, schema, relDataTypeFactory, connectionConfig);
+        SqlValidator validator = SQLFederationPlannerUtils.createSqlValidator(catalogReader, relDataTypeFactory, databaseType, connectionConfig);
+        RelOptCluster cluster = RelOptCluster.create(SQLFederationPlannerUtils.createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        return SQLFederationPlannerUtils.createSqlToRelConverter(catalogReader, validator, cluster, mock(SQLParserRule.class), databaseType, false);
+    }
+    
+    private MergedResult createAverageMergedResult() throws SQLException {
+        // merge engine combines avg of shards as big decimal and appends derived count and sum columns
+        MergedResult result = mock(MergedResult.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getValue(1, Object.class)).thenReturn(10);
+        when(result.getValue(2, Object.class)).thenReturn(new BigDecimal("2.5000"));
+        when(result.getValue(3, Object.class)).thenReturn(new BigDecimal("2"));
+        when(result.getValue(4, Object.class)).thenReturn(new BigDecimal("5"));
+        return result;
+    }
+    
+    private Enumerable<Object> createEnumerable(final MergedResult mergedResult, final EnumerableScanExecutorContext scanContext) {
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return new SQLFederationRowEnumerator(mergedResult, mock(QueryResultMetaData.class), Collections.emptyList(), null, -1, scanContext.getColumnTypes());
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticTest {
+    
+    @Test
+    void assertGetKeys() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), true);
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(0, 2))));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 1, 2)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(0, 1)));
+    }
+    
+    @Test
+    void assertGetKeysWithoutPrimaryKey() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(new ShardingSphereTable("t_order", Collections.singleton(
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList()), true);
+        assertTrue(actual.getKeys().isEmpty());
+        assertFalse(actual.isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertGetKeysWithMultipleDataNodes() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), false);
+        assertTrue(actual.getKeys().isEmpty());
+        assertFalse(actual.isKey(ImmutableBitSet.of(0, 1, 2)));
+    }
+    
+    @Test
+    void assertGetRowCount() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), true);
+        assertNull(actual.getRowCount());
+        actual.setRowCount(1000D);
+        assertThat(actual.getRowCount(), is(1000D));
+    }
+    
+    private ShardingSphereTable createTable() {
+        return new ShardingSphereTable("t_order_item", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("item_id", Types.BIGINT, true, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticUtilsTest {
+    
+    @Test
+    void assertLoadTableRowCounts() {
+        Map<String, Double> actual = SQLFederationStatisticUtils.loadTableRowCounts(createStatistics(), "sharding_db", createSchema("t_order", "t_order_item"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order"), is(300D));
+        assertFalse(actual.containsKey("t_order_item"));
+    }
+    
+    @Test
+    void assertLoadTableRowCountsWithTableAbsentInSchema() {
+        assertTrue(SQLFederationStatisticUtils.loadTableRowCounts(createStatistics(), "sharding_db", createSchema("t_order_item")).isEmpty());
+    }
+    
+    @Test
+    void assertLoadTableRowCountsWithoutStatistics() {
+        assertTrue(SQLFederationStatisticUtils.loadTableRowCounts(new ShardingSphereStatistics(), "sharding_db", createSchema("t_order")).isEmpty());
+    }
+    
+    private ShardingSphereSchema createSchema(final String... tableNames) {
+        ShardingSphereSchema result = new ShardingSphereSchema();
+        for (String each : tableNames) {
+            result.putTable(each, new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    private ShardingSphereStatistics createStatistics() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "sharding_db", "T_ORDER", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "sharding_db", "t_order", "ds_1", "t_order_1", "200", BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "sharding_db", "t_order_item", "ds_0", "t_order_item_0", BigDecimal.ZERO, BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "other_db", "t_order", "ds_0", "t_order_0", new BigDecimal("400"), BigDecimal.ZERO)));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class EnumerableScanPlanCacheTest {
+    
+    @Test
+    void assertGet() {
+        EnumerableScanPlanCache scanPlanCache = new EnumerableScanPlanCache(new CacheOption(128, 1024L));
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        scanPlanCache.put("SELECT * FROM t_order", sqlStatement);
+        Optional<SQLStatement> actual = scanPlanCache.get("SELECT * FROM t_order");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(sqlStatement));
+        assertFalse(scanPlanCache.get("SELECT * FROM t_order_item").isPresent());
+    }
+}
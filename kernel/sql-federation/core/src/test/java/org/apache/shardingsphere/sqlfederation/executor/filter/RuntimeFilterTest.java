@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuntimeFilterTest {
+    
+    @Test
+    void assertAddWithInValues() {
+        RuntimeFilter actual = new RuntimeFilter(10);
+        actual.add(1);
+        actual.add(null);
+        actual.add(3L);
+        actual.add(new BigDecimal("1.00"));
+        actual.complete();
+        assertTrue(actual.isAvailable());
+        assertFalse(actual.isEmpty());
+        assertTrue(actual.isInValuesAvailable());
+        assertThat(actual.getParameters(), is(Arrays.asList(1, 3L)));
+        assertTrue(actual.mightContain(new BigDecimal("3.0")));
+        assertFalse(actual.mightContain(2));
+        assertFalse(actual.mightContain(null));
+    }
+    
+    @Test
+    void assertAddWithRange() {
+        RuntimeFilter actual = new RuntimeFilter(10);
+        for (int i = 0; i < 2000; i++) {
+            actual.add(i * 2);
+        }
+        actual.complete();
+        assertTrue(actual.isAvailable());
+        assertFalse(actual.isInValuesAvailable());
+        assertTrue(actual.isRangeAvailable());
+        assertThat(actual.getParameters(), is(Arrays.asList(0, 3998)));
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(actual.mightContain(i * 2));
+        }
+    }
+    
+    @Test
+    void assertAddStringsWithoutRange() {
+        RuntimeFilter actual = new RuntimeFilter(10);
+        for (int i = 0; i < 2000; i++) {
+            actual.add("key_" + i);
+        }
+        actual.complete();
+        assertTrue(actual.isAvailable());
+        assertFalse(actual.isRangeAvailable());
+        assertThat(actual.getParameters(), is(Collections.emptyList()));
+        assertTrue(actual.mightContain("key_1999"));
+    }
+    
+    @Test
+    void assertAddUnsupportedKey() {
+        RuntimeFilter actual = new RuntimeFilter(10);
+        actual.add(new Timestamp(0L));
+        actual.complete();
+        assertFalse(actual.isAvailable());
+        assertTrue(actual.mightContain(new Timestamp(1L)));
+    }
+    
+    @Test
+    void assertIsAvailableWithoutComplete() {
+        RuntimeFilter actual = new RuntimeFilter(10);
+        actual.add(1);
+        assertFalse(actual.isAvailable());
+    }
+    
+    @Test
+    void assertIsEmpty() {
+        RuntimeFilter actual = new RuntimeFilter(10);
+        actual.complete();
+        assertTrue(actual.isAvailable());
+        assertTrue(actual.isEmpty());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.prefetch;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScanPrefetchEngineTest {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = ScanPrefetchExecutorServiceFactory.create();
+    
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR_SERVICE.shutdownNow();
+    }
+    
+    @Test
+    void assertPrefetch() {
+        List<Object> rows = IntStream.range(0, 2500).boxed().collect(Collectors.toList());
+        try (ScanPrefetchEngine prefetchEngine = new ScanPrefetchEngine(EXECUTOR_SERVICE, 1)) {
+            Optional<Enumerable<Object>> actual = prefetchEngine.prefetch(() -> Linq4j.enumerator(rows), mock(Runnable.class));
+            assertTrue(actual.isPresent());
+            List<Object> actualRows = new ArrayList<>(rows.size());
+            try (Enumerator<Object> enumerator = actual.get().enumerator()) {
+                while (enumerator.moveNext()) {
+                    actualRows.add(enumerator.current());
+                }
+            }
+            assertThat(actualRows, is(rows));
+        }
+    }
+    
+    @Test
+    void assertPrefetchBeyondMaxPrefetchSize() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        try (ScanPrefetchEngine prefetchEngine = new ScanPrefetchEngine(EXECUTOR_SERVICE, 1)) {
+            assertTrue(prefetchEngine.prefetch(() -> {
+                latch.await();
+                return Linq4j.emptyEnumerator();
+            }, mock(Runnable.class)).isPresent());
+            assertFalse(prefetchEngine.prefetch(Linq4j::emptyEnumerator, mock(Runnable.class)).isPresent());
+            latch.countDown();
+        }
+    }
+    
+    @Test
+    void assertPrefetchWithFailure() {
+        try (ScanPrefetchEngine prefetchEngine = new ScanPrefetchEngine(EXECUTOR_SERVICE, 1)) {
+            Optional<Enumerable<Object>> actual = prefetchEngine.prefetch(() -> {
+                throw new SQLException("scan failed");
+            }, mock(Runnable.class));
+            assertTrue(actual.isPresent());
+            Enumerator<Object> enumerator = actual.get().enumerator();
+            assertThrows(SQLWrapperException.class, enumerator::moveNext);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCloseWithoutEnumerating() {
+        Enumerator<Object> scanEnumerator = mock(Enumerator.class);
+        when(scanEnumerator.moveNext()).thenReturn(true);
+        ScanPrefetchEngine prefetchEngine = new ScanPrefetchEngine(EXECUTOR_SERVICE, 1);
+        assertTrue(prefetchEngine.prefetch(() -> scanEnumerator, mock(Runnable.class)).isPresent());
+        prefetchEngine.close();
+        verify(scanEnumerator, timeout(1000L)).close();
+    }
+    
+    @Test
+    void assertPrefetchWithRejectedExecution() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        doThrow(RejectedExecutionException.class).when(executorService).execute(any());
+        try (ScanPrefetchEngine prefetchEngine = new ScanPrefetchEngine(executorService, 1)) {
+            assertFalse(prefetchEngine.prefetch(Linq4j::emptyEnumerator, mock(Runnable.class)).isPresent());
+            assertFalse(prefetchEngine.prefetch(Linq4j::emptyEnumerator, mock(Runnable.class)).isPresent());
+        }
+        verify(executorService, times(2)).execute(any());
+    }
+    
+    @Test
+    void assertCloseWithBlockedScan() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Runnable cancelCallback = mock(Runnable.class);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(cancelCallback).run();
+        ScanPrefetchEngine prefetchEngine = new ScanPrefetchEngine(EXECUTOR_SERVICE, 1);
+        assertTrue(prefetchEngine.prefetch(() -> {
+            latch.await();
+            return Linq4j.emptyEnumerator();
+        }, cancelCallback).isPresent());
+        prefetchEngine.close();
+        verify(cancelCallback).run();
+        assertThat(latch.getCount(), is(0L));
+    }
+}
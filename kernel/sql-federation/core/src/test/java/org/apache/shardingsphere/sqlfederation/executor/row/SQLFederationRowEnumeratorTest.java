@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.row;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.sqlfederation.executor.filter.RuntimeFilter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLFederationRowEnumeratorTest {
+    
+    @Test
+    void assertMoveNext() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("foo", "bar");
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        SQLFederationRowEnumerator actual = new SQLFederationRowEnumerator(mergedResult, metaData, Collections.emptyList());
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{1, "foo"}));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{2, "bar"}));
+        assertFalse(actual.moveNext());
+        verify(metaData, times(1)).getColumnCount();
+    }
+    
+    @Test
+    void assertMoveNextWithSingleColumn() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        SQLFederationRowEnumerator actual = new SQLFederationRowEnumerator(mergedResult, metaData, Collections.emptyList());
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is((Object) null));
+        assertFalse(actual.moveNext());
+    }
+    
+    @Test
+    void assertMoveNextWithRuntimeFilter() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo", "bar");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(1, 2);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        RuntimeFilter runtimeFilter = new RuntimeFilter(1);
+        runtimeFilter.add(2);
+        runtimeFilter.complete();
+        SQLFederationRowEnumerator actual = new SQLFederationRowEnumerator(mergedResult, metaData, Collections.emptyList(), runtimeFilter, 1, null);
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{"foo", 2}));
+        assertFalse(actual.moveNext());
+    }
+    
+    @Test
+    void assertMoveNextWithColumnTypes() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(new BigDecimal("2.5000"));
+        when(mergedResult.getValue(3, Object.class)).thenReturn(new BigDecimal("2"));
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        SQLFederationRowEnumerator actual = new SQLFederationRowEnumerator(mergedResult, metaData, Collections.emptyList(), null, -1, new Class<?>[]{String.class, Integer.class});
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{"foo", 2}));
+        assertFalse(actual.moveNext());
+        verify(metaData, never()).getColumnCount();
+    }
+    
+    @Test
+    void assertClose() throws SQLException {
+        Statement statement = mock(Statement.class);
+        new SQLFederationRowEnumerator(mock(MergedResult.class), mock(QueryResultMetaData.class), Collections.singleton(statement)).close();
+        verify(statement).close();
+    }
+}
@@ -40,6 +40,8 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final boolean sqlLiteralNormalizeEnabled;
+    
     private final String engineType;
     
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
@@ -47,6 +49,7 @@ public final class SQLParserRule implements GlobalRule {
         sqlCommentParseEnabled = ruleConfig.isSqlCommentParseEnabled();
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        sqlLiteralNormalizeEnabled = ruleConfig.isSqlLiteralNormalizeEnabled();
         engineType = "Standard";
     }
     
@@ -58,7 +61,7 @@ public final class SQLParserRule implements GlobalRule {
      */
     public SQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
         return "Standard".equals(engineType)
-                ? new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled)
+                ? new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, sqlCommentParseEnabled, sqlLiteralNormalizeEnabled)
                 : new SimpleSQLParserEngine();
     }
 }
@@ -49,6 +49,7 @@ public final class NewYamlSQLParserRuleConfigurationSwapper implements NewYamlGl
         result.setSqlCommentParseEnabled(data.isSqlCommentParseEnabled());
         result.setParseTreeCache(cacheOptionSwapper.swapToYamlConfiguration(data.getParseTreeCache()));
         result.setSqlStatementCache(cacheOptionSwapper.swapToYamlConfiguration(data.getSqlStatementCache()));
+        result.setSqlLiteralNormalizeEnabled(data.isSqlLiteralNormalizeEnabled());
         return result;
     }
     
@@ -71,7 +72,7 @@ public final class NewYamlSQLParserRuleConfigurationSwapper implements NewYamlGl
         CacheOption sqlStatementCacheOption = null == yamlConfig.getSqlStatementCache()
                 ? DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION
                 : cacheOptionSwapper.swapToObject(yamlConfig.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(yamlConfig.isSqlCommentParseEnabled(), parseTreeCacheOption, sqlStatementCacheOption);
+        return new SQLParserRuleConfiguration(yamlConfig.isSqlCommentParseEnabled(), parseTreeCacheOption, sqlStatementCacheOption, yamlConfig.isSqlLiteralNormalizeEnabled());
     }
     
     @Override
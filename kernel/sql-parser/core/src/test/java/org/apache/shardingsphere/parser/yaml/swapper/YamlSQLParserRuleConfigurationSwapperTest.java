@@ -32,8 +32,9 @@ class YamlSQLParserRuleConfigurationSwapperTest {
     @Test
     void assertSwapToYamlConfiguration() {
         YamlSQLParserRuleConfiguration actual =
-                new YamlSQLParserRuleConfigurationSwapper().swapToYamlConfiguration(new SQLParserRuleConfiguration(true, new CacheOption(2, 5), new CacheOption(4, 7)));
+                new YamlSQLParserRuleConfigurationSwapper().swapToYamlConfiguration(new SQLParserRuleConfiguration(true, new CacheOption(2, 5), new CacheOption(4, 7), true));
         assertTrue(actual.isSqlCommentParseEnabled());
+        assertTrue(actual.isSqlLiteralNormalizeEnabled());
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(5L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(4));
@@ -61,7 +62,9 @@ class YamlSQLParserRuleConfigurationSwapperTest {
         yamlConfig.setSqlStatementCache(new YamlSQLParserCacheOptionRuleConfiguration());
         yamlConfig.getSqlStatementCache().setInitialCapacity(4);
         yamlConfig.getSqlStatementCache().setMaximumSize(7L);
+        yamlConfig.setSqlLiteralNormalizeEnabled(true);
         SQLParserRuleConfiguration actual = new YamlSQLParserRuleConfigurationSwapper().swapToObject(yamlConfig);
+        assertTrue(actual.isSqlLiteralNormalizeEnabled());
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(5L));
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(4));
@@ -38,12 +38,12 @@ public final class ShowSQLParserRuleExecutor implements MetaDataRequiredQueryabl
         SQLParserRuleConfiguration ruleConfig = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getConfiguration();
         return Collections.singleton(new LocalDataQueryResultRow(String.valueOf(ruleConfig.isSqlCommentParseEnabled()),
                 null != ruleConfig.getParseTreeCache() ? ruleConfig.getParseTreeCache().toString() : "",
-                null != ruleConfig.getSqlStatementCache() ? ruleConfig.getSqlStatementCache().toString() : ""));
+                null != ruleConfig.getSqlStatementCache() ? ruleConfig.getSqlStatementCache().toString() : "", String.valueOf(ruleConfig.isSqlLiteralNormalizeEnabled())));
     }
     
     @Override
     public Collection<String> getColumnNames() {
-        return Arrays.asList("sql_comment_parse_enabled", "parse_tree_cache", "sql_statement_cache");
+        return Arrays.asList("sql_comment_parse_enabled", "parse_tree_cache", "sql_statement_cache", "sql_literal_normalize_enabled");
     }
     
     @Override
@@ -41,7 +41,8 @@ public final class AlterSQLParserRuleStatementUpdater implements GlobalRuleRALUp
         CacheOption sqlStatementCache = null == sqlStatement.getSqlStatementCache()
                 ? currentRuleConfig.getSqlStatementCache()
                 : createCacheOption(currentRuleConfig.getSqlStatementCache(), sqlStatement.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache);
+        boolean sqlLiteralNormalizeEnabled = null == sqlStatement.getSqlLiteralNormalizeEnabled() ? currentRuleConfig.isSqlLiteralNormalizeEnabled() : sqlStatement.getSqlLiteralNormalizeEnabled();
+        return new SQLParserRuleConfiguration(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache, sqlLiteralNormalizeEnabled);
     }
     
     private CacheOption createCacheOption(final CacheOption cacheOption, final CacheOptionSegment segment) {
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.distsql.parser.segment.CacheOptionSegment;
 import org.apache.shardingsphere.parser.distsql.parser.statement.updatable.AlterSQLParserRuleStatement;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -32,13 +33,22 @@ class AlterSQLParserRuleStatementUpdaterTest {
     @Test
     void assertExecute() {
         AlterSQLParserRuleStatementUpdater updater = new AlterSQLParserRuleStatementUpdater();
-        AlterSQLParserRuleStatement sqlStatement = new AlterSQLParserRuleStatement(true, new CacheOptionSegment(64, 512L), new CacheOptionSegment(1000, 1000L));
+        AlterSQLParserRuleStatement sqlStatement = new AlterSQLParserRuleStatement(true, new CacheOptionSegment(64, 512L), new CacheOptionSegment(1000, 1000L), true);
         SQLParserRuleConfiguration actual = updater.buildAlteredRuleConfiguration(getSQLParserRuleConfiguration(), sqlStatement);
         assertTrue(actual.isSqlCommentParseEnabled());
         assertThat(actual.getSqlStatementCache().getInitialCapacity(), is(1000));
         assertThat(actual.getSqlStatementCache().getMaximumSize(), is(1000L));
         assertThat(actual.getParseTreeCache().getInitialCapacity(), is(64));
         assertThat(actual.getParseTreeCache().getMaximumSize(), is(512L));
+        assertTrue(actual.isSqlLiteralNormalizeEnabled());
+    }
+    
+    @Test
+    void assertExecuteWithoutSQLLiteralNormalizeEnabled() {
+        AlterSQLParserRuleStatementUpdater updater = new AlterSQLParserRuleStatementUpdater();
+        AlterSQLParserRuleStatement sqlStatement = new AlterSQLParserRuleStatement(null, null, null, null);
+        SQLParserRuleConfiguration currentRuleConfig = new SQLParserRuleConfiguration(false, new CacheOption(128, 1024L), new CacheOption(2000, 65535L), true);
+        assertTrue(updater.buildAlteredRuleConfiguration(currentRuleConfig, sqlStatement).isSqlLiteralNormalizeEnabled());
     }
     
     private SQLParserRuleConfiguration getSQLParserRuleConfiguration() {
@@ -51,6 +51,10 @@ SQL_STATEMENT_CACHE
     : S Q L UL_ S T A T E M E N T UL_ C A C H E
     ;
 
+SQL_LITERAL_NORMALIZE_ENABLED
+    : S Q L UL_ L I T E R A L UL_ N O R M A L I Z E UL_ E N A B L E D
+    ;
+
 INITIAL_CAPACITY
     : I N I T I A L UL_ C A P A C I T Y
     ;
@@ -28,7 +28,7 @@ alterSQLParserRule
     ;
 
 sqlParserRuleDefinition
-    : LP_ commentDefinition? (COMMA_? parseTreeCacheDefinition)? (COMMA_? sqlStatementCacheDefinition)? RP_
+    : LP_ commentDefinition? (COMMA_? parseTreeCacheDefinition)? (COMMA_? sqlStatementCacheDefinition)? (COMMA_? literalNormalizeDefinition)? RP_
     ;
 
 commentDefinition
@@ -43,10 +43,18 @@ sqlStatementCacheDefinition
     : SQL_STATEMENT_CACHE LP_ cacheOption RP_
     ;
 
+literalNormalizeDefinition
+    : SQL_LITERAL_NORMALIZE_ENABLED EQ_ sqlLiteralNormalizeEnabled
+    ;
+
 sqlCommentParseEnabled
     : TRUE | FALSE
     ;
 
+sqlLiteralNormalizeEnabled
+    : TRUE | FALSE
+    ;
+
 cacheOption
     : (INITIAL_CAPACITY EQ_ initialCapacity)? (COMMA_? MAXIMUM_SIZE EQ_ maximumSize)?
     ;
@@ -50,7 +50,8 @@ public final class SQLParserDistSQLStatementVisitor extends SQLParserDistSQLStat
         Boolean sqlCommentParseEnabled = null == ctx.commentDefinition() ? null : Boolean.parseBoolean(getIdentifierValue(ctx.commentDefinition().sqlCommentParseEnabled()));
         CacheOptionSegment parseTreeCache = null == ctx.parseTreeCacheDefinition() ? null : visitCacheOption(ctx.parseTreeCacheDefinition().cacheOption());
         CacheOptionSegment sqlStatementCache = null == ctx.sqlStatementCacheDefinition() ? null : visitCacheOption(ctx.sqlStatementCacheDefinition().cacheOption());
-        return new AlterSQLParserRuleStatement(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache);
+        Boolean sqlLiteralNormalizeEnabled = null == ctx.literalNormalizeDefinition() ? null : Boolean.parseBoolean(getIdentifierValue(ctx.literalNormalizeDefinition().sqlLiteralNormalizeEnabled()));
+        return new AlterSQLParserRuleStatement(sqlCommentParseEnabled, parseTreeCache, sqlStatementCache, sqlLiteralNormalizeEnabled);
     }
     
     @Override
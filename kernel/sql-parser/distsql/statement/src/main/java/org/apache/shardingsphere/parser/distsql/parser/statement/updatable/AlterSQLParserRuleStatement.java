@@ -34,4 +34,6 @@ public final class AlterSQLParserRuleStatement extends UpdatableGlobalRuleRALSta
     private final CacheOptionSegment parseTreeCache;
     
     private final CacheOptionSegment sqlStatementCache;
+    
+    private final Boolean sqlLiteralNormalizeEnabled;
 }
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.sql.parser.api;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.cache.LiteralNormalizedParseTreeCache;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 
@@ -33,9 +35,16 @@ public final class SQLParserEngine {
     
     private final LoadingCache<String, ParseASTNode> parseTreeCache;
     
+    private final LiteralNormalizedParseTreeCache literalNormalizedParseTreeCache;
+    
     public SQLParserEngine(final DatabaseType databaseType, final CacheOption cacheOption) {
+        this(databaseType, cacheOption, false);
+    }
+    
+    public SQLParserEngine(final DatabaseType databaseType, final CacheOption cacheOption, final boolean isNormalizeLiteral) {
         sqlParserExecutor = new SQLParserExecutor(databaseType);
         parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType);
+        literalNormalizedParseTreeCache = isNormalizeLiteral ? new LiteralNormalizedParseTreeCache(databaseType, cacheOption) : null;
     }
     
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption) {
@@ -52,4 +61,35 @@ public final class SQLParserEngine {
     public ParseASTNode parse(final String sql, final boolean useCache) {
         return useCache ? parseTreeCache.get(sql) : sqlParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse SQL with literal normalized parse tree cache.
+     *
+     * <p>SQLs only differ in literals share one cached parse tree, which suits non-prepared SQLs with varying literals.
+     * SQL is parsed without cache if literal normalizing is disabled.</p>
+     *
+     * @param sql SQL to be parsed
+     * @return parse AST node
+     */
+    public ParseASTNode parseWithLiteralNormalizedCache(final String sql) {
+        return null == literalNormalizedParseTreeCache ? sqlParserExecutor.parse(sql) : literalNormalizedParseTreeCache.parse(sql);
+    }
+    
+    /**
+     * Get parse tree cache statistics.
+     *
+     * @return parse tree cache statistics
+     */
+    public CacheStats getParseTreeCacheStats() {
+        return parseTreeCache.stats();
+    }
+    
+    /**
+     * Get literal normalized parse tree cache statistics.
+     *
+     * @return literal normalized parse tree cache statistics
+     */
+    public CacheStats getLiteralNormalizedParseTreeCacheStats() {
+        return null == literalNormalizedParseTreeCache ? CacheStats.empty() : literalNormalizedParseTreeCache.getStats();
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.spi.SQLDialectParserFacade;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Literal normalized parse tree cache.
+ *
+ * <p>SQL is lexed once and its literals are replaced by placeholders, SQLs only differ in literals share one cached parse tree template.</p>
+ */
+public final class LiteralNormalizedParseTreeCache {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "NUMBER_", "INTEGER_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "NCHAR_TEXT", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final String PLACEHOLDER = "?";
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final BitSet literalTokenTypes;
+    
+    private final Cache<LiteralNormalizedSQL, ParseTreeTemplate> cache;
+    
+    public LiteralNormalizedParseTreeCache(final DatabaseType databaseType, final CacheOption option) {
+        lexerClass = DatabaseTypedSPILoader.getService(SQLDialectParserFacade.class, databaseType).getLexerClass();
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        literalTokenTypes = getLiteralTokenTypes(((Lexer) SQLParserFactory.createTokenStream("", lexerClass).getTokenSource()).getVocabulary());
+        cache = Caffeine.newBuilder().softValues().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).recordStats().build();
+    }
+    
+    private BitSet getLiteralTokenTypes(final Vocabulary vocabulary) {
+        BitSet result = new BitSet();
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            if (LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @param sql SQL to be parsed
+     * @return parse AST node
+     */
+    public ParseASTNode parse(final String sql) {
+        CommonTokenStream tokenStream = SQLParserFactory.createTokenStream(sql, lexerClass);
+        tokenStream.fill();
+        List<Token> defaultChannelTokens = new ArrayList<>(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                defaultChannelTokens.add(each);
+            }
+        }
+        LiteralNormalizedSQL normalizedSQL = normalize(defaultChannelTokens);
+        ParseTreeTemplate template = cache.getIfPresent(normalizedSQL);
+        if (null != template) {
+            return template.bind(tokenStream, defaultChannelTokens);
+        }
+        ParseASTNode result = sqlParserExecutor.parse(sql, tokenStream);
+        cache.put(normalizedSQL, new ParseTreeTemplate(result, tokenStream));
+        return result;
+    }
+    
+    private LiteralNormalizedSQL normalize(final List<Token> defaultChannelTokens) {
+        StringBuilder text = new StringBuilder(defaultChannelTokens.size() << 3);
+        int[] tokenTypes = new int[defaultChannelTokens.size()];
+        int index = 0;
+        for (Token each : defaultChannelTokens) {
+            if (Token.EOF != each.getType()) {
+                text.append(literalTokenTypes.get(each.getType()) ? PLACEHOLDER : each.getText()).append(' ');
+            }
+            tokenTypes[index++] = each.getType();
+        }
+        return new LiteralNormalizedSQL(text.toString().trim(), tokenTypes);
+    }
+    
+    /**
+     * Get cache statistics.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
@@ -39,6 +39,6 @@ public final class ParseTreeCacheBuilder {
      * @return built parse tree cache
      */
     public static LoadingCache<String, ParseASTNode> build(final CacheOption option, final DatabaseType databaseType) {
-        return Caffeine.newBuilder().softValues().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).build(new ParseTreeCacheLoader(databaseType));
+        return Caffeine.newBuilder().softValues().initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).recordStats().build(new ParseTreeCacheLoader(databaseType));
     }
 }
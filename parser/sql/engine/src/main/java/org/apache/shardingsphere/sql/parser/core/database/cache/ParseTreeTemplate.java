@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.cache;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse tree template.
+ *
+ * <p>ANTLR parser decides parse tree only by types of default channel tokens, so SQLs with the same literal normalized SQL have the same parse tree structure.
+ * Copying the template parse tree with tokens of another SQL is equivalent to parsing that SQL.</p>
+ */
+final class ParseTreeTemplate {
+    
+    private static final Map<Class<?>, ContextFactory> CONTEXT_FACTORIES = new ConcurrentHashMap<>();
+    
+    private final ParseTree parseTree;
+    
+    private final int[] defaultChannelTokenOrdinals;
+    
+    ParseTreeTemplate(final ParseASTNode parseASTNode, final CommonTokenStream tokenStream) {
+        parseTree = parseASTNode.getRootNode().getParent();
+        defaultChannelTokenOrdinals = new int[tokenStream.size()];
+        int ordinal = 0;
+        for (Token each : tokenStream.getTokens()) {
+            defaultChannelTokenOrdinals[each.getTokenIndex()] = Token.DEFAULT_CHANNEL == each.getChannel() ? ordinal++ : -1;
+        }
+    }
+    
+    /**
+     * Bind tokens of SQL to a copy of template parse tree.
+     *
+     * @param tokenStream token stream of SQL
+     * @param defaultChannelTokens default channel tokens of SQL
+     * @return parse AST node of SQL
+     */
+    ParseASTNode bind(final CommonTokenStream tokenStream, final List<Token> defaultChannelTokens) {
+        Map<ParseTree, ParseTree> copiedNodes = new IdentityHashMap<>();
+        ParseTree result = copy(parseTree, null, defaultChannelTokens, copiedNodes);
+        for (Entry<ParseTree, ParseTree> entry : copiedNodes.entrySet()) {
+            if (entry.getKey() instanceof ParserRuleContext) {
+                copyLabels((ParserRuleContext) entry.getKey(), (ParserRuleContext) entry.getValue(), defaultChannelTokens, copiedNodes);
+            }
+        }
+        return new ParseASTNode(result, tokenStream);
+    }
+    
+    private ParseTree copy(final ParseTree node, final ParserRuleContext parent, final List<Token> tokens, final Map<ParseTree, ParseTree> copiedNodes) {
+        ParseTree result = node instanceof TerminalNode ? copyTerminalNode((TerminalNode) node, parent, tokens) : copyContext((ParserRuleContext) node, parent, tokens, copiedNodes);
+        copiedNodes.put(node, result);
+        return result;
+    }
+    
+    private TerminalNode copyTerminalNode(final TerminalNode node, final ParserRuleContext parent, final List<Token> tokens) {
+        Token token = bindToken(node.getSymbol(), tokens);
+        TerminalNodeImpl result = node instanceof ErrorNode ? new ErrorNodeImpl(token) : new TerminalNodeImpl(token);
+        result.setParent(parent);
+        return result;
+    }
+    
+    private ParserRuleContext copyContext(final ParserRuleContext context, final ParserRuleContext parent, final List<Token> tokens, final Map<ParseTree, ParseTree> copiedNodes) {
+        ParserRuleContext result = getContextFactory(context.getClass()).newInstance(parent, context.invokingState);
+        result.start = bindToken(context.start, tokens);
+        result.stop = bindToken(context.stop, tokens);
+        result.exception = context.exception;
+        if (null != context.children) {
+            result.children = new ArrayList<>(context.children.size());
+            for (ParseTree each : context.children) {
+                result.children.add(copy(each, result, tokens, copiedNodes));
+            }
+        }
+        return result;
+    }
+    
+    @SneakyThrows(IllegalAccessException.class)
+    private void copyLabels(final ParserRuleContext source, final ParserRuleContext target, final List<Token> tokens, final Map<ParseTree, ParseTree> copiedNodes) {
+        for (Field each : getContextFactory(source.getClass()).getLabelFields()) {
+            each.set(target, bindLabel(each.get(source), tokens, copiedNodes));
+        }
+    }
+    
+    private Object bindLabel(final Object label, final List<Token> tokens, final Map<ParseTree, ParseTree> copiedNodes) {
+        if (label instanceof Token) {
+            return bindToken((Token) label, tokens);
+        }
+        if (label instanceof ParseTree) {
+            return copiedNodes.get(label);
+        }
+        if (label instanceof List) {
+            List<Object> result = new ArrayList<>(((List<?>) label).size());
+            for (Object each : (List<?>) label) {
+                result.add(bindLabel(each, tokens, copiedNodes));
+            }
+            return result;
+        }
+        return label;
+    }
+    
+    private Token bindToken(final Token token, final List<Token> tokens) {
+        if (null == token || token.getTokenIndex() < 0 || token.getTokenIndex() >= defaultChannelTokenOrdinals.length || defaultChannelTokenOrdinals[token.getTokenIndex()] < 0) {
+            return token;
+        }
+        return tokens.get(defaultChannelTokenOrdinals[token.getTokenIndex()]);
+    }
+    
+    private static ContextFactory getContextFactory(final Class<?> contextClass) {
+        ContextFactory result = CONTEXT_FACTORIES.get(contextClass);
+        if (null == result) {
+            result = CONTEXT_FACTORIES.computeIfAbsent(contextClass, ContextFactory::new);
+        }
+        return result;
+    }
+    
+    private static final class ContextFactory {
+        
+        private final Constructor<?> constructor;
+        
+        private final Constructor<?> ruleContextConstructor;
+        
+        @Getter
+        private final Collection<Field> labelFields = new LinkedList<>();
+        
+        @SneakyThrows(NoSuchMethodException.class)
+        ContextFactory(final Class<?> contextClass) {
+            Constructor<?> parentConstructor = findParentConstructor(contextClass);
+            if (null == parentConstructor) {
+                // labeled alternative context can only be created from context of its rule
+                constructor = findLabeledAlternativeConstructor(contextClass);
+                ruleContextConstructor = constructor.getParameterTypes()[0].getConstructor(ParserRuleContext.class, int.class);
+            } else {
+                constructor = parentConstructor;
+                ruleContextConstructor = null;
+            }
+            for (Class<?> each = contextClass; ParserRuleContext.class != each; each = each.getSuperclass()) {
+                for (Field field : each.getDeclaredFields()) {
+                    if (Modifier.isPublic(field.getModifiers()) && !Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                        labelFields.add(field);
+                    }
+                }
+            }
+        }
+        
+        private Constructor<?> findParentConstructor(final Class<?> contextClass) {
+            try {
+                return contextClass.getConstructor(ParserRuleContext.class, int.class);
+            } catch (final NoSuchMethodException ignored) {
+                return null;
+            }
+        }
+        
+        private Constructor<?> findLabeledAlternativeConstructor(final Class<?> contextClass) throws NoSuchMethodException {
+            for (Constructor<?> each : contextClass.getConstructors()) {
+                if (1 == each.getParameterCount() && ParserRuleContext.class.isAssignableFrom(each.getParameterTypes()[0])) {
+                    return each;
+                }
+            }
+            throw new NoSuchMethodException(String.format("Can not find constructor of `%s`.", contextClass.getName()));
+        }
+        
+        @SneakyThrows(ReflectiveOperationException.class)
+        ParserRuleContext newInstance(final ParserRuleContext parent, final int invokingState) {
+            return null == ruleContextConstructor
+                    ? (ParserRuleContext) constructor.newInstance(parent, invokingState)
+                    : (ParserRuleContext) constructor.newInstance(ruleContextConstructor.newInstance(parent, invokingState));
+        }
+    }
+}
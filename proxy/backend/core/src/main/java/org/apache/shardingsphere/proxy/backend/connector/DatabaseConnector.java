@@ -44,6 +44,7 @@ import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
@@ -107,11 +108,18 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private final ProxyDatabaseConnectionManager databaseConnectionManager;
     
+    private final PreparedRewritePlan preparedRewritePlan;
+    
     private List<QueryHeader> queryHeaders;
     
     private MergedResult mergedResult;
     
     public DatabaseConnector(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
+        this(driverType, database, queryContext, databaseConnectionManager, null);
+    }
+    
+    public DatabaseConnector(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager,
+                             final PreparedRewritePlan preparedRewritePlan) {
         SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
         failedIfBackendNotReady(databaseConnectionManager.getConnectionSession(), sqlStatementContext);
         this.driverType = driverType;
@@ -119,6 +127,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         this.queryContext = queryContext;
         this.selectContainsEnhancedTable = sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsEnhancedTable();
         this.databaseConnectionManager = databaseConnectionManager;
+        this.preparedRewritePlan = preparedRewritePlan;
         if (sqlStatementContext instanceof CursorAvailable) {
             prepareCursorStatementContext((CursorAvailable) sqlStatementContext, databaseConnectionManager.getConnectionSession());
         }
@@ -172,7 +181,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     private Collection<ExecutionContext> generateExecutionContexts() {
         Collection<ExecutionContext> result = new LinkedList<>();
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
-        ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, database, metaDataContexts.getMetaData().getGlobalRuleMetaData(),
+        ExecutionContext executionContext = new KernelProcessor(preparedRewritePlan).generateExecutionContext(queryContext, database, metaDataContexts.getMetaData().getGlobalRuleMetaData(),
                 metaDataContexts.getMetaData().getProps(), databaseConnectionManager.getConnectionSession().getConnectionContext());
         result.add(executionContext);
         // TODO support logical SQL optimize to generate multiple logical SQL
@@ -392,6 +401,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -403,6 +413,17 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
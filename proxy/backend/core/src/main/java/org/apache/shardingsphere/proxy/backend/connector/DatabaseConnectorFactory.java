@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 /**
@@ -50,9 +51,23 @@ public final class DatabaseConnectorFactory {
      * @return created instance
      */
     public DatabaseConnector newInstance(final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager, final boolean preferPreparedStatement) {
+        return newInstance(queryContext, databaseConnectionManager, preferPreparedStatement, null);
+    }
+    
+    /**
+     * Create new instance of {@link DatabaseConnector} for server prepared statement.
+     *
+     * @param queryContext query context
+     * @param databaseConnectionManager database connection manager
+     * @param preferPreparedStatement use prepared statement as possible
+     * @param preparedRewritePlan prepared rewrite plan of server prepared statement, null if not prepared
+     * @return created instance
+     */
+    public DatabaseConnector newInstance(final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager, final boolean preferPreparedStatement,
+                                         final PreparedRewritePlan preparedRewritePlan) {
         ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(databaseConnectionManager.getConnectionSession().getDatabaseName());
         String driverType = preferPreparedStatement || !queryContext.getParameters().isEmpty() ? JDBCDriverType.PREPARED_STATEMENT : JDBCDriverType.STATEMENT;
-        DatabaseConnector result = new DatabaseConnector(driverType, database, queryContext, databaseConnectionManager);
+        DatabaseConnector result = new DatabaseConnector(driverType, database, queryContext, databaseConnectionManager, preparedRewritePlan);
         databaseConnectionManager.add(result);
         return result;
     }
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * Each connection still owns one logical thread if backed by virtual thread, which is not bound to any carrier thread.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -55,13 +58,18 @@ public final class ConnectionThreadExecutorGroup {
      * Register connection.
      *
      * @param connectionId connection id
+     * @param virtualThreadEnabled whether back executor service with virtual thread
      */
-    public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+    public void register(final int connectionId, final boolean virtualThreadEnabled) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, virtualThreadEnabled));
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final boolean virtualThreadEnabled) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        ThreadFactory threadFactory = virtualThreadEnabled && ExecutorThreadFactoryBuilder.isVirtualThreadSupported()
+                ? ExecutorThreadFactoryBuilder.buildVirtual(threadName)
+                : runnable -> new Thread(runnable, threadName);
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), threadFactory);
     }
     
     /**
@@ -23,7 +23,9 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -49,18 +51,21 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     private final ProcessEngine processEngine = new ProcessEngine();
     
+    private final boolean virtualThreadEnabled;
+    
     private volatile boolean authenticated;
     
     public FrontendChannelInboundHandler(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final Channel channel) {
         this.databaseProtocolFrontendEngine = databaseProtocolFrontendEngine;
-        connectionSession = new ConnectionSession(databaseProtocolFrontendEngine.getType(),
-                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(TransactionRule.class).getDefaultType(), channel);
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        connectionSession = new ConnectionSession(databaseProtocolFrontendEngine.getType(), metaData.getGlobalRuleMetaData().getSingleRule(TransactionRule.class).getDefaultType(), channel);
+        virtualThreadEnabled = metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED);
     }
     
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, virtualThreadEnabled);
         connectionSession.setConnectionId(connectionId);
     }
     
@@ -19,6 +19,10 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -27,7 +31,7 @@ class ConnectionThreadExecutorGroupTest {
     @Test
     void assertRegister() {
         int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false);
         assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
@@ -35,8 +39,17 @@ class ConnectionThreadExecutorGroupTest {
     @Test
     void assertUnregister() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, false);
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    void assertRegisterWithVirtualThreadEnabled() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true);
+        String actual = ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get();
+        assertThat(actual, endsWith("Connection-3-ThreadExecutor"));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
 }
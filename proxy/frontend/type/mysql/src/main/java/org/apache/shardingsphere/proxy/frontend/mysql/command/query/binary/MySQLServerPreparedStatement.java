@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementParameterType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
 import java.util.List;
@@ -48,4 +49,6 @@ public final class MySQLServerPreparedStatement implements ServerPreparedStateme
     private final List<MySQLPreparedStatementParameterType> parameterTypes = new CopyOnWriteArrayList<>();
     
     private final Map<Integer, byte[]> longData = new ConcurrentHashMap<>();
+    
+    private final PreparedRewritePlan preparedRewritePlan = new PreparedRewritePlan();
 }
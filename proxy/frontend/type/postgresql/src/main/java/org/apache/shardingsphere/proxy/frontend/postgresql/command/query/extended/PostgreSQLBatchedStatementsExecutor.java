@@ -70,7 +70,7 @@ import java.util.Optional;
  */
 public final class PostgreSQLBatchedStatementsExecutor {
     
-    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    private final KernelProcessor kernelProcessor;
     
     private final JDBCExecutor jdbcExecutor;
     
@@ -87,6 +87,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
     public PostgreSQLBatchedStatementsExecutor(final ConnectionSession connectionSession, final PostgreSQLServerPreparedStatement preparedStatement, final List<List<Object>> parameterSets) {
+        kernelProcessor = new KernelProcessor(preparedStatement.getPreparedRewritePlan());
         jdbcExecutor = new JDBCExecutor(BackendExecutorContext.getInstance().getExecutorEngine(), connectionSession.getConnectionContext());
         this.connectionSession = connectionSession;
         metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
@@ -124,7 +125,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
     }
     
     private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext, final List<Object> params, final HintValueContext hintValueContext) {
-        return new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, hintValueContext);
+        return new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, hintValueContext, true);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext) {
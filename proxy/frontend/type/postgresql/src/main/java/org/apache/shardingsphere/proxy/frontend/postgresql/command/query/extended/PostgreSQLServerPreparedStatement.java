@@ -26,6 +26,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.rewrite.engine.plan.PreparedRewritePlan;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 
 import java.util.ArrayList;
@@ -50,6 +51,8 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
     
     private final List<Integer> actualParameterMarkerIndexes;
     
+    private final PreparedRewritePlan preparedRewritePlan = new PreparedRewritePlan();
+    
     @Getter(AccessLevel.NONE)
     private PostgreSQLPacket rowDescription;
     
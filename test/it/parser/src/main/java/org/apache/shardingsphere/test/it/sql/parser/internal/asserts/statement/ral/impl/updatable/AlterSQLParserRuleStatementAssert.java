@@ -48,6 +48,7 @@ public final class AlterSQLParserRuleStatementAssert {
         ExistingAssert.assertIs(assertContext, actual, expected);
         assertCacheOption(assertContext, actual.getParseTreeCache(), expected.getSqlParserRule().getParseTreeCache());
         assertCacheOption(assertContext, actual.getSqlStatementCache(), expected.getSqlParserRule().getSqlStatementCache());
+        assertThat(assertContext.getText("SQL literal normalize enabled assertion error."), actual.getSqlLiteralNormalizeEnabled(), is(expected.getSqlParserRule().getSqlLiteralNormalizeEnabled()));
     }
     
     private static void assertCacheOption(final SQLCaseAssertContext assertContext, final CacheOptionSegment actual, final ExpectedCacheOption expected) {
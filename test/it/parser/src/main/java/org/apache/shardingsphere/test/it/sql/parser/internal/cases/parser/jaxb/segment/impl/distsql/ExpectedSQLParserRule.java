@@ -39,4 +39,7 @@ public final class ExpectedSQLParserRule extends AbstractExpectedIdentifierSQLSe
     
     @XmlElement(name = "sql-statement-cache")
     private ExpectedCacheOption sqlStatementCache;
+    
+    @XmlAttribute(name = "sql-literal-normalize-enabled")
+    private Boolean sqlLiteralNormalizeEnabled;
 }
@@ -57,6 +57,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -122,12 +123,14 @@ class PipelineDataSourceSinkTest {
         DataRecord updateRecord = getDataRecord("UPDATE");
         when(connection.prepareStatement(any())).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyLong(), any())).thenReturn(mockRecords(updateRecord));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
         importer.run();
         verify(preparedStatement).setObject(1, 20);
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -135,6 +138,7 @@ class PipelineDataSourceSinkTest {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
         when(connection.prepareStatement(any())).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyLong(), any())).thenReturn(mockRecords(updateRecord));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
         importer.run();
         InOrder inOrder = inOrder(preparedStatement);
         inOrder.verify(preparedStatement).setObject(1, 2);
@@ -142,7 +146,23 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 0);
-        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    void assertReusePreparedStatementForSameKeyRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+        List<Record> records = new LinkedList<>();
+        records.add(getDataRecord("INSERT"));
+        records.add(getDataRecord("DELETE"));
+        records.add(getDataRecord("INSERT"));
+        records.add(new FinishedRecord(new FinishedPosition()));
+        when(channel.fetchRecords(anyInt(), anyLong(), any())).thenReturn(records);
+        importer.run();
+        verify(connection, times(2)).prepareStatement(any());
+        verify(preparedStatement, times(3)).executeUpdate();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
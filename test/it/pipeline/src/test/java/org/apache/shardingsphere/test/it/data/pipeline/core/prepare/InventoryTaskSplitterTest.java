@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumn
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.RangePrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.common.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.preparer.InventoryTaskSplitter;
@@ -41,11 +42,13 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InventoryTaskSplitterTest {
@@ -132,6 +135,31 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    @Test
+    void assertSplitInventoryDataWithTimestampPrimary() throws SQLException {
+        initTimestampPrimaryEnvironment(dumperConfig);
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_time", Types.TIMESTAMP, "timestamp", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        RangePrimaryKeyPosition firstPosition = (RangePrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertNull(firstPosition.getBeginValue());
+        assertThat(firstPosition.getEndValue(), is("2023-01-11 00:00:00.0"));
+        RangePrimaryKeyPosition lastPosition = (RangePrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("2023-04-01 00:00:00.0"));
+        assertNull(lastPosition.getEndValue());
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithMultipleColumnsKeyByFirstColumn() throws SQLException {
+        initTimestampPrimaryEnvironment(dumperConfig);
+        dumperConfig.setUniqueKeyColumns(Arrays.asList(new PipelineColumnMetaData(1, "user_id", Types.VARCHAR, "varchar", false, true, true),
+                new PipelineColumnMetaData(2, "order_time", Types.TIMESTAMP, "timestamp", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(2));
+        assertThat(((RangePrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is("y"));
+        assertThat(((RangePrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getBeginValue(), is("y"));
+    }
+    
     @Test
     void assertSplitInventoryDataWithoutPrimaryAndUniqueIndex() throws SQLException {
         initNoPrimaryEnvironment(dumperConfig);
@@ -177,6 +205,19 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initTimestampPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_time TIMESTAMP PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 0; i < 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_time, user_id) VALUES (DATEADD(DAY, %d, TIMESTAMP '2023-01-01 00:00:00'), '%s')", i, i < 50 ? "x" : "y"));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (